@@ -0,0 +1,152 @@
+package cloud.memome.backend.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// 연산별 응답 시간을 마이크로초 단위 HDR 히스토그램(유효숫자 3자리, 최대 60초)으로 모은다
+class LatencyReport {
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+	private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+	private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+	private volatile Duration measured = Duration.ZERO;
+
+	LatencyReport() {
+		for (Operation operation : Operation.values()) {
+			histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+			errors.put(operation, new AtomicLong());
+		}
+	}
+
+	void record(Operation operation, long elapsedNanos) {
+		histograms.get(operation).recordValue(
+			Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+	}
+
+	void error(Operation operation) {
+		errors.get(operation).incrementAndGet();
+	}
+
+	void measured(Duration measured) {
+		this.measured = measured;
+	}
+
+	void print(PrintStream out) {
+		out.printf("%-8s %9s %7s %10s %9s %9s %9s %9s%n",
+			"op", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+		long total = 0;
+		for (Operation operation : Operation.values()) {
+			Histogram histogram = histograms.get(operation);
+			total += histogram.getTotalCount();
+			out.printf("%-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+				operation.key(), histogram.getTotalCount(), errors.get(operation).get(), throughput(histogram),
+				millis(histogram, 50), millis(histogram, 99), millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+		}
+		out.printf("total    %9d %18.1f req/s over %s%n", total, total / seconds(), measured);
+	}
+
+	// 실행끼리 비교할 수 있도록 요약 값과 함께 히스토그램 원본(압축, base64)을 JSON으로, 분포는 .hgrm으로 남긴다.
+	// 결과는 장비에 따라 달라지므로 측정한 장비 정보도 함께 남긴다
+	Path export(Path directory, LoadTestOptions options) throws IOException {
+		Files.createDirectories(directory);
+		String runId = Instant.now().toString().replace(":", "-");
+		Map<String, Object> operations = new LinkedHashMap<>();
+		for (Operation operation : Operation.values()) {
+			Histogram histogram = histograms.get(operation);
+			Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("count", histogram.getTotalCount());
+			summary.put("errors", errors.get(operation).get());
+			summary.put("throughput", throughput(histogram));
+			summary.put("p50Ms", millis(histogram, 50));
+			summary.put("p99Ms", millis(histogram, 99));
+			summary.put("p999Ms", millis(histogram, 99.9));
+			summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+			summary.put("histogram", encode(histogram));
+			operations.put(operation.key(), summary);
+
+			try (PrintStream hgrm = new PrintStream(
+				Files.newOutputStream(directory.resolve(runId + "-" + operation.key() + ".hgrm")))) {
+				histogram.outputPercentileDistribution(hgrm, 1000.0);
+			}
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("runId", runId);
+		result.put("users", options.users());
+		result.put("duration", measured.toString());
+		result.put("mix", options.mix());
+		result.put("virtualThreads", options.virtualThreads());
+		result.put("providerLatency", options.providerLatency().toString());
+		result.put("machine", machine());
+		result.put("histogramUnit", "microseconds");
+		result.put("operations", operations);
+		Path file = directory.resolve(runId + ".json");
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), result);
+		return file;
+	}
+
+	private static Map<String, Object> machine() {
+		Map<String, Object> machine = new LinkedHashMap<>();
+		machine.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version") + " "
+			+ System.getProperty("os.arch"));
+		machine.put("cpu", cpuModel());
+		machine.put("processors", Runtime.getRuntime().availableProcessors());
+		machine.put("maxHeapBytes", Runtime.getRuntime().maxMemory());
+		machine.put("jvm", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+		return machine;
+	}
+
+	// 리눅스가 아니면 CPU 모델 대신 아키텍처만 남긴다
+	private static String cpuModel() {
+		Path cpuInfo = Path.of("/proc/cpuinfo");
+		if (!Files.isReadable(cpuInfo)) {
+			return System.getProperty("os.arch");
+		}
+		try (Stream<String> lines = Files.lines(cpuInfo)) {
+			return lines.filter(line -> line.startsWith("model name"))
+				.map(line -> line.substring(line.indexOf(':') + 1).trim())
+				.findFirst()
+				.orElse(System.getProperty("os.arch"));
+		} catch (IOException e) {
+			return System.getProperty("os.arch");
+		}
+	}
+
+	private double throughput(Histogram histogram) {
+		return histogram.getTotalCount() / seconds();
+	}
+
+	private double seconds() {
+		return Math.max(measured.toMillis(), 1) / 1000.0;
+	}
+
+	private static double millis(Histogram histogram, double percentile) {
+		return histogram.getValueAtPercentile(percentile) / 1000.0;
+	}
+
+	private static String encode(Histogram histogram) {
+		ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+		int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+		byte[] bytes = new byte[length];
+		buffer.flip();
+		buffer.get(bytes);
+		return Base64.getEncoder().encodeToString(bytes);
+	}
+}
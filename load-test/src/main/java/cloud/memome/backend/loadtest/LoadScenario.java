@@ -0,0 +1,111 @@
+package cloud.memome.backend.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cloud.memome.backend.loadtest.MemomeClient.MemoRef;
+import lombok.extern.slf4j.Slf4j;
+
+// 가상 사용자마다 로그인한 뒤 가중치에 따라 연산을 골라 쉬지 않고 보낸다(closed model).
+// 응답을 기다리는 동안 다음 요청을 보내지 않으므로, 서버가 멈추면 그 구간의 지연이 덜 잡힌다(coordinated omission)
+@Slf4j
+class LoadScenario {
+	private static final String[] WORDS = {
+		"오늘", "회의", "정리", "할 일", "아이디어", "메모", "장보기", "일정", "meeting", "todo", "note", "draft"
+	};
+
+	private final LoadTestOptions options;
+	private final MemomeClient client;
+	private final List<Operation> weighted = new ArrayList<>();
+	private final AtomicLong firstFailureLogged = new AtomicLong();
+
+	LoadScenario(LoadTestOptions options, MemomeClient client) {
+		this.options = options;
+		this.client = client;
+		for (Map.Entry<Operation, Integer> weight : options.mix().entrySet()) {
+			for (int i = 0; i < weight.getValue(); i++) {
+				weighted.add(weight.getKey());
+			}
+		}
+	}
+
+	LatencyReport run() throws InterruptedException {
+		LatencyReport report = new LatencyReport();
+		long startedAt = System.nanoTime();
+		long measureFrom = startedAt + options.warmup().toNanos();
+		long endAt = measureFrom + options.duration().toNanos();
+		try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int user = 0; user < options.users(); user++) {
+				int userId = user;
+				users.submit(() -> runUser(userId, report, measureFrom, endAt));
+			}
+		}
+		report.measured(Duration.ofNanos(System.nanoTime() - measureFrom));
+		return report;
+	}
+
+	private void runUser(int userId, LatencyReport report, long measureFrom, long endAt) {
+		Random random = new Random(options.seed() + userId);
+		String subject = "load-user-" + userId;
+		Deque<MemoRef> memos = new ArrayDeque<>();
+		String token = null;
+		while (System.nanoTime() < endAt) {
+			Operation operation = token == null ? Operation.LOGIN : pick(random, memos);
+			long start = System.nanoTime();
+			try {
+				switch (operation) {
+					case LOGIN -> token = client.login(subject);
+					case CREATE -> memos.addLast(client.create(token, title(random), body(random)));
+					case LIST -> client.list(token);
+					case GET -> client.get(token, memos.peekLast());
+					case UPDATE -> memos.addLast(client.update(token, memos.pollFirst(), title(random), body(random)));
+					case DELETE -> client.delete(token, memos.pollFirst());
+				}
+				if (start >= measureFrom) {
+					report.record(operation, System.nanoTime() - start);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				if (start >= measureFrom) {
+					report.error(operation);
+				}
+				if (firstFailureLogged.getAndIncrement() < 10) {
+					log.warn("{} failed for {}", operation, subject, e);
+				}
+			}
+		}
+	}
+
+	private Operation pick(Random random, Deque<MemoRef> memos) {
+		Operation operation = weighted.get(random.nextInt(weighted.size()));
+		if (memos.isEmpty() && (operation == Operation.GET || operation == Operation.UPDATE
+			|| operation == Operation.DELETE)) {
+			return Operation.CREATE;
+		}
+		return operation;
+	}
+
+	private static String title(Random random) {
+		return WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(1000);
+	}
+
+	// 실제 메모처럼 수백 자에서 수천 자 사이
+	private static String body(Random random) {
+		int words = 30 + random.nextInt(400);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < words; i++) {
+			builder.append(WORDS[random.nextInt(WORDS.length)]).append(i % 12 == 11 ? '\n' : ' ');
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,74 @@
+package cloud.memome.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import cloud.memome.backend.MemomeBackendApplication;
+import lombok.extern.slf4j.Slf4j;
+
+// 인메모리 H2와 로컬 OIDC 제공자로 애플리케이션을 같은 JVM에 띄우고 HTTP로 부하를 건다. 네트워크 없이 동작한다
+@Slf4j
+public class LoadTestApplication {
+	private static final String CLIENT_ID = "memome-load-test";
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+		Path workDirectory = Files.createTempDirectory("memome-load-test");
+		try (StubOidcProvider provider = new StubOidcProvider(CLIENT_ID, options.providerLatency());
+			 ConfigurableApplicationContext application = new SpringApplicationBuilder(MemomeBackendApplication.class)
+				 .run(applicationArgs(provider, options, workDirectory))) {
+			int port = application.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			HttpClient httpClient = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+			MemomeClient client = new MemomeClient(httpClient, URI.create("http://127.0.0.1:" + port));
+
+			log.info("Running {} users for {} after {} warm-up, mix {}", options.users(), options.duration(),
+				options.warmup(), options.mix());
+			LatencyReport report = new LoadScenario(options, client).run();
+			report.print(System.out);
+			Path result = report.export(options.out(), options);
+			System.out.println("results: " + result.toAbsolutePath());
+		}
+	}
+
+	private static String[] applicationArgs(StubOidcProvider provider, LoadTestOptions options, Path workDirectory) {
+		byte[] tokenKey = new byte[32];
+		new SecureRandom().nextBytes(tokenKey);
+		List<String> args = new ArrayList<>(List.of(
+			"--server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:memome-load;DB_CLOSE_DELAY=-1",
+			"--spring.jpa.properties.hibernate.show_sql=false",
+			"--spring.jpa.properties.hibernate.format_sql=false",
+			"--spring.threads.virtual.enabled=" + options.virtualThreads(),
+			"--logging.level.root=WARN",
+			"--logging.level.cloud.memome.backend.loadtest=INFO",
+			"--memome.auth.token.keys.k1=" + Base64.getEncoder().encodeToString(tokenKey),
+			"--memome.search.index-path=" + workDirectory.resolve("search-index.bin")));
+		for (String registration : List.of("google", "kakao")) {
+			String client = "--spring.security.oauth2.client.registration." + registration;
+			String provided = "--spring.security.oauth2.client.provider." + registration;
+			args.add(client + ".client-id=" + CLIENT_ID);
+			args.add(client + ".client-secret=load-test-secret");
+			args.add(provided + ".jwk-set-uri=" + provider.uri("/jwks"));
+			args.add(provided + ".user-info-uri=" + provider.uri("/userinfo"));
+			args.add(provided + ".token-uri=" + provider.uri("/token"));
+			args.add(provided + ".authorization-uri=" + provider.uri("/authorize"));
+		}
+		return args.toArray(String[]::new);
+	}
+}
@@ -0,0 +1,61 @@
+package cloud.memome.backend.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// --users=50 --duration=PT1M --warmup=PT10S --mix=login:2,create:15,list:40,get:15,update:20,delete:8
+//   --virtual-threads=false --provider-latency=PT0S --out=results --seed=42
+// provider-latency만큼 OIDC 제공자의 토큰 응답을 늦춰서, 로그인 요청이 외부 호출에 묶여 있는 상황을 흉내 낸다
+record LoadTestOptions(
+	int users,
+	Duration duration,
+	Duration warmup,
+	Map<Operation, Integer> mix,
+	boolean virtualThreads,
+	Duration providerLatency,
+	Path out,
+	long seed
+) {
+	private static final String DEFAULT_MIX = "login:2,create:15,list:40,get:15,update:20,delete:8";
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new LinkedHashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("--name=value 형식이어야 합니다: " + arg);
+			}
+			values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+		}
+		LoadTestOptions options = new LoadTestOptions(
+			Integer.parseInt(values.getOrDefault("users", "50")),
+			Duration.parse(values.getOrDefault("duration", "PT1M")),
+			Duration.parse(values.getOrDefault("warmup", "PT10S")),
+			parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+			Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+			Duration.parse(values.getOrDefault("provider-latency", "PT0S")),
+			Path.of(values.getOrDefault("out", "results")),
+			Long.parseLong(values.getOrDefault("seed", "42")));
+		if (options.users() < 1) {
+			throw new IllegalArgumentException("users는 1 이상이어야 합니다: " + options.users());
+		}
+		if (options.providerLatency().isNegative()) {
+			throw new IllegalArgumentException("provider-latency는 음수일 수 없습니다: " + options.providerLatency());
+		}
+		return options;
+	}
+
+	private static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+		for (String entry : mix.split(",")) {
+			String[] parts = entry.split(":");
+			weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+		}
+		if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+			throw new IllegalArgumentException("mix 가중치의 합은 0보다 커야 합니다: " + mix);
+		}
+		return weights;
+	}
+}
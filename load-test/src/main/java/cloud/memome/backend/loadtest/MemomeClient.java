@@ -0,0 +1,115 @@
+package cloud.memome.backend.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 브라우저처럼 리다이렉트를 직접 따라가며 로그인하고, 이후에는 발급된 회원 토큰을 Bearer로 보낸다
+class MemomeClient {
+	private static final String TOKEN_COOKIE = "MEMOME_TOKEN";
+
+	private final HttpClient httpClient;
+	private final URI baseUri;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	MemomeClient(HttpClient httpClient, URI baseUri) {
+		this.httpClient = httpClient;
+		this.baseUri = baseUri;
+	}
+
+	String login(String subject) throws IOException, InterruptedException {
+		HttpResponse<Void> start = send(HttpRequest.newBuilder(baseUri.resolve("/oauth2/authorization/google")), 302);
+		String cookies = cookiesOf(start);
+		String authorizeUri = start.headers().firstValue("Location").orElseThrow() + "&sub=" + subject;
+		HttpResponse<Void> authorized = send(HttpRequest.newBuilder(URI.create(authorizeUri)), 302);
+		URI callback = URI.create(authorized.headers().firstValue("Location").orElseThrow());
+		HttpResponse<Void> loggedIn = send(HttpRequest.newBuilder(callback).header("Cookie", cookies), 302);
+		return cookieValues(loggedIn).get(TOKEN_COOKIE);
+	}
+
+	MemoRef create(String token, String title, String body) throws IOException, InterruptedException {
+		HttpResponse<String> response = sendJson(authorized(token, "/memos")
+			.POST(json(Map.of("title", title, "body", body))), 201);
+		JsonNode memo = objectMapper.readTree(response.body());
+		return new MemoRef(memo.get("id").asLong(), response.headers().firstValue("ETag").orElseThrow());
+	}
+
+	void list(String token) throws IOException, InterruptedException {
+		sendJson(authorized(token, "/memos?limit=20").GET(), 200);
+	}
+
+	void get(String token, MemoRef memo) throws IOException, InterruptedException {
+		sendJson(authorized(token, "/memos/" + memo.id()).GET(), 200);
+	}
+
+	MemoRef update(String token, MemoRef memo, String title, String body) throws IOException, InterruptedException {
+		HttpResponse<String> response = sendJson(authorized(token, "/memos/" + memo.id())
+			.header("If-Match", memo.eTag())
+			.PUT(json(Map.of("title", title, "body", body))), 200);
+		return new MemoRef(memo.id(), response.headers().firstValue("ETag").orElseThrow());
+	}
+
+	void delete(String token, MemoRef memo) throws IOException, InterruptedException {
+		sendJson(authorized(token, "/memos/" + memo.id())
+			.header("If-Match", memo.eTag())
+			.DELETE(), 204);
+	}
+
+	private HttpRequest.Builder authorized(String token, String path) {
+		return HttpRequest.newBuilder(baseUri.resolve(path))
+			.header("Authorization", "Bearer " + token)
+			.header("Content-Type", "application/json");
+	}
+
+	private HttpRequest.BodyPublisher json(Map<String, Object> body) throws IOException {
+		return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+	}
+
+	private HttpResponse<Void> send(HttpRequest.Builder request, int expectedStatus)
+		throws IOException, InterruptedException {
+		HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+		expect(response, expectedStatus);
+		return response;
+	}
+
+	private HttpResponse<String> sendJson(HttpRequest.Builder request, int expectedStatus)
+		throws IOException, InterruptedException {
+		HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+		expect(response, expectedStatus);
+		return response;
+	}
+
+	private static void expect(HttpResponse<?> response, int expectedStatus) throws IOException {
+		if (response.statusCode() != expectedStatus) {
+			throw new IOException(response.request().method() + " " + response.uri().getPath() + " returned "
+				+ response.statusCode() + ", expected " + expectedStatus);
+		}
+	}
+
+	// Secure 쿠키도 평문 HTTP로 보내야 하므로 CookieManager 대신 직접 옮긴다
+	private static String cookiesOf(HttpResponse<?> response) {
+		return cookieValues(response).entrySet().stream()
+			.map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+			.collect(Collectors.joining("; "));
+	}
+
+	private static Map<String, String> cookieValues(HttpResponse<?> response) {
+		List<String> setCookies = response.headers().allValues("Set-Cookie");
+		return setCookies.stream()
+			.map(setCookie -> setCookie.split(";", 2)[0])
+			.filter(pair -> pair.indexOf('=') > 0)
+			.collect(Collectors.toMap(pair -> pair.substring(0, pair.indexOf('=')),
+				pair -> pair.substring(pair.indexOf('=') + 1), (first, second) -> second));
+	}
+
+	record MemoRef(long id, String eTag) {
+	}
+}
@@ -0,0 +1,14 @@
+package cloud.memome.backend.loadtest;
+
+enum Operation {
+	LOGIN,
+	CREATE,
+	LIST,
+	GET,
+	UPDATE,
+	DELETE;
+
+	String key() {
+		return name().toLowerCase();
+	}
+}
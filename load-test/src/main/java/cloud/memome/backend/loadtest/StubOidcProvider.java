@@ -0,0 +1,176 @@
+package cloud.memome.backend.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+// 오프라인 부하 테스트용 OIDC 제공자. 구글 issuer로 서명한 ID 토큰을 발급한다.
+// 인가 엔드포인트는 사용자 확인 없이 바로 code와 함께 redirect_uri로 돌려보내며, sub 파라미터로 로그인할 사용자를 고른다.
+// 토큰 엔드포인트는 latency만큼 늦게 응답한다(외부 제공자 호출 흉내)
+class StubOidcProvider implements AutoCloseable {
+	static final String ISSUER = "https://accounts.google.com";
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final RSAKey signingKey;
+	private final String clientId;
+	private final Duration latency;
+	private final Map<String, PendingCode> codes = new ConcurrentHashMap<>();
+
+	StubOidcProvider(String clientId, Duration latency) throws IOException, JOSEException {
+		this.clientId = clientId;
+		this.latency = latency;
+		this.signingKey = new RSAKeyGenerator(2048)
+			.keyID("load-test")
+			.keyUse(KeyUse.SIGNATURE)
+			.generate();
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+		server.createContext("/authorize", this::authorize);
+		server.createContext("/token", this::token);
+		server.createContext("/jwks", this::jwks);
+		server.createContext("/userinfo", this::userinfo);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	URI uri(String path) {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+	}
+
+	private void authorize(HttpExchange exchange) throws IOException {
+		Map<String, String> query = parse(exchange.getRequestURI().getRawQuery());
+		String code = UUID.randomUUID().toString();
+		codes.put(code, new PendingCode(query.getOrDefault("sub", UUID.randomUUID().toString()), query.get("nonce")));
+		String location = query.get("redirect_uri") + "?code=" + code + "&state=" + encode(query.get("state"));
+		exchange.getResponseHeaders().add("Location", location);
+		exchange.sendResponseHeaders(302, -1);
+		exchange.close();
+	}
+
+	private void token(HttpExchange exchange) throws IOException {
+		delay();
+		Map<String, String> form = parse(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+		PendingCode pending = codes.remove(form.get("code"));
+		if (pending == null) {
+			respond(exchange, 400, Map.of("error", "invalid_grant"));
+			return;
+		}
+		Instant now = Instant.now();
+		JWTClaimsSet claims = new JWTClaimsSet.Builder()
+			.issuer(ISSUER)
+			.subject(pending.subject())
+			.audience(clientId)
+			.issueTime(Date.from(now))
+			.expirationTime(Date.from(now.plusSeconds(600)))
+			.claim("nonce", pending.nonce())
+			.claim("name", "user-" + pending.subject())
+			.claim("email", pending.subject() + "@load.test")
+			.build();
+		try {
+			SignedJWT idToken = new SignedJWT(
+				new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+			idToken.sign(new RSASSASigner(signingKey));
+			Map<String, Object> body = new HashMap<>();
+			body.put("access_token", UUID.randomUUID().toString());
+			body.put("token_type", "Bearer");
+			body.put("expires_in", 600);
+			body.put("scope", "openid profile email");
+			body.put("id_token", idToken.serialize());
+			respond(exchange, 200, body);
+		} catch (JOSEException e) {
+			respond(exchange, 500, Map.of("error", "server_error"));
+		}
+	}
+
+	private void jwks(HttpExchange exchange) throws IOException {
+		byte[] body = new JWKSet(List.of(signingKey.toPublicJWK())).toString(true).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.getResponseHeaders().add("Cache-Control", "max-age=3600");
+		exchange.sendResponseHeaders(200, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	// ID 토큰에 필요한 클레임이 모두 있으면 애플리케이션은 호출하지 않는다
+	private void userinfo(HttpExchange exchange) throws IOException {
+		respond(exchange, 401, Map.of("error", "invalid_token"));
+	}
+
+	private void delay() throws IOException {
+		if (latency.isZero()) {
+			return;
+		}
+		try {
+			Thread.sleep(latency);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while delaying the token response", e);
+		}
+	}
+
+	private void respond(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static Map<String, String> parse(String encoded) {
+		Map<String, String> params = new HashMap<>();
+		if (encoded == null || encoded.isEmpty()) {
+			return params;
+		}
+		for (String pair : encoded.split("&")) {
+			int separator = pair.indexOf('=');
+			String name = separator < 0 ? pair : pair.substring(0, separator);
+			String value = separator < 0 ? "" : pair.substring(separator + 1);
+			params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+		return params;
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.close();
+	}
+
+	private record PendingCode(String subject, String nonce) {
+	}
+}
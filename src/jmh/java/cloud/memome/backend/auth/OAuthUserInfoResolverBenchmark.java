@@ -0,0 +1,58 @@
+package cloud.memome.backend.auth;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 로그인마다 ID 토큰 클레임을 OAuthUserInfo로 바꾸는 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OAuthUserInfoResolverBenchmark {
+	private Map<String, Object> googleClaims;
+	private Map<String, Object> kakaoClaims;
+
+	@Setup
+	public void setUp() throws MalformedURLException {
+		googleClaims = Map.of(
+			"iss", URI.create("https://accounts.google.com").toURL(),
+			"sub", "109876543210987654321",
+			"name", "홍길동",
+			"email", "gildong@gmail.com");
+		kakaoClaims = Map.of(
+			"iss", URI.create("https://kauth.kakao.com").toURL(),
+			"sub", "1234567890",
+			"nickname", "길동",
+			"email", "gildong@kakao.com");
+	}
+
+	@Benchmark
+	public OAuthUserInfo resolveGoogle() {
+		return OAuthUserInfoResolver.resolve(googleClaims);
+	}
+
+	@Benchmark
+	public OAuthUserInfo resolveKakao() {
+		return OAuthUserInfoResolver.resolve(kakaoClaims);
+	}
+
+	@Benchmark
+	public boolean hasRequiredClaims() {
+		return OAuthUserInfoResolver.hasRequiredClaims(kakaoClaims);
+	}
+}
@@ -0,0 +1,54 @@
+package cloud.memome.backend.member;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// MemberIdentityCache 키로 매 요청 해시/비교된다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OAuthIdentityBenchmark {
+	private OAuthIdentity identity;
+	private OAuthIdentity same;
+	private OAuthIdentity other;
+
+	@Setup
+	public void setUp() {
+		identity = new OAuthIdentity(ProviderType.GOOGLE, "109876543210987654321");
+		same = new OAuthIdentity(ProviderType.GOOGLE, new String("109876543210987654321"));
+		other = new OAuthIdentity(ProviderType.KAKAO, "109876543210987654321");
+	}
+
+	@Benchmark
+	public int hashCodeOf() {
+		return identity.hashCode();
+	}
+
+	@Benchmark
+	public boolean equalsSame() {
+		return identity.equals(same);
+	}
+
+	@Benchmark
+	public boolean equalsOther() {
+		return identity.equals(other);
+	}
+
+	@Benchmark
+	public OAuthIdentity create() {
+		return new OAuthIdentity(ProviderType.KAKAO, "1234567890");
+	}
+}
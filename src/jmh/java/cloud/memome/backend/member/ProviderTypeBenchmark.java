@@ -0,0 +1,35 @@
+package cloud.memome.backend.member;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProviderTypeBenchmark {
+	// 상수 접기를 막기 위해 필드로 둔다
+	private String googleIssuer = "https://accounts.google.com";
+	private String kakaoIssuer = "https://kauth.kakao.com";
+
+	@Benchmark
+	public ProviderType valueOfIssuerFirst() {
+		return ProviderType.valueOfIssuer(googleIssuer);
+	}
+
+	@Benchmark
+	public ProviderType valueOfIssuerLast() {
+		return ProviderType.valueOfIssuer(kakaoIssuer);
+	}
+}
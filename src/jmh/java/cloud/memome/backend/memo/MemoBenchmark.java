@@ -0,0 +1,86 @@
+package cloud.memome.backend.memo;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+
+// 생성/수정은 검증, 본문 해시(SHA-256), 미리보기 계산을 포함한다. 본문 크기에 따라 해시 비용이 달라진다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoBenchmark {
+	private static final Long AUTHOR_ID = 1L;
+
+	@Param({"200", "4000"})
+	private int bodyLength;
+
+	private Member author;
+	private String title;
+	private String body;
+	private String updatedBody;
+	private Memo memo;
+	private boolean flip;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "a@b.c");
+		Field id = Member.class.getDeclaredField("id");
+		id.setAccessible(true);
+		id.set(author, AUTHOR_ID);
+		title = "회의록";
+		body = "오늘 회의 내용 정리 ".repeat(bodyLength / 12 + 1).substring(0, bodyLength);
+		updatedBody = body.substring(1) + "!";
+		memo = Memo.create(title, body, author);
+	}
+
+	@Benchmark
+	public Memo create() {
+		return Memo.create(title, body, author);
+	}
+
+	// 매번 본문이 바뀌도록 두 본문을 번갈아 쓴다(해시 비교 후 새 본문 해시)
+	@Benchmark
+	public Memo update() {
+		flip = !flip;
+		memo.update(title, flip ? updatedBody : body, AUTHOR_ID);
+		return memo;
+	}
+
+	// 본문이 그대로인 수정(해시 비교만)
+	@Benchmark
+	public Memo updateTitleOnly() {
+		memo.update(title, memo.getBody(), AUTHOR_ID);
+		return memo;
+	}
+
+	@Benchmark
+	public MemoDto toMemoDto() {
+		return MemoDto.from(memo);
+	}
+
+	@Benchmark
+	public MemoSummaryDto toSummaryDto() {
+		return new MemoSummaryDto(memo.getId(), memo.getTitle(), memo.getPreview(), memo.getCreatedAt(),
+			memo.getUpdatedAt());
+	}
+}
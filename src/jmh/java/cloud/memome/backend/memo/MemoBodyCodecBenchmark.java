@@ -0,0 +1,63 @@
+package cloud.memome.backend.memo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 결과의 us/op를 sizeKb로 나누면 KB당 압축/해제 비용이 된다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemoBodyCodecBenchmark {
+	private static final String[] WORDS = {
+		"메모", "오늘", "회의", "정리", "할 일", "memo", "todo", "meeting", "note", "idea", "\n", "- "
+	};
+
+	@Param({"1", "16", "256"})
+	private int sizeKb;
+
+	private MemoBodyCodec codec;
+	private String content;
+	private String stored;
+
+	@Setup
+	public void setUp() {
+		codec = MemoBodyCodec.withDefaults();
+		// 실제 메모처럼 어휘가 반복되는 텍스트
+		Random random = new Random(42);
+		StringBuilder builder = new StringBuilder();
+		int bytes = 0;
+		while (bytes < sizeKb * 1024) {
+			String word = WORDS[random.nextInt(WORDS.length)] + " ";
+			builder.append(word);
+			bytes += word.getBytes(StandardCharsets.UTF_8).length;
+		}
+		content = builder.toString();
+		stored = codec.encode(content);
+	}
+
+	@Benchmark
+	public String compress() {
+		return codec.encode(content);
+	}
+
+	@Benchmark
+	public String decompress() {
+		return codec.decode(stored);
+	}
+}
@@ -0,0 +1,31 @@
+package cloud.memome.backend.auth;
+
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import lombok.RequiredArgsConstructor;
+
+// 서명, kid, 만료는 위임한 디코더가 로컬에서 검증한다. 그것만으로는 탈퇴한 회원의 토큰이 ttl 동안 계속 통과하므로,
+// outbox로 모든 노드에 퍼지는 탈퇴 회원 목록(메모리)과도 대조한다. 요청 경로에서 DB를 보지 않는다
+@RequiredArgsConstructor
+public class ActiveMemberJwtDecoder implements JwtDecoder {
+	private final JwtDecoder delegate;
+	private final RevokedMembers revokedMembers;
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		Jwt jwt = delegate.decode(token);
+		Long memberId;
+		try {
+			memberId = Long.valueOf(jwt.getSubject());
+		} catch (NumberFormatException e) {
+			throw new BadJwtException("token subject is not a member id", e);
+		}
+		if (revokedMembers.isRevoked(memberId)) {
+			throw new BadJwtException("member(" + memberId + ") has been removed");
+		}
+		return jwt;
+	}
+}
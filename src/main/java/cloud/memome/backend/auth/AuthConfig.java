@@ -1,13 +1,27 @@
 package cloud.memome.backend.auth;
 
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.client.oidc.userinfo.OidcUserService;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
 import org.springframework.security.web.SecurityFilterChain;
 
 import cloud.memome.backend.member.MemberService;
+import cloud.memome.backend.member.ProviderType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -15,13 +29,35 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AuthConfig {
 	private final MemberService memberService;
+	private final RevokedMembers revokedMembers;
+	private final AuthTokenProperties authTokenProperties;
+	private final AuthTokenService authTokenService;
 
+	// 세션을 만들지 않는다. 로그인 성공 시 회원 id를 담은 서명 토큰을 쿠키로 내려주고,
+	// 이후 요청은 토큰(쿠키 또는 Authorization 헤더)을 로컬에서 검증해 인증한다
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
 		return httpSecurity
+			.sessionManagement(session -> session
+				.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+			// 토큰 쿠키는 SameSite=Lax라 교차 사이트의 변경 요청에는 실리지 않는다
+			.csrf(AbstractHttpConfigurer::disable)
+			.authorizeHttpRequests(authorize -> authorize
+				.requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
+				.anyRequest().authenticated())
 			.oauth2Login(oauth2 -> oauth2
+				.authorizationEndpoint(authorization -> authorization
+					.authorizationRequestRepository(new CookieOAuth2AuthorizationRequestRepository(authTokenProperties)))
 				.userInfoEndpoint(userinfo -> userinfo
-					.oidcUserService(oidcUserService())))
+					.oidcUserService(oidcUserService()))
+				.authorizedClientRepository(new DiscardingOAuth2AuthorizedClientRepository())
+				.successHandler(new AuthTokenSuccessHandler(authTokenService)))
+			.oauth2ResourceServer(resourceServer -> resourceServer
+				.bearerTokenResolver(new AuthTokenResolver(authTokenService.cookieName()))
+				.jwt(jwt -> jwt
+					.decoder(jwtDecoder())))
+			.logout(logout -> logout
+				.deleteCookies(authTokenService.cookieName()))
 			.build();
 	}
 
@@ -29,4 +65,29 @@ public class AuthConfig {
 	public OidcUserService oidcUserService() {
 		return new MyOidcService(this.memberService);
 	}
+
+	@Bean
+	public JwtDecoder jwtDecoder() {
+		return new ActiveMemberJwtDecoder(authTokenService.jwtDecoder(), revokedMembers);
+	}
+
+	@Bean
+	public ProviderJwkCache providerJwkCache(ClientRegistrationRepository clientRegistrationRepository,
+		ProviderJwkProperties providerJwkProperties) {
+		Map<ProviderType, URI> jwkSetUris = new EnumMap<>(ProviderType.class);
+		for (ProviderType providerType : ProviderType.values()) {
+			ClientRegistration clientRegistration = clientRegistrationRepository.findByRegistrationId(
+				ProviderIdTokenDecoderFactory.registrationIdOf(providerType));
+			if (clientRegistration != null) {
+				jwkSetUris.put(providerType, URI.create(clientRegistration.getProviderDetails().getJwkSetUri()));
+			}
+		}
+		return new ProviderJwkCache(jwkSetUris, providerJwkProperties);
+	}
+
+	// oauth2Login이 ID 토큰 검증에 이 빈을 사용한다
+	@Bean
+	public JwtDecoderFactory<ClientRegistration> idTokenDecoderFactory(ProviderJwkCache providerJwkCache) {
+		return new ProviderIdTokenDecoderFactory(providerJwkCache);
+	}
 }
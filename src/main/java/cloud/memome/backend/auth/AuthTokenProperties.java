@@ -0,0 +1,48 @@
+package cloud.memome.backend.auth;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.auth.token")
+public record AuthTokenProperties(
+	@DefaultValue("memome") String issuer,
+	@DefaultValue("12h") Duration ttl,
+	@DefaultValue("MEMOME_TOKEN") String cookieName,
+	String activeKeyId,
+	Map<String, String> keys
+) {
+	private static final int MIN_KEY_BYTES = 32;
+
+	public AuthTokenProperties {
+		keys = keys == null ? Map.of() : Map.copyOf(keys);
+	}
+
+	public SecretKey secretKey(String keyId) {
+		String secret = keys.get(keyId);
+		if (secret == null) {
+			throw new IllegalArgumentException("알 수 없는 서명 키입니다: " + keyId);
+		}
+		return new SecretKeySpec(decode(keyId, secret), "HmacSHA256");
+	}
+
+	private static byte[] decode(String keyId, String secret) {
+		byte[] key;
+		try {
+			key = Base64.getDecoder().decode(secret);
+		} catch (IllegalArgumentException e) {
+			// 환경 변수를 빠뜨리면 치환되지 않은 ${...}가 그대로 들어온다
+			throw new IllegalArgumentException("서명 키 " + keyId + "가 설정되지 않았거나 base64가 아닙니다", e);
+		}
+		if (key.length < MIN_KEY_BYTES) {
+			throw new IllegalArgumentException("서명 키는 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다");
+		}
+		return key;
+	}
+}
@@ -0,0 +1,34 @@
+package cloud.memome.backend.auth;
+
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AuthTokenResolver implements BearerTokenResolver {
+	private final BearerTokenResolver headerResolver = new DefaultBearerTokenResolver();
+	private final String cookieName;
+
+	@Override
+	public String resolve(HttpServletRequest request) {
+		String token = headerResolver.resolve(request);
+		if (token != null) {
+			return token;
+		}
+		// 만료된 쿠키가 남아 있어도 다시 로그인할 수 있도록 로그인 경로에서는 쿠키를 보지 않는다
+		if (isLoginRequest(request)) {
+			return null;
+		}
+		Cookie cookie = WebUtils.getCookie(request, cookieName);
+		return cookie == null || cookie.getValue().isEmpty() ? null : cookie.getValue();
+	}
+
+	private static boolean isLoginRequest(HttpServletRequest request) {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		return path.startsWith("/oauth2/") || path.startsWith("/login");
+	}
+}
@@ -0,0 +1,98 @@
+package cloud.memome.backend.auth;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.OctetSequenceKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+@Component
+public class AuthTokenService {
+	private final AuthTokenProperties properties;
+	private final JwtEncoder jwtEncoder;
+	private final JwtDecoder jwtDecoder;
+
+	// 발급은 active 키로만 하고, 검증은 keys의 모든 키로 한다(kid로 선택).
+	// 키 교체 시 새 키를 추가해 active로 바꾸고, 이전 키는 ttl이 지난 뒤 제거한다
+	public AuthTokenService(AuthTokenProperties properties) {
+		if (properties.activeKeyId() == null || !properties.keys().containsKey(properties.activeKeyId())) {
+			throw new IllegalArgumentException("active-key-id에 해당하는 서명 키가 keys에 없습니다");
+		}
+		this.properties = properties;
+
+		List<JWK> keys = properties.keys().keySet().stream()
+			.<JWK>map(keyId -> new OctetSequenceKey.Builder(properties.secretKey(keyId))
+				.keyID(keyId)
+				.algorithm(JWSAlgorithm.HS256)
+				.build())
+			.toList();
+		JWK activeKey = new JWKSet(keys).getKeyByKeyId(properties.activeKeyId());
+		this.jwtEncoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(activeKey)));
+
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(
+			new JWSVerificationKeySelector<>(JWSAlgorithm.HS256, new ImmutableJWKSet<>(new JWKSet(keys))));
+		// 만료/발급자 검증은 아래 JwtValidator에 맡긴다
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+		NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+		nimbusJwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.issuer()));
+		this.jwtDecoder = nimbusJwtDecoder;
+	}
+
+	public String issue(Long memberId) {
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+			.issuer(properties.issuer())
+			.subject(memberId.toString())
+			.issuedAt(now)
+			.expiresAt(now.plus(properties.ttl()))
+			.build();
+		JwsHeader header = JwsHeader.with(MacAlgorithm.HS256)
+			.keyId(properties.activeKeyId())
+			.build();
+		return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+	}
+
+	public JwtDecoder jwtDecoder() {
+		return jwtDecoder;
+	}
+
+	public ResponseCookie createCookie(String token) {
+		return cookie(token).maxAge(properties.ttl()).build();
+	}
+
+	public ResponseCookie expireCookie() {
+		return cookie("").maxAge(0).build();
+	}
+
+	public String cookieName() {
+		return properties.cookieName();
+	}
+
+	private ResponseCookie.ResponseCookieBuilder cookie(String value) {
+		return ResponseCookie.from(properties.cookieName(), value)
+			.httpOnly(true)
+			.secure(true)
+			.sameSite("Lax")
+			.path("/");
+	}
+}
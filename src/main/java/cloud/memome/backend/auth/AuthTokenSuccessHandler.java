@@ -0,0 +1,28 @@
+package cloud.memome.backend.auth;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AuthTokenSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
+	private final AuthTokenService authTokenService;
+
+	@Override
+	public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+		Authentication authentication) throws IOException, ServletException {
+		if (!(authentication.getPrincipal() instanceof MemberOidcUser memberOidcUser)) {
+			throw new IllegalStateException("Unexpected principal: " + authentication.getPrincipal());
+		}
+		String token = authTokenService.issue(memberOidcUser.getMemberId());
+		response.addHeader(HttpHeaders.SET_COOKIE, authTokenService.createCookie(token).toString());
+		super.onAuthenticationSuccess(request, response, authentication);
+	}
+}
@@ -0,0 +1,135 @@
+package cloud.memome.backend.auth;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.web.util.WebUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 세션 없이 로그인 중인 인가 요청(state, nonce 등)을 서명된 쿠키에 보관한다
+public class CookieOAuth2AuthorizationRequestRepository
+	implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+	static final String COOKIE_NAME = "MEMOME_OAUTH2_AUTH_REQUEST";
+	private static final Duration MAX_AGE = Duration.ofMinutes(5);
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final AuthTokenProperties properties;
+	private final ObjectMapper objectMapper;
+
+	public CookieOAuth2AuthorizationRequestRepository(AuthTokenProperties properties) {
+		this.properties = properties;
+		this.objectMapper = new ObjectMapper()
+			.registerModules(SecurityJackson2Modules.getModules(getClass().getClassLoader()));
+	}
+
+	@Override
+	public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+		String state = request.getParameter(OAuth2ParameterNames.STATE);
+		if (state == null) {
+			return null;
+		}
+		OAuth2AuthorizationRequest authorizationRequest = readCookie(request);
+		return authorizationRequest != null && state.equals(authorizationRequest.getState())
+			? authorizationRequest : null;
+	}
+
+	@Override
+	public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest, HttpServletRequest request,
+		HttpServletResponse response) {
+		if (authorizationRequest == null) {
+			writeCookie(response, "", Duration.ZERO);
+			return;
+		}
+		writeCookie(response, encode(authorizationRequest), MAX_AGE);
+	}
+
+	@Override
+	public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+		HttpServletResponse response) {
+		OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+		if (authorizationRequest != null) {
+			writeCookie(response, "", Duration.ZERO);
+		}
+		return authorizationRequest;
+	}
+
+	private OAuth2AuthorizationRequest readCookie(HttpServletRequest request) {
+		Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+		if (cookie == null || cookie.getValue().isEmpty()) {
+			return null;
+		}
+		try {
+			return decode(cookie.getValue());
+		} catch (IllegalArgumentException e) {
+			// 변조되었거나 교체로 사라진 키로 서명된 쿠키는 없는 것으로 본다
+			return null;
+		}
+	}
+
+	// keyId.payload.signature
+	String encode(OAuth2AuthorizationRequest authorizationRequest) {
+		try {
+			String keyId = properties.activeKeyId();
+			String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(authorizationRequest));
+			return keyId + "." + payload + "." + sign(keyId, payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize authorization request", e);
+		}
+	}
+
+	OAuth2AuthorizationRequest decode(String value) {
+		String[] parts = value.split("\\.");
+		if (parts.length != 3) {
+			throw new IllegalArgumentException("잘못된 인가 요청 쿠키입니다");
+		}
+		byte[] expected = sign(parts[0], parts[1]).getBytes(StandardCharsets.US_ASCII);
+		if (!MessageDigest.isEqual(expected, parts[2].getBytes(StandardCharsets.US_ASCII))) {
+			throw new IllegalArgumentException("인가 요청 쿠키의 서명이 올바르지 않습니다");
+		}
+		try {
+			return objectMapper.readValue(DECODER.decode(parts[1]), OAuth2AuthorizationRequest.class);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("잘못된 인가 요청 쿠키입니다", e);
+		}
+	}
+
+	private String sign(String keyId, String payload) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(properties.secretKey(keyId));
+			return ENCODER.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Failed to sign authorization request", e);
+		}
+	}
+
+	private static void writeCookie(HttpServletResponse response, String value, Duration maxAge) {
+		ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+			.httpOnly(true)
+			.secure(true)
+			.sameSite("Lax")
+			.path("/")
+			.maxAge(maxAge)
+			.build();
+		response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+	}
+}
@@ -0,0 +1,27 @@
+package cloud.memome.backend.auth;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.web.OAuth2AuthorizedClientRepository;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 로그인 이후 제공자 API를 호출하지 않으므로 제공자 토큰을 서버 메모리에 보관하지 않는다
+public class DiscardingOAuth2AuthorizedClientRepository implements OAuth2AuthorizedClientRepository {
+	@Override
+	public <T extends OAuth2AuthorizedClient> T loadAuthorizedClient(String clientRegistrationId,
+		Authentication principal, HttpServletRequest request) {
+		return null;
+	}
+
+	@Override
+	public void saveAuthorizedClient(OAuth2AuthorizedClient authorizedClient, Authentication principal,
+		HttpServletRequest request, HttpServletResponse response) {
+	}
+
+	@Override
+	public void removeAuthorizedClient(String clientRegistrationId, Authentication principal,
+		HttpServletRequest request, HttpServletResponse response) {
+	}
+}
@@ -0,0 +1,17 @@
+package cloud.memome.backend.auth;
+
+import org.springframework.security.oauth2.core.oidc.IdTokenClaimNames;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+import lombok.Getter;
+
+@Getter
+public class MemberOidcUser extends DefaultOidcUser {
+	private final Long memberId;
+
+	public MemberOidcUser(Long memberId, OidcUser oidcUser) {
+		super(oidcUser.getAuthorities(), oidcUser.getIdToken(), oidcUser.getUserInfo(), IdTokenClaimNames.SUB);
+		this.memberId = memberId;
+	}
+}
@@ -6,20 +6,24 @@ import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 
 import cloud.memome.backend.member.MemberService;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public class MyOidcService extends OidcUserService {
 	private final MemberService memberService;
 
+	public MyOidcService(MemberService memberService) {
+		this.memberService = memberService;
+		// ID 토큰에 회원 정보에 필요한 클레임이 모두 있으면 userinfo 요청을 생략한다
+		setRetrieveUserInfo(userRequest -> !OAuthUserInfoResolver.hasRequiredClaims(userRequest.getIdToken().getClaims()));
+	}
+
 	@Override
 	public OidcUser loadUser(OidcUserRequest userRequest) throws OAuth2AuthenticationException {
 		OidcUser oidcUser = super.loadUser(userRequest);
 
 		OAuthUserInfo oAuthUserInfo = OAuthUserInfoResolver.resolve(oidcUser.getAttributes());
 
-		memberService.getOrCreateMember(oAuthUserInfo);
+		Long memberId = memberService.getOrCreateMemberId(oAuthUserInfo);
 
-		return oidcUser;
+		return new MemberOidcUser(memberId, oidcUser);
 	}
 }
@@ -21,6 +21,14 @@ public class OAuthUserInfoResolver {
 		return oAuthUserInfo;
 	}
 
+	public static boolean hasRequiredClaims(Map<String, Object> claims) {
+		String nicknameClaim = switch (getProviderType(claims)) {
+			case GOOGLE -> "name";
+			case KAKAO -> "nickname";
+		};
+		return claims.get("sub") != null && claims.get(nicknameClaim) != null && claims.get("email") != null;
+	}
+
 	private static ProviderType getProviderType(Map<String, Object> attributes) {
 		if (!attributes.containsKey("iss")) {
 			throw new NoSuchElementException("iss가 반드시 있어야 합니다");
@@ -0,0 +1,55 @@
+package cloud.memome.backend.auth;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenDecoderFactory;
+import org.springframework.security.oauth2.client.oidc.authentication.OidcIdTokenValidator;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.converter.ClaimTypeConverter;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtDecoderFactory;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import cloud.memome.backend.member.ProviderType;
+import lombok.RequiredArgsConstructor;
+
+// 기본 OidcIdTokenDecoderFactory와 같은 검증을 하되, 서명 키는 ProviderJwkCache에서 가져온다
+@RequiredArgsConstructor
+public class ProviderIdTokenDecoderFactory implements JwtDecoderFactory<ClientRegistration> {
+	private final ProviderJwkCache providerJwkCache;
+	private final Map<String, JwtDecoder> decoders = new ConcurrentHashMap<>();
+
+	public static String registrationIdOf(ProviderType providerType) {
+		return providerType.name().toLowerCase(Locale.ROOT);
+	}
+
+	@Override
+	public JwtDecoder createDecoder(ClientRegistration clientRegistration) {
+		return decoders.computeIfAbsent(clientRegistration.getRegistrationId(), registrationId -> create(clientRegistration));
+	}
+
+	private JwtDecoder create(ClientRegistration clientRegistration) {
+		ProviderType providerType = ProviderType.valueOf(clientRegistration.getRegistrationId().toUpperCase(Locale.ROOT));
+
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(
+			new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, providerJwkCache.jwkSource(providerType)));
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+
+		NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+		jwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+			new JwtTimestampValidator(), new OidcIdTokenValidator(clientRegistration)));
+		jwtDecoder.setClaimSetConverter(
+			new ClaimTypeConverter(OidcIdTokenDecoderFactory.createDefaultClaimTypeConverters()));
+		return jwtDecoder;
+	}
+}
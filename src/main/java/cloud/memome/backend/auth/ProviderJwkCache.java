@@ -0,0 +1,170 @@
+package cloud.memome.backend.auth;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import cloud.memome.backend.member.ProviderType;
+import lombok.extern.slf4j.Slf4j;
+
+// 제공자별 ID 토큰 서명 키(JWK Set)를 메모리에 두고, 만료 전에 백그라운드에서 갱신한다.
+// 로그인 요청은 원격 조회를 기다리지 않으며, 모르는 kid일 때만 한 번 다시 받아 본다
+@Slf4j
+public class ProviderJwkCache {
+	private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+	private final Map<ProviderType, ProviderKeys> providers = new EnumMap<>(ProviderType.class);
+	private final ProviderJwkProperties properties;
+	private final HttpClient httpClient;
+	private final Clock clock;
+
+	public ProviderJwkCache(Map<ProviderType, URI> jwkSetUris, ProviderJwkProperties properties) {
+		this(jwkSetUris, properties, Clock.systemUTC());
+	}
+
+	ProviderJwkCache(Map<ProviderType, URI> jwkSetUris, ProviderJwkProperties properties, Clock clock) {
+		jwkSetUris.forEach((providerType, uri) -> providers.put(providerType, new ProviderKeys(uri)));
+		this.properties = properties;
+		this.httpClient = HttpClient.newBuilder()
+			.connectTimeout(properties.timeout())
+			.build();
+		this.clock = clock;
+	}
+
+	public JWKSource<SecurityContext> jwkSource(ProviderType providerType) {
+		ProviderKeys providerKeys = providers.get(providerType);
+		if (providerKeys == null) {
+			throw new NoSuchElementException("JWK set uri not configured for provider: " + providerType);
+		}
+		return (selector, context) -> providerKeys.select(selector);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		providers.values().forEach(ProviderKeys::refresh);
+	}
+
+	@Scheduled(fixedDelayString = "${memome.auth.jwk.refresh-check-interval:PT1M}")
+	public void refreshExpiring() {
+		Instant threshold = clock.instant().plus(properties.refreshAhead());
+		providers.values().stream()
+			.filter(providerKeys -> providerKeys.expiresBefore(threshold))
+			.forEach(ProviderKeys::refresh);
+	}
+
+	private class ProviderKeys {
+		private final URI uri;
+		private final AtomicReference<CompletableFuture<JWKSet>> inFlight = new AtomicReference<>();
+		private volatile JWKSet jwkSet;
+		private volatile Instant fetchedAt = Instant.MIN;
+		private volatile Instant expiresAt = Instant.MIN;
+
+		private ProviderKeys(URI uri) {
+			this.uri = uri;
+		}
+
+		private List<JWK> select(JWKSelector selector) throws KeySourceException {
+			JWKSet current = jwkSet;
+			if (current == null) {
+				current = await(refresh());
+			}
+			List<JWK> found = selector.select(current);
+			// 제공자가 키를 교체했을 수 있다. 임의의 kid로 조회를 유발하지 못하도록 최소 간격을 둔다
+			if (found.isEmpty() && clock.instant().isAfter(fetchedAt.plus(properties.minRefetchInterval()))) {
+				found = selector.select(await(refresh()));
+			}
+			return found;
+		}
+
+		private boolean expiresBefore(Instant threshold) {
+			return expiresAt.isBefore(threshold);
+		}
+
+		// 동시에 들어온 갱신 요청은 진행 중인 한 번의 조회로 합친다
+		private CompletableFuture<JWKSet> refresh() {
+			CompletableFuture<JWKSet> next = new CompletableFuture<>();
+			CompletableFuture<JWKSet> current = inFlight.compareAndExchange(null, next);
+			if (current != null) {
+				return current;
+			}
+			HttpRequest request = HttpRequest.newBuilder(uri)
+				.timeout(properties.timeout())
+				.header("Accept", "application/json")
+				.GET()
+				.build();
+			httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+				.thenApply(this::update)
+				.whenComplete((updated, e) -> {
+					if (e != null) {
+						log.warn("Failed to fetch JWK set from {}", uri, e);
+						next.completeExceptionally(e);
+					} else {
+						next.complete(updated);
+					}
+					inFlight.compareAndSet(next, null);
+				});
+			return next;
+		}
+
+		private JWKSet update(HttpResponse<String> response) {
+			if (response.statusCode() != 200) {
+				throw new IllegalStateException("Unexpected status " + response.statusCode() + " from " + uri);
+			}
+			try {
+				JWKSet updated = JWKSet.parse(response.body());
+				Instant now = clock.instant();
+				jwkSet = updated;
+				fetchedAt = now;
+				expiresAt = now.plus(maxAge(response).orElse(properties.ttl()));
+				return updated;
+			} catch (ParseException e) {
+				throw new IllegalStateException("Invalid JWK set from " + uri, e);
+			}
+		}
+
+		private JWKSet await(CompletableFuture<JWKSet> future) throws KeySourceException {
+			try {
+				return future.get(properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new KeySourceException("Interrupted while fetching JWK set from " + uri, e);
+			} catch (ExecutionException | TimeoutException e) {
+				throw new KeySourceException("Failed to fetch JWK set from " + uri, e);
+			}
+		}
+	}
+
+	private static Optional<Duration> maxAge(HttpResponse<?> response) {
+		return response.headers().firstValue("Cache-Control")
+			.map(MAX_AGE::matcher)
+			.filter(Matcher::find)
+			.map(matcher -> Duration.ofSeconds(Long.parseLong(matcher.group(1))));
+	}
+}
@@ -0,0 +1,15 @@
+package cloud.memome.backend.auth;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.auth.jwk")
+public record ProviderJwkProperties(
+	@DefaultValue("1h") Duration ttl,
+	@DefaultValue("5m") Duration refreshAhead,
+	@DefaultValue("30s") Duration minRefetchInterval,
+	@DefaultValue("3s") Duration timeout
+) {
+}
@@ -0,0 +1,71 @@
+package cloud.memome.backend.auth;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import cloud.memome.backend.outbox.OutboxAggregateType;
+import cloud.memome.backend.outbox.OutboxEvent;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxProperties;
+import cloud.memome.backend.outbox.OutboxSubscriber;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+// 탈퇴한(또는 탈퇴 중인) 회원의 id를 토큰 ttl 동안 메모리에 들고 있어서, 토큰 검증 때 DB를 보지 않고 거부한다.
+// 모든 노드가 outbox의 MEMBER/REMOVED 이벤트로 채우고, 시작할 때는 ttl 안에 남은 이벤트로 다시 채운다
+@Slf4j
+@Component
+public class RevokedMembers implements OutboxSubscriber {
+	private final OutboxEventRepository outboxEventRepository;
+	private final AuthTokenProperties authTokenProperties;
+	private final Clock clock;
+	// 회원 id는 재사용되지 않고 그 전에 발급된 토큰은 ttl 뒤에 만료되므로, 그때까지만 기억하면 된다
+	private final Cache<Long, Boolean> revoked;
+
+	public RevokedMembers(OutboxEventRepository outboxEventRepository, AuthTokenProperties authTokenProperties,
+		OutboxProperties outboxProperties) {
+		this(outboxEventRepository, authTokenProperties, outboxProperties, Clock.systemDefaultZone());
+	}
+
+	RevokedMembers(OutboxEventRepository outboxEventRepository, AuthTokenProperties authTokenProperties,
+		OutboxProperties outboxProperties, Clock clock) {
+		if (outboxProperties.retention().compareTo(authTokenProperties.ttl()) < 0) {
+			log.warn("Outbox retention {} is shorter than the token ttl {}; a restarted node may accept tokens "
+				+ "of members removed before the retention window", outboxProperties.retention(),
+				authTokenProperties.ttl());
+		}
+		this.outboxEventRepository = outboxEventRepository;
+		this.authTokenProperties = authTokenProperties;
+		this.clock = clock;
+		this.revoked = Caffeine.newBuilder()
+			.expireAfterWrite(authTokenProperties.ttl())
+			.build();
+	}
+
+	public boolean isRevoked(Long memberId) {
+		return revoked.getIfPresent(memberId) != null;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadRecent() {
+		List<Long> memberIds = outboxEventRepository.findAggregateIdsCreatedAfter(OutboxAggregateType.MEMBER,
+			OutboxEventType.REMOVED, LocalDateTime.now(clock).minus(authTokenProperties.ttl()));
+		memberIds.forEach(memberId -> revoked.put(memberId, Boolean.TRUE));
+		log.info("Loaded {} revoked members", memberIds.size());
+	}
+
+	@Override
+	public void onEvents(List<OutboxEvent> events) {
+		events.stream()
+			.filter(event -> event.getAggregateType() == OutboxAggregateType.MEMBER
+				&& event.getEventType() == OutboxEventType.REMOVED)
+			.forEach(event -> revoked.put(event.getAggregateId(), Boolean.TRUE));
+	}
+}
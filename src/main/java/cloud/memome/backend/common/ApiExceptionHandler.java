@@ -0,0 +1,60 @@
+package cloud.memome.backend.common;
+
+import java.util.NoSuchElementException;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import cloud.memome.backend.memo.exception.MemoQuotaExceededException;
+import cloud.memome.backend.memo.exception.MemoSyncTokenExpiredException;
+import cloud.memome.backend.memo.exception.MemoVersionConflictException;
+import cloud.memome.backend.memo.exception.NotMemoOwnerException;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+	@ExceptionHandler(NoSuchElementException.class)
+	public ProblemDetail handleNotFound(NoSuchElementException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+	}
+
+	@ExceptionHandler(NotMemoOwnerException.class)
+	public ProblemDetail handleNotMemoOwner(NotMemoOwnerException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, e.getMessage());
+	}
+
+	@ExceptionHandler(MemoVersionConflictException.class)
+	public ProblemDetail handleMemoVersionConflict(MemoVersionConflictException e) {
+		ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, e.getMessage());
+		// 클라이언트가 최신 버전을 받아 편집을 다시 맞출 수 있도록 현재 버전을 알려준다
+		problemDetail.setProperty("currentVersion", e.getActualVersion());
+		return problemDetail;
+	}
+
+	// If-Match 없이 동시에 수정된 경우
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ProblemDetail handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, "다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도하세요");
+	}
+
+	// 클라이언트는 토큰 없이 처음부터 다시 동기화해야 한다
+	@ExceptionHandler(MemoSyncTokenExpiredException.class)
+	public ProblemDetail handleSyncTokenExpired(MemoSyncTokenExpiredException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.GONE, e.getMessage());
+	}
+
+	@ExceptionHandler(MemoQuotaExceededException.class)
+	public ProblemDetail handleMemoQuotaExceeded(MemoQuotaExceededException e) {
+		ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.FORBIDDEN, e.getMessage());
+		problemDetail.setProperty("maxMemoCount", e.getMaxMemoCount());
+		problemDetail.setProperty("maxBodyBytes", e.getMaxBodyBytes());
+		return problemDetail;
+	}
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ProblemDetail handleBadRequest(IllegalArgumentException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+	}
+}
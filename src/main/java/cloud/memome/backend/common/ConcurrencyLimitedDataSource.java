@@ -0,0 +1,104 @@
+package cloud.memome.backend.common;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 가상 스레드는 요청 수만큼 늘어나므로, 커넥션 풀 크기만큼만 DB에 들어가고 나머지는 공정한 세마포어에서 기다리게 한다.
+// 세마포어 대기는 캐리어 스레드를 붙잡지 않는다
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+	private final Semaphore permits;
+	private final long acquireTimeoutNanos;
+
+	public ConcurrencyLimitedDataSource(DataSource target, int maxConcurrent, Duration acquireTimeout) {
+		super(target);
+		if (maxConcurrent < 1) {
+			throw new IllegalArgumentException("max-concurrent는 1 이상이어야 합니다: " + maxConcurrent);
+		}
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.acquireTimeoutNanos = acquireTimeout.toNanos();
+	}
+
+	public void bindTo(MeterRegistry meterRegistry) {
+		Gauge.builder("memome.datasource.concurrency.waiting", permits, Semaphore::getQueueLength)
+			.description("threads waiting for a database permit")
+			.register(meterRegistry);
+		Gauge.builder("memome.datasource.concurrency.available", permits, Semaphore::availablePermits)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		acquire();
+		try {
+			return releasingOnClose(super.getConnection());
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		acquire();
+		try {
+			return releasingOnClose(super.getConnection(username, password));
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	private void acquire() throws SQLException {
+		try {
+			if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				throw new SQLTransientConnectionException(
+					"Timed out waiting for a database permit after " + Duration.ofNanos(acquireTimeoutNanos));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+		}
+	}
+
+	private Connection releasingOnClose(Connection connection) {
+		AtomicBoolean released = new AtomicBoolean();
+		return (Connection)Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+			(proxy, method, args) -> {
+				switch (method.getName()) {
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					default:
+						break;
+				}
+				if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+					try {
+						connection.close();
+					} finally {
+						permits.release();
+					}
+					return null;
+				}
+				try {
+					return method.invoke(connection, args);
+				} catch (InvocationTargetException e) {
+					throw e.getTargetException();
+				}
+			});
+	}
+}
@@ -0,0 +1,13 @@
+package cloud.memome.backend.common;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.datasource.concurrency")
+public record DataSourceConcurrencyProperties(
+	@DefaultValue("10") int maxConcurrent,
+	@DefaultValue("30s") Duration acquireTimeout
+) {
+}
@@ -0,0 +1,69 @@
+package cloud.memome.backend.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// memome.datasource.replicas가 설정된 경우에만 켜진다. 없으면 스프링 부트 기본 데이터소스 하나를 그대로 쓴다
+@Configuration
+@ConditionalOnProperty("memome.datasource.replicas[0].url")
+public class DataSourceRoutingConfig {
+	private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+	@Bean
+	@ConfigurationProperties(HIKARI_PREFIX)
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+		ReplicaDataSourceProperties properties, Environment environment) {
+		Binder binder = Binder.get(environment);
+		List<DataSource> replicas = new ArrayList<>();
+		for (int i = 0; i < properties.replicas().size(); i++) {
+			replicas.add(replicaDataSource(binder, properties.replicas().get(i), i));
+		}
+		return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties.healthCheckTimeout());
+	}
+
+	@Bean
+	public ReadYourWritesFilter readYourWritesFilter(ReplicaDataSourceProperties properties) {
+		return new ReadYourWritesFilter(properties.readYourWritesWindow());
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	// 풀 크기, 타임아웃 같은 풀 설정은 프라이머리와 같은 spring.datasource.hikari를 따르고 접속 정보만 레플리카 것을 쓴다
+	private static DataSource replicaDataSource(Binder binder, ReplicaDataSourceProperties.Replica replica,
+		int index) {
+		HikariDataSource dataSource = new HikariDataSource();
+		binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+		dataSource.setJdbcUrl(replica.url());
+		dataSource.setUsername(replica.username());
+		dataSource.setPassword(replica.password());
+		dataSource.setPoolName("memome-replica-" + index);
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+}
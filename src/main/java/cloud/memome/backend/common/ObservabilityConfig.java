@@ -0,0 +1,14 @@
+package cloud.memome.backend.common;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ObservabilityConfig {
+	@Bean
+	public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+	}
+}
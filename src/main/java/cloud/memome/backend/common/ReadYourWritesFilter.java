@@ -0,0 +1,107 @@
+package cloud.memome.backend.common;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 쓰기 직후의 클라이언트는 복제 지연 동안 자기 변경을 못 보지 않도록 잠시 프라이머리에서 읽는다.
+// 프라이머리에서 읽을 기한을 쿠키로 주고받으므로 다음 요청이 다른 인스턴스로 가도 유지된다.
+// 쿠키를 조작해도 프라이머리에서 읽게 될 뿐이라 서명하지 않는다
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+	static final String COOKIE_NAME = "MEMOME_PRIMARY_UNTIL";
+
+	private static final ThreadLocal<Pin> CURRENT = new ThreadLocal<>();
+
+	private final Duration window;
+	private final Clock clock;
+
+	public ReadYourWritesFilter(Duration window) {
+		this(window, Clock.systemUTC());
+	}
+
+	ReadYourWritesFilter(Duration window, Clock clock) {
+		this.window = window;
+		this.clock = clock;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		CURRENT.set(new Pin(response, pinnedUntil(request)));
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			CURRENT.remove();
+		}
+	}
+
+	static boolean isPinned() {
+		Pin pin = CURRENT.get();
+		return pin != null && pin.isPinned();
+	}
+
+	static void recordWrite() {
+		Pin pin = CURRENT.get();
+		if (pin != null) {
+			pin.written();
+		}
+	}
+
+	private static long pinnedUntil(HttpServletRequest request) {
+		Cookie cookie = WebUtils.getCookie(request, COOKIE_NAME);
+		if (cookie == null) {
+			return 0L;
+		}
+		try {
+			return Long.parseLong(cookie.getValue());
+		} catch (NumberFormatException e) {
+			return 0L;
+		}
+	}
+
+	private class Pin {
+		private final HttpServletResponse response;
+		private long until;
+		private boolean cookieWritten;
+
+		private Pin(HttpServletResponse response, long until) {
+			this.response = response;
+			this.until = until;
+		}
+
+		private boolean isPinned() {
+			return clock.millis() < until;
+		}
+
+		private void written() {
+			until = Math.max(until, clock.millis() + window.toMillis());
+			// 응답이 이미 나가기 시작했으면 쿠키를 붙일 수 없다. 이 요청 안의 읽기만 프라이머리로 간다
+			if (cookieWritten || response.isCommitted()) {
+				return;
+			}
+			cookieWritten = true;
+			ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(until))
+				.httpOnly(true)
+				.secure(true)
+				.sameSite("Lax")
+				.path("/")
+				.maxAge(Duration.ofSeconds(Math.max(1, window.toSeconds() + 1)))
+				.build();
+			response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package cloud.memome.backend.common;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.datasource")
+public record ReplicaDataSourceProperties(
+	@DefaultValue List<Replica> replicas,
+	@DefaultValue("5s") Duration readYourWritesWindow,
+	@DefaultValue("1s") Duration healthCheckTimeout
+) {
+	public record Replica(String url, String username, String password) {
+	}
+}
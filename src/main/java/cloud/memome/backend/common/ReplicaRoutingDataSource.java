@@ -0,0 +1,119 @@
+package cloud.memome.backend.common;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 읽기 전용 트랜잭션은 정상인 레플리카에 돌아가며 보내고, 나머지는 모두 프라이머리로 보낸다.
+// 트랜잭션의 readOnly 여부는 커넥션을 실제로 얻는 시점에 판단하므로 LazyConnectionDataSourceProxy로 감싸서 써야 한다.
+// 쓰기 직후의 읽기를 프라이머리로 보낼지는 ReadYourWritesFilter가 요청마다 정한다
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final int healthCheckTimeoutSeconds;
+	private final AtomicInteger next = new AtomicInteger();
+
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration healthCheckTimeout) {
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		this.healthCheckTimeoutSeconds = (int)Math.max(1, healthCheckTimeout.toSeconds());
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			ReadYourWritesFilter.recordWrite();
+			return primary.getConnection();
+		}
+		if (ReadYourWritesFilter.isPinned()) {
+			return primary.getConnection();
+		}
+		return readConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		// 레플리카는 계정이 따로라서 계정을 지정한 커넥션은 프라이머리로만 보낸다. 지원 여부는 프라이머리 풀을 따른다
+		ReadYourWritesFilter.recordWrite();
+		return primary.getConnection(username, password);
+	}
+
+	private Connection readConnection() throws SQLException {
+		int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+		for (int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get((start + i) % replicas.size());
+			if (!replica.healthy) {
+				continue;
+			}
+			try {
+				return replica.dataSource.getConnection();
+			} catch (SQLException e) {
+				replica.markDown(e);
+			}
+		}
+		// 쓸 수 있는 레플리카가 없으면 프라이머리에서 읽는다
+		return primary.getConnection();
+	}
+
+	@Scheduled(fixedDelayString = "${memome.datasource.health-check-interval:PT10S}")
+	public void checkHealth() {
+		for (Replica replica : replicas) {
+			try (Connection connection = replica.dataSource.getConnection()) {
+				if (connection.isValid(healthCheckTimeoutSeconds)) {
+					replica.markUp();
+				} else {
+					replica.markDown(null);
+				}
+			} catch (SQLException e) {
+				replica.markDown(e);
+			}
+		}
+	}
+
+	int healthyReplicaCount() {
+		return (int)replicas.stream().filter(replica -> replica.healthy).count();
+	}
+
+	@Override
+	public void close() throws Exception {
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	private static class Replica {
+		private final DataSource dataSource;
+		private volatile boolean healthy = true;
+
+		private Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+
+		private void markDown(SQLException cause) {
+			if (healthy) {
+				log.warn("Replica marked down, reads fall back to other replicas or the primary: {}", dataSource, cause);
+			}
+			healthy = false;
+		}
+
+		private void markUp() {
+			if (!healthy) {
+				log.info("Replica is back up: {}", dataSource);
+			}
+			healthy = true;
+		}
+	}
+}
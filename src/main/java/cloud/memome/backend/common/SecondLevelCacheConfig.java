@@ -0,0 +1,73 @@
+package cloud.memome.backend.common;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Hibernate 2차 캐시 영역을 크기와 수명이 정해진 로컬 Caffeine 캐시로 만든다.
+// 다른 노드의 변경은 SecondLevelCacheInvalidator가 outbox로 받아 비우고, time-to-live는 그마저 놓쳤을 때의 상한이다
+@Configuration
+public class SecondLevelCacheConfig {
+	public static final String MEMBER_REGION = "member";
+	public static final String MEMBER_NATURAL_ID_REGION = "member-natural-id";
+	public static final String MEMO_REGION = "memo";
+	public static final String MEMO_BODY_REGION = "memo-body";
+
+	private static final URI CACHE_MANAGER_URI = URI.create("memome-second-level-cache");
+
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager(SecondLevelCacheProperties properties, MeterRegistry meterRegistry) {
+		CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+			.getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+		Map.of(
+			MEMBER_REGION, properties.memberMaximumSize(),
+			MEMBER_NATURAL_ID_REGION, properties.memberMaximumSize(),
+			MEMO_REGION, properties.memoMaximumSize(),
+			MEMO_BODY_REGION, properties.memoBodyMaximumSize()
+		).forEach((region, maximumSize) ->
+			createRegion(cacheManager, region, maximumSize, properties.timeToLive(), meterRegistry));
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+		return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+	}
+
+	private static void createRegion(CacheManager cacheManager, String region, long maximumSize, Duration timeToLive,
+		MeterRegistry meterRegistry) {
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다: " + region + "=" + maximumSize);
+		}
+		// 같은 JVM에서 컨텍스트가 다시 뜨는 경우(테스트 등) 이전 영역을 버리고 새 설정으로 만든다
+		if (cacheManager.getCache(region) != null) {
+			cacheManager.destroyCache(region);
+		}
+		CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+		configuration.setMaximumSize(OptionalLong.of(maximumSize));
+		configuration.setExpireAfterWrite(OptionalLong.of(timeToLive.toNanos()));
+		// Hibernate가 이미 분해된 상태를 넣으므로 값을 다시 복사할 필요가 없다
+		configuration.setStoreByValue(false);
+		configuration.setNativeStatisticsEnabled(true);
+		Cache<Object, Object> cache = cacheManager.createCache(region, configuration);
+
+		// 영역별 적중/미스/축출 수. Hibernate 통계의 hibernate.second.level.cache.* 지표와 함께 본다
+		CaffeineCacheMetrics.monitor(meterRegistry,
+			cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class), "hibernate." + region);
+	}
+}
@@ -0,0 +1,46 @@
+package cloud.memome.backend.common;
+
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.memo.Memo;
+import cloud.memome.backend.outbox.OutboxEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxSubscriber;
+import jakarta.persistence.EntityManagerFactory;
+
+// 2차 캐시는 노드마다 따로 있으므로, 다른 노드에서 수정/삭제한 엔티티를 outbox로 받아 이 노드의 캐시에서 비운다.
+// 자기 노드의 변경도 한 번 더 비우게 되지만, 다음 조회 한 번이 DB로 갈 뿐이다
+@Component
+public class SecondLevelCacheInvalidator implements OutboxSubscriber {
+	private final Cache cache;
+
+	public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+		this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+	}
+
+	@Override
+	public void onEvents(List<OutboxEvent> events) {
+		for (OutboxEvent event : events) {
+			if (event.getEventType() == OutboxEventType.CREATED) {
+				continue;
+			}
+			switch (event.getAggregateType()) {
+				case MEMO -> cache.evictEntityData(Memo.class, event.getAggregateId());
+				case MEMBER -> evictMember(event);
+			}
+		}
+	}
+
+	private void evictMember(OutboxEvent event) {
+		cache.evictEntityData(Member.class, event.getAggregateId());
+		if (event.getEventType() == OutboxEventType.REMOVED) {
+			// 탈퇴로 지워진 메모는 MemoPurger가 메모마다 남긴 삭제 이벤트로 따로 비운다
+			cache.evictNaturalIdData(Member.class);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package cloud.memome.backend.common;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.cache")
+public record SecondLevelCacheProperties(
+	@DefaultValue("10000") long memberMaximumSize,
+	@DefaultValue("10000") long memoMaximumSize,
+	@DefaultValue("2000") long memoBodyMaximumSize,
+	@DefaultValue("10m") Duration timeToLive
+) {
+}
@@ -0,0 +1,75 @@
+package cloud.memome.backend.common;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// 요청 하나가 실행한 SQL 문 수를 응답 헤더와 memome.http.sql.statements 지표로 남긴다.
+// 헤더는 응답이 커밋되기 직전까지의 수이고, 비동기로 넘긴 작업의 SQL은 세지 않는다
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+	static final String HEADER = "X-SQL-Statement-Count";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		SqlStatementCounter.start();
+		HeaderWritingResponse wrapped = new HeaderWritingResponse(response);
+		try {
+			filterChain.doFilter(request, wrapped);
+		} finally {
+			wrapped.writeHeader();
+			int count = SqlStatementCounter.stop();
+			DistributionSummary.builder("memome.http.sql.statements")
+				.description("SQL statements executed per HTTP request")
+				.tag("method", request.getMethod())
+				.tag("uri", uriPatternOf(request))
+				.publishPercentileHistogram()
+				.maximumExpectedValue(1000.0)
+				.register(meterRegistry)
+				.record(count);
+		}
+	}
+
+	private static String uriPatternOf(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern == null ? "UNKNOWN" : pattern.toString();
+	}
+
+	private static class HeaderWritingResponse extends OnCommittedResponseWrapper {
+		private boolean written;
+
+		private HeaderWritingResponse(HttpServletResponse response) {
+			super(response);
+		}
+
+		@Override
+		protected void onResponseCommitted() {
+			writeHeader();
+		}
+
+		private void writeHeader() {
+			if (!written && !isCommitted()) {
+				written = true;
+				setIntHeader(HEADER, SqlStatementCounter.current());
+			}
+		}
+	}
+}
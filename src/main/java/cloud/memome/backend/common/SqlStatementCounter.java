@@ -0,0 +1,32 @@
+package cloud.memome.backend.common;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 SQL을 준비할 때마다 호출된다. 요청 스레드에 카운터가 열려 있을 때만 센다
+public class SqlStatementCounter implements StatementInspector {
+	private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+	static void start() {
+		COUNT.set(new int[1]);
+	}
+
+	static int current() {
+		int[] count = COUNT.get();
+		return count == null ? 0 : count[0];
+	}
+
+	static int stop() {
+		int count = current();
+		COUNT.remove();
+		return count;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		int[] count = COUNT.get();
+		if (count != null) {
+			count[0]++;
+		}
+		return sql;
+	}
+}
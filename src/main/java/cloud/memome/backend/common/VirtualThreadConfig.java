@@ -0,0 +1,49 @@
+package cloud.memome.backend.common;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// spring.threads.virtual.enabled=true이면 스프링 부트가 톰캣 요청 처리, @Async 실행기, 스케줄러를 가상 스레드로 바꾼다.
+// 여기서는 그에 맞춰 DB 동시 접근을 커넥션 풀 크기로 제한하고 캐리어 스레드 고정을 감시한다
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+	@Bean
+	public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment,
+		ObjectProvider<MeterRegistry> meterRegistry) {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				// 애플리케이션이 쓰는 데이터소스(레플리카 라우팅을 켠 경우 그 프록시)만 감싼다
+				if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+					return bean;
+				}
+				DataSourceConcurrencyProperties properties = Binder.get(environment)
+					.bindOrCreate("memome.datasource.concurrency", DataSourceConcurrencyProperties.class);
+				ConcurrencyLimitedDataSource limited = new ConcurrencyLimitedDataSource(
+					dataSource, properties.maxConcurrent(), properties.acquireTimeout());
+				meterRegistry.ifAvailable(limited::bindTo);
+				return limited;
+			}
+		};
+	}
+
+	@Bean(initMethod = "start")
+	public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+		@Value("${memome.virtual-thread.pinning-threshold:20ms}") Duration threshold) {
+		return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+	}
+}
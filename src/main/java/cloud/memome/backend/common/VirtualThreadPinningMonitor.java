@@ -0,0 +1,79 @@
+package cloud.memome.backend.common;
+
+import java.time.Duration;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 블로킹되어 캐리어 스레드에 고정(pinning)되면
+// JFR jdk.VirtualThreadPinned 이벤트로 잡아서, 고정을 일으킨 프레임과 함께 로그와 지표로 남긴다
+@Slf4j
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 8;
+
+	private final MeterRegistry meterRegistry;
+	private final RecordingStream recordingStream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+		this.meterRegistry = meterRegistry;
+		this.recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+	}
+
+	public void start() {
+		recordingStream.startAsync();
+	}
+
+	private void onPinned(RecordedEvent event) {
+		RecordedStackTrace stackTrace = event.getStackTrace();
+		String site = pinningSite(stackTrace);
+		Counter.builder("memome.virtual-thread.pinned")
+			.tag("site", site)
+			.register(meterRegistry)
+			.increment();
+		if (log.isWarnEnabled()) {
+			log.warn("Virtual thread pinned for {} at {}\n{}", event.getDuration(), site, frames(stackTrace));
+		}
+	}
+
+	// 가장 가까운 애플리케이션/드라이버 프레임. JDK 내부 프레임(락 대기 등)은 건너뛴다
+	private static String pinningSite(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return "unknown";
+		}
+		for (RecordedFrame frame : stackTrace.getFrames()) {
+			String type = frame.getMethod().getType().getName();
+			if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+				return type + "." + frame.getMethod().getName();
+			}
+		}
+		return "jdk";
+	}
+
+	private static String frames(RecordedStackTrace stackTrace) {
+		if (stackTrace == null) {
+			return "";
+		}
+		StringBuilder builder = new StringBuilder();
+		stackTrace.getFrames().stream()
+			.limit(LOGGED_FRAMES)
+			.forEach(frame -> builder.append("\tat ")
+				.append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName())
+				.append(':').append(frame.getLineNumber())
+				.append('\n'));
+		return builder.toString();
+	}
+
+	@Override
+	public void close() {
+		recordingStream.close();
+	}
+}
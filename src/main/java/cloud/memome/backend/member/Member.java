@@ -2,10 +2,19 @@ package cloud.memome.backend.member;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import cloud.memome.backend.common.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
@@ -14,14 +23,19 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.MEMBER_REGION)
+@NaturalIdCache(region = SecondLevelCacheConfig.MEMBER_NATURAL_ID_REGION)
 @Table(uniqueConstraints = @UniqueConstraint(columnNames = {"provider_type", "provider_id"}))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Member {
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+	@SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
 	private Long id;
 
+	@NaturalId
 	@Embedded
 	private OAuthIdentity oAuthIdentity;
 
@@ -0,0 +1,27 @@
+package cloud.memome.backend.member;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import cloud.memome.backend.auth.AuthTokenService;
+import cloud.memome.backend.auth.LoginMember;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/members")
+@RequiredArgsConstructor
+public class MemberController {
+	private final MemberService memberService;
+	private final AuthTokenService authTokenService;
+
+	@DeleteMapping("/me")
+	public ResponseEntity<Void> removeMe(@LoginMember Long memberId) {
+		memberService.removeMember(memberId);
+		return ResponseEntity.noContent()
+			.header(HttpHeaders.SET_COOKIE, authTokenService.expireCookie().toString())
+			.build();
+	}
+}
@@ -0,0 +1,67 @@
+package cloud.memome.backend.member;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class MemberIdentityCache {
+	static final String CACHE_NAME = "member.identity";
+
+	private final Cache<OAuthIdentity, Long> cache;
+
+	public MemberIdentityCache(MemberIdentityCacheProperties properties, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfterWrite(properties.ttl())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public Optional<Long> getMemberId(OAuthIdentity oAuthIdentity) {
+		return Optional.ofNullable(cache.getIfPresent(oAuthIdentity));
+	}
+
+	// 롤백된 회원 id가 캐시에 남지 않도록 커밋 이후에 넣는다
+	public void putAfterCommit(OAuthIdentity oAuthIdentity, Long memberId) {
+		afterCommit(() -> cache.put(oAuthIdentity, memberId));
+	}
+
+	// 커밋 전에 다른 로그인이 이전 값을 다시 채울 수 있으므로 지금 한 번, 커밋 이후 한 번 더 비운다
+	public void invalidate(OAuthIdentity oAuthIdentity) {
+		cache.invalidate(oAuthIdentity);
+		afterCommit(() -> cache.invalidate(oAuthIdentity));
+	}
+
+	// 키(OAuthIdentity)를 모르는 다른 노드의 변경은 값(회원 id)으로 찾아서 비운다
+	public void invalidateMembers(Collection<Long> memberIds) {
+		cache.asMap().values().removeAll(memberIds);
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,32 @@
+package cloud.memome.backend.member;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import cloud.memome.backend.outbox.OutboxAggregateType;
+import cloud.memome.backend.outbox.OutboxEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxSubscriber;
+import lombok.RequiredArgsConstructor;
+
+// 다른 노드에서 수정/탈퇴한 회원의 캐시를 이 노드에서도 비운다
+@Component
+@RequiredArgsConstructor
+public class MemberIdentityCacheInvalidator implements OutboxSubscriber {
+	private final MemberIdentityCache memberIdentityCache;
+
+	@Override
+	public void onEvents(List<OutboxEvent> events) {
+		Set<Long> memberIds = events.stream()
+			.filter(event -> event.getAggregateType() == OutboxAggregateType.MEMBER
+				&& event.getEventType() != OutboxEventType.CREATED)
+			.map(OutboxEvent::getAggregateId)
+			.collect(Collectors.toSet());
+		if (!memberIds.isEmpty()) {
+			memberIdentityCache.invalidateMembers(memberIds);
+		}
+	}
+}
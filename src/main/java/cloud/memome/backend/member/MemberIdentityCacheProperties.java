@@ -0,0 +1,13 @@
+package cloud.memome.backend.member;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.member.identity-cache")
+public record MemberIdentityCacheProperties(
+	@DefaultValue("100000") long maximumSize,
+	@DefaultValue("10m") Duration ttl
+) {
+}
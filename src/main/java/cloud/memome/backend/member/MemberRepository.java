@@ -1,13 +1,14 @@
 package cloud.memome.backend.member;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long> {
-	@Query("select m from Member m where m.oAuthIdentity=:oAuthIdentity")
-	Optional<Member> findByOAuthIdentity(OAuthIdentity oAuthIdentity);
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+	@Query("select m.id from Member m where m.id in :ids")
+	List<Long> findIdsByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,15 @@
+package cloud.memome.backend.member;
+
+import java.util.Optional;
+
+public interface MemberRepositoryCustom {
+	Optional<Member> findByOAuthIdentity(OAuthIdentity oAuthIdentity);
+
+	Optional<Member> findCommittedByOAuthIdentity(OAuthIdentity oAuthIdentity);
+
+	Optional<Member> findCommittedById(Long id);
+
+	// 같은 OAuthIdentity의 회원이 없으면 넣고, 그 OAuthIdentity를 가진 회원의 id를 돌려준다.
+	// 이 호출이 넣은 경우에만 member에 id가 채워진다
+	Long insertIfAbsent(Member member);
+}
@@ -0,0 +1,138 @@
+package cloud.memome.backend.member;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+	private static final String COLUMNS = "id, provider_type, provider_id, nickname, email, created_at, updated_at";
+
+	// MySQL은 ON DUPLICATE KEY UPDATE를, 그 외(H2 등)는 존재하지 않을 때만 넣는 INSERT ... SELECT를 사용한다.
+	// 둘 다 동시에 같은 OAuthIdentity로 들어오는 경우 먼저 커밋된 쪽을 기다린 뒤 예외 없이 끝난다.
+	// INSERT IGNORE와 달리 중복 키가 아닌 오류(잘림, NOT NULL 등)는 그대로 예외가 된다.
+	// 영향받은 행 수는 드라이버의 found-rows 설정에 따라 중복일 때도 1이 될 수 있으므로 쓰지 않는다.
+	// 넣을 때는 새 id를, 중복이면 기존 id를 LAST_INSERT_ID로 남기고, 그 값은 OK 패킷에 실려 오므로
+	// 생성 키로 받아서 넣은 id와 비교한다(select last_insert_id()를 따로 보내지 않는다)
+	private static final String MYSQL_INSERT_ON_DUPLICATE_KEY =
+		"insert into member (" + COLUMNS + ") values (last_insert_id(?), ?, ?, ?, ?, ?, ?)"
+			+ " on duplicate key update id = last_insert_id(id)";
+	private static final String INSERT_IF_NOT_EXISTS =
+		"insert into member (" + COLUMNS + ")"
+			+ " select cast(? as bigint), cast(? as varchar(255)), cast(? as varchar(255)),"
+			+ " cast(? as varchar(255)), cast(? as varchar(255)), cast(? as timestamp(6)), cast(? as timestamp(6))"
+			+ " from (values (1)) t"
+			+ " where not exists (select 1 from member m where m.provider_type = ? and m.provider_id = ?)";
+
+	// 네이티브 쿼리는 어떤 테이블을 건드리는지 알 수 없어 기본으로 2차 캐시 전체를 비운다.
+	// 새 행을 넣을 뿐이라 캐시된 엔티티는 그대로 유효하므로, 어떤 엔티티와도 겹치지 않는 공간으로 알려 준다
+	private static final String INSERT_QUERY_SPACE = "member_insert_if_absent";
+
+	private static final String FIND_BY_OAUTH_IDENTITY = "select m from Member m where m.oAuthIdentity = :oAuthIdentity";
+
+	private final EntityManager entityManager;
+
+	// 자연 키 조회라 OAuthIdentity -> id 매핑과 회원 엔티티를 모두 2차 캐시에서 찾는다
+	@Override
+	public Optional<Member> findByOAuthIdentity(OAuthIdentity oAuthIdentity) {
+		return entityManager.unwrap(Session.class)
+			.bySimpleNaturalId(Member.class)
+			.loadOptional(oAuthIdentity);
+	}
+
+	// 잠금 읽기는 REPEATABLE READ에서도 트랜잭션 스냅샷이 아니라 커밋된 최신 행을 읽는다.
+	// 경합에서 진 요청이 먼저 한 조회의 스냅샷 때문에 이긴 쪽의 행을 못 보는 일을 막는다
+	@Override
+	public Optional<Member> findCommittedByOAuthIdentity(OAuthIdentity oAuthIdentity) {
+		return entityManager.createQuery(FIND_BY_OAUTH_IDENTITY, Member.class)
+			.setParameter("oAuthIdentity", oAuthIdentity)
+			.setLockMode(LockModeType.PESSIMISTIC_READ)
+			.getResultStream()
+			.findFirst();
+	}
+
+	// 잠금 읽기라 2차 캐시를 거치지 않고, findCommittedByOAuthIdentity와 같은 이유로 커밋된 최신 행을 읽는다
+	@Override
+	public Optional<Member> findCommittedById(Long id) {
+		return Optional.ofNullable(entityManager.find(Member.class, id, LockModeType.PESSIMISTIC_READ));
+	}
+
+	@Override
+	public Long insertIfAbsent(Member member) {
+		SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+		EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Member.class);
+		Long id = (Long)((BeforeExecutionGenerator)persister.getGenerator())
+			.generate(session, member, null, EventType.INSERT);
+
+		Long memberId = isMySql(session.getFactory().getJdbcServices().getDialect())
+			? upsertOnMySql(member, id)
+			: insertIfNotExists(member, id);
+		if (memberId == null) {
+			// useAffectedRows=true면 바뀐 행이 없는 중복에는 생성 키가 오지 않는다
+			memberId = findCommittedByOAuthIdentity(member.getOAuthIdentity())
+				.map(Member::getId)
+				.orElseThrow(() -> new IllegalStateException("Member not found after upsert: "
+					+ member.getOAuthIdentity()));
+		}
+		if (memberId.equals(id)) {
+			persister.setIdentifier(member, id, session);
+		}
+		return memberId;
+	}
+
+	private Long upsertOnMySql(Member member, Long id) {
+		OAuthIdentity oAuthIdentity = member.getOAuthIdentity();
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(MYSQL_INSERT_ON_DUPLICATE_KEY,
+				Statement.RETURN_GENERATED_KEYS)) {
+				statement.setLong(1, id);
+				statement.setString(2, oAuthIdentity.getProviderType().name());
+				statement.setString(3, oAuthIdentity.getProviderId());
+				statement.setString(4, member.getNickname());
+				statement.setString(5, member.getEmail());
+				statement.setObject(6, member.getCreatedAt());
+				statement.setObject(7, member.getUpdatedAt());
+				statement.executeUpdate();
+				try (ResultSet keys = statement.getGeneratedKeys()) {
+					return keys.next() ? keys.getLong(1) : null;
+				}
+			}
+		});
+	}
+
+	// 넣었으면 넣은 id를, 이미 있었으면 null을 돌려준다
+	private Long insertIfNotExists(Member member, Long id) {
+		OAuthIdentity oAuthIdentity = member.getOAuthIdentity();
+		String providerType = oAuthIdentity.getProviderType().name();
+		var query = entityManager.createNativeQuery(INSERT_IF_NOT_EXISTS)
+			.setParameter(1, id)
+			.setParameter(2, providerType)
+			.setParameter(3, oAuthIdentity.getProviderId())
+			.setParameter(4, member.getNickname())
+			.setParameter(5, member.getEmail())
+			.setParameter(6, member.getCreatedAt())
+			.setParameter(7, member.getUpdatedAt())
+			.setParameter(8, providerType)
+			.setParameter(9, oAuthIdentity.getProviderId());
+		query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(INSERT_QUERY_SPACE);
+		return query.executeUpdate() > 0 ? id : null;
+	}
+
+	private static boolean isMySql(Dialect dialect) {
+		return dialect instanceof MySQLDialect;
+	}
+}
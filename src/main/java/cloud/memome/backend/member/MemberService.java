@@ -2,25 +2,60 @@ package cloud.memome.backend.member;
 
 import java.util.NoSuchElementException;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import cloud.memome.backend.auth.OAuthUserInfo;
 import cloud.memome.backend.member.dto.UpdateMemberDto;
+import cloud.memome.backend.member.event.MemberRemovingEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
+@Timed(value = "memome.service", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MemberService {
+	static final int MAX_REMOVE_ATTEMPTS = 3;
+
 	private final MemberRepository memberRepository;
+	private final MemberIdentityCache memberIdentityCache;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final OutboxWriter outboxWriter;
 
+	// 먼저 조회하지 않고 바로 upsert한다. 첫 로그인은 시퀀스(할당 단위마다 1번) + upsert 한 번으로 끝나고,
+	// 이미 있는 회원이나 동시에 첫 로그인한 요청끼리의 경합에서 진 쪽은 upsert가 알려 준 id로 다시 읽는다.
+	// 다시 로그인하는 회원은 대부분 getOrCreateMemberId의 캐시에서 끝나므로 여기까지 오지 않는다
 	@Transactional
 	public Member getOrCreateMember(OAuthUserInfo oAuthUserInfo) {
 		OAuthIdentity oAuthIdentity = new OAuthIdentity(oAuthUserInfo.getProviderType(), oAuthUserInfo.getProviderId());
-		return memberRepository.findByOAuthIdentity(oAuthIdentity)
-			.orElseGet(() -> memberRepository.save(
-				Member.create(oAuthIdentity, oAuthUserInfo.getNickname(), oAuthUserInfo.getEmail())));
+		Member member = Member.create(oAuthIdentity, oAuthUserInfo.getNickname(), oAuthUserInfo.getEmail());
+		Long memberId = memberRepository.insertIfAbsent(member);
+		if (memberId.equals(member.getId())) {
+			outboxWriter.member(memberId, OutboxEventType.CREATED);
+		} else {
+			member = memberRepository.findCommittedById(memberId)
+				.orElseThrow(() -> new IllegalStateException("Member not found after upsert: " + oAuthIdentity));
+		}
+		memberIdentityCache.putAfterCommit(oAuthIdentity, memberId);
+		return member;
+	}
+
+	// 캐시 적중 시에는 트랜잭션(커넥션)도 열지 않는다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public Long getOrCreateMemberId(OAuthUserInfo oAuthUserInfo) {
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(oAuthUserInfo.getProviderType(), oAuthUserInfo.getProviderId());
+		return memberIdentityCache.getMemberId(oAuthIdentity)
+			.orElseGet(() -> transactionTemplate.execute(status -> getOrCreateMember(oAuthUserInfo).getId()));
 	}
 
 	public Member getMemberById(Long id) {
@@ -37,12 +72,35 @@ public class MemberService {
 	public Member updateMember(UpdateMemberDto dto) {
 		Member member = this.getMemberById(dto.getId());
 		member.updateMember(dto.getNickname(), dto.getEmail());
+		outboxWriter.member(member.getId(), OutboxEventType.UPDATED);
+		memberIdentityCache.invalidate(member.getOAuthIdentity());
 		return member;
 	}
 
-	@Transactional
+	// 먼저 REMOVED를 남겨 모든 노드가 이 회원의 토큰을 거부하게 한다(RevokedMembers).
+	// 메모는 리스너가 청크별 트랜잭션으로 지우고, 회원 행은 마지막에 짧은 트랜잭션으로 지운다.
+	// 거부가 다른 노드에 전해지기 전에 만든 메모가 남아 FK에 걸리면 메모를 다시 지우고 재시도한다
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void removeMember(Long id) {
 		Member member = this.getMemberById(id);
-		memberRepository.delete(member);
+		transactionTemplate.executeWithoutResult(status -> outboxWriter.member(id, OutboxEventType.REMOVED));
+		memberIdentityCache.invalidate(member.getOAuthIdentity());
+		for (int attempt = 1; ; attempt++) {
+			eventPublisher.publishEvent(new MemberRemovingEvent(id));
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					memberRepository.delete(member);
+					// 그 사이 다른 노드가 다시 캐시한 회원도 비우도록 행을 지운 뒤 한 번 더 알린다
+					outboxWriter.member(id, OutboxEventType.REMOVED);
+				});
+				break;
+			} catch (DataIntegrityViolationException e) {
+				if (attempt == MAX_REMOVE_ATTEMPTS) {
+					throw e;
+				}
+				log.info("Member {} still has rows created during removal, purging again", id);
+			}
+		}
+		memberIdentityCache.invalidate(member.getOAuthIdentity());
 	}
 }
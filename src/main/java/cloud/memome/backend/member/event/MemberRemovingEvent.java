@@ -0,0 +1,9 @@
+package cloud.memome.backend.member.event;
+
+import lombok.Value;
+
+// 회원 행을 지우기 직전, 트랜잭션 밖에서 동기로 발행된다. 회원을 참조하는 데이터는 이때 정리한다
+@Value
+public class MemberRemovingEvent {
+	Long memberId;
+}
@@ -0,0 +1,33 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원별 메모 수와 본문 바이트 합. 메모를 쓰는 트랜잭션에서 조건부 UPDATE 한 문장으로 늘리고 줄이며,
+// 그 UPDATE가 할당량 확인을 겸하므로 쓰기 경로에서 메모 테이블을 세지 않는다
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MemberUsage {
+	@Id
+	private Long memberId;
+
+	private long memoCount;
+	private long bodyBytes;
+	// 본문 크기를 채우기 전의 메모가 남아 있으면 bodyBytes가 실제보다 작으므로, 그동안은 바이트 할당량을 적용하지 않는다
+	private boolean bodyBytesExact;
+	private LocalDateTime lastActivityAt;
+
+	MemberUsage(Long memberId, long memoCount, long bodyBytes, boolean bodyBytesExact, LocalDateTime lastActivityAt) {
+		this.memberId = memberId;
+		this.memoCount = memoCount;
+		this.bodyBytes = bodyBytes;
+		this.bodyBytesExact = bodyBytesExact;
+		this.lastActivityAt = lastActivityAt;
+	}
+}
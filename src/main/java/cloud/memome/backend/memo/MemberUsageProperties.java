@@ -0,0 +1,14 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("memome.memo.usage")
+public record MemberUsageProperties(
+	@DefaultValue("10000") long maxMemoCount,
+	@DefaultValue("100MB") DataSize maxBodySize,
+	@DefaultValue("500") int reconcileBatchSize,
+	@DefaultValue("500") int backfillPageSize
+) {
+}
@@ -0,0 +1,86 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.memo.dto.MemoUsageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 쓰기 경로 밖에서 메모가 바뀌어(수동 정리, 부분 실패 등) 어긋난 사용량을 실제 메모로 다시 맞춘다.
+// 회원 id 순서로 배치마다 트랜잭션을 끊어서 메모 테이블을 한 번에 오래 잡지 않는다
+@Slf4j
+@Component
+public class MemberUsageReconciler {
+	private final MemberUsageRepository memberUsageRepository;
+	private final MemoRepository memoRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final Counter corrected;
+
+	public MemberUsageReconciler(MemberUsageRepository memberUsageRepository, MemoRepository memoRepository,
+		TransactionTemplate transactionTemplate, MemberUsageProperties properties, MeterRegistry meterRegistry) {
+		if (properties.reconcileBatchSize() < 1) {
+			throw new IllegalArgumentException(
+				"reconcile-batch-size는 1 이상이어야 합니다: " + properties.reconcileBatchSize());
+		}
+		this.memberUsageRepository = memberUsageRepository;
+		this.memoRepository = memoRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.batchSize = properties.reconcileBatchSize();
+		this.corrected = Counter.builder("memome.memo.usage.corrected")
+			.description("member usage rows that had drifted from their memos")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(cron = "${memome.memo.usage.reconcile-cron:0 0 5 * * *}")
+	public void reconcile() {
+		long afterId = 0;
+		long total = 0;
+		BatchResult batch;
+		do {
+			long cursor = afterId;
+			batch = transactionTemplate.execute(status -> reconcileBatch(cursor));
+			afterId = batch.lastMemberId();
+			total += batch.corrected();
+		} while (batch.size() == batchSize);
+		log.info("Reconciled member usage, corrected {} members", total);
+	}
+
+	private BatchResult reconcileBatch(long afterId) {
+		List<MemberUsage> usages = memberUsageRepository.findAfter(afterId, PageRequest.ofSize(batchSize));
+		if (usages.isEmpty()) {
+			return new BatchResult(0, afterId, 0);
+		}
+		Map<Long, MemoUsageDto> actual = memoRepository.sumUsageByAuthorIdIn(
+				usages.stream().map(MemberUsage::getMemberId).toList()).stream()
+			.collect(Collectors.toMap(MemoUsageDto::getAuthorId, Function.identity()));
+
+		int fixed = 0;
+		for (MemberUsage usage : usages) {
+			MemoUsageDto memos = actual.get(usage.getMemberId());
+			long memoCount = memos == null ? 0 : memos.getMemoCount();
+			long bodyBytes = memos == null ? 0 : memos.getBodyBytes();
+			// 본문 크기를 모두 채운 회원부터 바이트 할당량을 적용한다
+			boolean bodyBytesExact = memos == null || memos.getUnsizedCount() == 0;
+			if (usage.getMemoCount() != memoCount || usage.getBodyBytes() != bodyBytes
+				|| usage.isBodyBytesExact() != bodyBytesExact) {
+				fixed += memberUsageRepository.correct(usage.getMemberId(), usage.getMemoCount(), usage.getBodyBytes(),
+					memoCount, bodyBytes, bodyBytesExact);
+			}
+		}
+		corrected.increment(fixed);
+		return new BatchResult(usages.size(), usages.getLast().getMemberId(), fixed);
+	}
+
+	private record BatchResult(int size, long lastMemberId, int corrected) {
+	}
+}
@@ -0,0 +1,82 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import cloud.memome.backend.memo.dto.MemoUsageDto;
+import cloud.memome.backend.memo.exception.MemoQuotaExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 메모를 쓰는 트랜잭션 안에서 회원 사용량을 함께 고친다. 늘어나는 쪽은 할당량 확인까지 UPDATE 한 문장이다
+@Component
+public class MemberUsageRecorder {
+	private final MemberUsageRepository memberUsageRepository;
+	private final MemoRepository memoRepository;
+	private final long maxMemoCount;
+	private final long maxBodyBytes;
+	private final Counter rejected;
+
+	public MemberUsageRecorder(MemberUsageRepository memberUsageRepository, MemoRepository memoRepository,
+		MemberUsageProperties properties, MeterRegistry meterRegistry) {
+		if (properties.maxMemoCount() < 1 || properties.maxBodySize().toBytes() < 1) {
+			throw new IllegalArgumentException("할당량은 1 이상이어야 합니다: max-memo-count="
+				+ properties.maxMemoCount() + ", max-body-size=" + properties.maxBodySize());
+		}
+		this.memberUsageRepository = memberUsageRepository;
+		this.memoRepository = memoRepository;
+		this.maxMemoCount = properties.maxMemoCount();
+		this.maxBodyBytes = properties.maxBodySize().toBytes();
+		this.rejected = Counter.builder("memome.memo.quota.rejected")
+			.register(meterRegistry);
+	}
+
+	// 새 메모를 저장하기 전에 불러야 한다. 사용량 행을 처음 만들 때 세는 메모에 새 메모가 섞이지 않는다
+	public void recordCreated(Long memberId, int memoCount, long bodyBytes) {
+		addWithinQuota(memberId, memoCount, bodyBytes);
+	}
+
+	// 이전 크기를 모르면(본문 크기를 채우기 전의 메모) 사용량에도 들어 있지 않으므로 새 크기를 그대로 더한다
+	public void recordUpdated(Long memberId, Integer previousBodySize, int bodySize) {
+		long bytesDelta = previousBodySize == null ? bodySize : (long)bodySize - previousBodySize;
+		if (bytesDelta > 0) {
+			addWithinQuota(memberId, 0, bytesDelta);
+		} else {
+			memberUsageRepository.add(memberId, 0, bytesDelta, LocalDateTime.now());
+		}
+	}
+
+	// 메모를 지우기 전에 불러야 한다. 지우지 못하면 트랜잭션이 롤백되어 사용량도 되돌아간다
+	public void recordRemoved(Long memberId, Long memoId) {
+		memberUsageRepository.subtractMemo(memberId, memoId, LocalDateTime.now());
+	}
+
+	private void addWithinQuota(Long memberId, long memoDelta, long bytesDelta) {
+		LocalDateTime now = LocalDateTime.now();
+		if (memberUsageRepository.addWithinQuota(memberId, memoDelta, bytesDelta, maxMemoCount, maxBodyBytes, now) > 0) {
+			return;
+		}
+		// 0건이면 할당량 초과이거나, 사용량을 기록하기 전부터 있던 회원이라 행이 아직 없는 경우다
+		if (initialize(memberId, now)
+			&& memberUsageRepository.addWithinQuota(memberId, memoDelta, bytesDelta, maxMemoCount, maxBodyBytes, now) > 0) {
+			return;
+		}
+		rejected.increment();
+		throw new MemoQuotaExceededException(memberId, maxMemoCount, maxBodyBytes);
+	}
+
+	// 회원마다 한 번, 지금까지의 메모를 세어 사용량 행을 만든다
+	private boolean initialize(Long memberId, LocalDateTime now) {
+		if (memberUsageRepository.existsById(memberId)) {
+			return false;
+		}
+		List<MemoUsageDto> usages = memoRepository.sumUsageByAuthorIdIn(List.of(memberId));
+		long memoCount = usages.isEmpty() ? 0 : usages.getFirst().getMemoCount();
+		long bodyBytes = usages.isEmpty() ? 0 : usages.getFirst().getBodyBytes();
+		boolean bodyBytesExact = usages.isEmpty() || usages.getFirst().getUnsizedCount() == 0;
+		memberUsageRepository.insertIfAbsent(new MemberUsage(memberId, memoCount, bodyBytes, bodyBytesExact, now));
+		return true;
+	}
+}
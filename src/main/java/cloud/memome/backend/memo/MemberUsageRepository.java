@@ -0,0 +1,56 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberUsageRepository extends JpaRepository<MemberUsage, Long>, MemberUsageRepositoryCustom {
+	// 행이 없거나 늘린 결과가 할당량을 넘으면 0건이다. 바이트 합이 아직 정확하지 않은 회원은 바이트 할당량을 보지 않는다
+	@Modifying
+	@Query("update MemberUsage u"
+		+ " set u.memoCount = u.memoCount + :memoDelta, u.bodyBytes = u.bodyBytes + :bytesDelta, u.lastActivityAt = :now"
+		+ " where u.memberId = :memberId"
+		+ " and u.memoCount + :memoDelta <= :maxMemoCount"
+		+ " and (u.bodyBytesExact = false or u.bodyBytes + :bytesDelta <= :maxBodyBytes)")
+	int addWithinQuota(Long memberId, long memoDelta, long bytesDelta, long maxMemoCount, long maxBodyBytes,
+		LocalDateTime now);
+
+	// 줄어드는 변경은 할당량을 낮춘 뒤에도 막지 않는다
+	@Modifying
+	@Query("update MemberUsage u"
+		+ " set u.memoCount = u.memoCount + :memoDelta, u.bodyBytes = u.bodyBytes + :bytesDelta, u.lastActivityAt = :now"
+		+ " where u.memberId = :memberId")
+	int add(Long memberId, long memoDelta, long bytesDelta, LocalDateTime now);
+
+	// 메모를 지우기 전에 그 메모의 본문 크기만큼 줄인다. 메모가 없거나 남의 것이면 0건이다.
+	// 본문 크기를 채우기 전의 메모는 사용량에도 들어 있지 않으므로 개수만 줄인다
+	@Modifying
+	@Query("update MemberUsage u"
+		+ " set u.memoCount = u.memoCount - 1,"
+		+ " u.bodyBytes = u.bodyBytes - coalesce((select m.bodySize from Memo m where m.id = :memoId), 0),"
+		+ " u.lastActivityAt = :now"
+		+ " where u.memberId = :memberId"
+		+ " and exists (select 1 from Memo m where m.id = :memoId and m.author.id = :memberId)")
+	int subtractMemo(Long memberId, Long memoId, LocalDateTime now);
+
+	@Query("select u from MemberUsage u where u.memberId > :afterId order by u.memberId")
+	List<MemberUsage> findAfter(Long afterId, Pageable pageable);
+
+	// 읽은 뒤 다른 쓰기가 먼저 반영됐으면 0건으로 두고 다음 주기에 다시 맞춘다
+	@Modifying
+	@Query("update MemberUsage u"
+		+ " set u.memoCount = :memoCount, u.bodyBytes = :bodyBytes, u.bodyBytesExact = :bodyBytesExact"
+		+ " where u.memberId = :memberId and u.memoCount = :expectedMemoCount and u.bodyBytes = :expectedBodyBytes")
+	int correct(Long memberId, long expectedMemoCount, long expectedBodyBytes, long memoCount, long bodyBytes,
+		boolean bodyBytesExact);
+
+	@Modifying
+	@Query("delete from MemberUsage u where u.memberId = :memberId")
+	int deleteByMemberId(Long memberId);
+}
@@ -0,0 +1,5 @@
+package cloud.memome.backend.memo;
+
+public interface MemberUsageRepositoryCustom {
+	boolean insertIfAbsent(MemberUsage memberUsage);
+}
@@ -0,0 +1,44 @@
+package cloud.memome.backend.memo;
+
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.NativeQuery;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MemberUsageRepositoryCustomImpl implements MemberUsageRepositoryCustom {
+	private static final String COLUMNS = "member_id, memo_count, body_bytes, body_bytes_exact, last_activity_at";
+
+	// 같은 회원의 첫 쓰기가 동시에 들어와도 먼저 커밋된 쪽을 기다린 뒤 예외 없이 0건으로 끝난다
+	private static final String MYSQL_INSERT_IGNORE =
+		"insert ignore into member_usage (" + COLUMNS + ") values (?, ?, ?, ?, ?)";
+	private static final String INSERT_IF_NOT_EXISTS =
+		"insert into member_usage (" + COLUMNS + ")"
+			+ " select cast(? as bigint), cast(? as bigint), cast(? as bigint), cast(? as boolean), cast(? as timestamp(6))"
+			+ " from (values (1)) t"
+			+ " where not exists (select 1 from member_usage u where u.member_id = ?)";
+	// 캐시되는 엔티티와 겹치지 않는 공간으로 알려서 2차 캐시를 비우지 않게 한다
+	private static final String QUERY_SPACE = "member_usage";
+
+	private final EntityManager entityManager;
+
+	@Override
+	public boolean insertIfAbsent(MemberUsage memberUsage) {
+		SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+		boolean mysql = session.getFactory().getJdbcServices().getDialect() instanceof MySQLDialect;
+
+		var query = entityManager.createNativeQuery(mysql ? MYSQL_INSERT_IGNORE : INSERT_IF_NOT_EXISTS)
+			.setParameter(1, memberUsage.getMemberId())
+			.setParameter(2, memberUsage.getMemoCount())
+			.setParameter(3, memberUsage.getBodyBytes())
+			.setParameter(4, memberUsage.isBodyBytesExact())
+			.setParameter(5, memberUsage.getLastActivityAt());
+		if (!mysql) {
+			query.setParameter(6, memberUsage.getMemberId());
+		}
+		query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(QUERY_SPACE);
+		return query.executeUpdate() > 0;
+	}
+}
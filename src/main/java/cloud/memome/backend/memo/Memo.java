@@ -1,43 +1,93 @@
 package cloud.memome.backend.memo;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+
+import cloud.memome.backend.common.SecondLevelCacheConfig;
 import cloud.memome.backend.member.Member;
+import cloud.memome.backend.memo.exception.MemoVersionConflictException;
 import cloud.memome.backend.memo.exception.NotMemoOwnerException;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.MEMO_REGION)
+@Table(indexes = @Index(name = "idx_memo_author_updated_at", columnList = "author_id, updated_at, id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Memo {
+	public static final int PREVIEW_LENGTH = 100;
+
 	@Id
-	@GeneratedValue
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memo_seq")
+	@SequenceGenerator(name = "memo_seq", sequenceName = "memo_seq", allocationSize = 50)
 	private Long id;
 	private String title;
-	@Lob
-	private String body;
+	@Column(length = PREVIEW_LENGTH)
+	private String preview;
 
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "author_id")
 	private Member author;
 
+	// 본문 테이블이 생기기 전에 저장된 메모는 MemoLegacyBodyBackfiller가 옮길 때까지 null이고 본문은 legacyBody에 있다
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "body_hash")
+	private MemoBody memoBody;
+	// 옛 memo.body 컬럼. 옮겨진 메모와 새 메모는 null이며, 모두 옮겨질 때까지 읽기에 쓴다
+	@Lob
+	@Column(name = "body")
+	@Getter(AccessLevel.NONE)
+	private String legacyBody;
+	// 본문의 UTF-8 바이트 수. 회원별 사용량을 본문을 읽지 않고 맞추기 위해 함께 둔다.
+	// 이 컬럼이 생기기 전에 저장된 메모는 MemoBodySizeBackfiller가 채울 때까지 null이다
+	private Integer bodySize;
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean bodyChanged;
+	// 저장소는 본문을 upsert한 뒤 참조만 돌려주므로, 이 영속성 컨텍스트에서 쓴 본문은 참조를 초기화하지 않고 읽는다
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private String writtenBody;
+
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
 
+	@Version
+	private Long version;
+
 	@Builder
 	private Memo(String title, String body, Member author) {
 		this.title = title;
-		this.body = body;
+		this.memoBody = MemoBody.of(body);
+		this.writtenBody = body;
+		this.bodyChanged = true;
+		this.preview = previewOf(body);
+		this.bodySize = bodySizeOf(body);
 		this.author = author;
 		this.createdAt = LocalDateTime.now();
 		this.updatedAt = createdAt;
@@ -58,16 +108,61 @@ public class Memo {
 		validateTitleAndBody(title, body);
 		assertAuthor(authorId);
 		this.title = title;
-		this.body = body;
+		// 옛 컬럼에 본문이 있는 메모는 내용이 같아도 이번 저장에서 본문 테이블로 옮긴다
+		if (memoBody == null || !hasBody(body)) {
+			this.memoBody = MemoBody.of(body);
+			this.legacyBody = null;
+			this.bodyChanged = true;
+			this.preview = previewOf(body);
+			this.bodySize = bodySizeOf(body);
+		}
+		this.writtenBody = body;
 		this.updatedAt = LocalDateTime.now();
 	}
 
-	private static void validateTitleAndBody(String title, String body) {
+	// 해시만 비교하므로 본문을 읽지 않는다
+	public boolean hasBody(String body) {
+		if (memoBody == null) {
+			return body.equals(legacyBody);
+		}
+		return MemoBody.hashOf(body).equals(memoBody.getHash());
+	}
+
+	public String getBody() {
+		if (writtenBody != null) {
+			return writtenBody;
+		}
+		return memoBody != null ? memoBody.getContent() : legacyBody;
+	}
+
+	void storeBody(UnaryOperator<MemoBody> store) {
+		if (bodyChanged) {
+			this.memoBody = store.apply(memoBody);
+			this.bodyChanged = false;
+		}
+	}
+
+	static void validateTitleAndBody(String title, String body) {
 		if (title == null || title.isBlank() || body == null || body.isBlank()) {
 			throw new IllegalArgumentException("title 또는 body는 null이거나 빈 문자열일 수 없습니다");
 		}
 	}
 
+	static String previewOf(String body) {
+		if (body == null || body.length() <= PREVIEW_LENGTH) {
+			return body;
+		}
+		int end = PREVIEW_LENGTH;
+		if (Character.isHighSurrogate(body.charAt(end - 1))) {
+			end--;
+		}
+		return body.substring(0, end);
+	}
+
+	static int bodySizeOf(String body) {
+		return body.getBytes(StandardCharsets.UTF_8).length;
+	}
+
 	private static void validateAuthor(Member author) {
 		if (author == null) {
 			throw new IllegalArgumentException("author는 null일 수 없습니다");
@@ -79,9 +174,20 @@ public class Memo {
 		return "Memo(id: " + id + ", title: " + title + ")";
 	}
 
+	public boolean isAuthoredBy(Long authorId) {
+		return this.author.getId().equals(authorId);
+	}
+
 	public void assertAuthor(Long authorId) {
-		if (!this.author.getId().equals(authorId)) {
+		if (!isAuthoredBy(authorId)) {
 			throw new NotMemoOwnerException(this.id, authorId);
 		}
 	}
+
+	// expectedVersion이 null이면 버전과 관계없이 허용한다
+	public void assertVersion(Long expectedVersion) {
+		if (expectedVersion != null && !expectedVersion.equals(this.version)) {
+			throw new MemoVersionConflictException(this.id, expectedVersion, this.version);
+		}
+	}
 }
@@ -0,0 +1,350 @@
+package cloud.memome.backend.memo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import cloud.memome.backend.member.event.MemberRemovingEvent;
+import cloud.memome.backend.memo.dto.AutosaveMemoDto;
+import cloud.memome.backend.memo.dto.AutosaveStatusDto;
+import cloud.memome.backend.memo.dto.AutosaveStatusDto.DropReason;
+import cloud.memome.backend.memo.dto.GetOwnedMemoDto;
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import cloud.memome.backend.memo.dto.MemoSummaryPageDto;
+import cloud.memome.backend.memo.dto.UpdateMemoDto;
+import cloud.memome.backend.memo.exception.MemoQuotaExceededException;
+import cloud.memome.backend.memo.exception.MemoVersionConflictException;
+import cloud.memome.backend.memo.exception.NotMemoOwnerException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 자동 저장은 메모별 최신 내용만 메모리에 들고 있다가, 편집이 멈추거나(idle-delay) 너무 오래 쌓이면(max-delay) 한 번에 쓴다.
+// 버퍼는 인스턴스마다 따로 있고 공유하지 않는다. 같은 메모의 자동 저장이 여러 인스턴스로 나뉘어 들어오면 각자 같은 기준 버전으로
+// 쓰므로 먼저 쓴 쪽만 반영되고 나머지는 버전 충돌로 버려진다(상태 조회로 알린다). 여러 인스턴스로 띄울 때는 /memos/{memoId}
+// 요청을 memoId 기준으로 한 인스턴스에 보내야 한다(application.yaml의 memome.memo.autosave 참고)
+@Slf4j
+@Component
+public class MemoAutosaveBuffer {
+	private static final int FLUSH_LOCK_STRIPES = 64;
+
+	private final MemoService memoService;
+	private final Duration idleDelay;
+	private final Duration maxDelay;
+	private final long maxBufferedBytes;
+	private final Duration droppedRetention;
+	private final Clock clock;
+	private final Executor flushExecutor;
+	private final Map<Long, PendingMemo> pending = new ConcurrentHashMap<>();
+	private final Map<Long, DroppedAutosave> droppedAutosaves = new ConcurrentHashMap<>();
+	private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+	// 같은 메모를 두 스레드가 동시에 쓰지 않게 한다. 메모마다 만들면 지울 때를 따로 챙겨야 하므로 나눠 쓴다
+	private final Lock[] flushLocks = new Lock[FLUSH_LOCK_STRIPES];
+	private final AtomicLong bufferedBytes = new AtomicLong();
+	private final Counter received;
+	private final Counter written;
+	private final Counter dropped;
+
+	public MemoAutosaveBuffer(MemoService memoService, MemoAutosaveProperties properties,
+		MeterRegistry meterRegistry) {
+		this(memoService, properties, meterRegistry, Clock.systemDefaultZone(), newFlushExecutor(properties));
+	}
+
+	MemoAutosaveBuffer(MemoService memoService, MemoAutosaveProperties properties, MeterRegistry meterRegistry,
+		Clock clock, Executor flushExecutor) {
+		if (properties.idleDelay().isNegative() || properties.maxDelay().compareTo(properties.idleDelay()) < 0) {
+			throw new IllegalArgumentException(
+				"max-delay는 idle-delay 이상이어야 합니다: " + properties.idleDelay() + ", " + properties.maxDelay());
+		}
+		this.memoService = memoService;
+		this.idleDelay = properties.idleDelay();
+		this.maxDelay = properties.maxDelay();
+		this.maxBufferedBytes = properties.maxBufferedSize().toBytes();
+		this.droppedRetention = properties.droppedRetention();
+		this.clock = clock;
+		this.flushExecutor = flushExecutor;
+		for (int i = 0; i < flushLocks.length; i++) {
+			flushLocks[i] = new ReentrantLock();
+		}
+		this.received = Counter.builder("memome.memo.autosave.received")
+			.register(meterRegistry);
+		this.written = Counter.builder("memome.memo.autosave.written")
+			.description("coalesced memo updates written to the database")
+			.register(meterRegistry);
+		this.dropped = Counter.builder("memome.memo.autosave.dropped")
+			.register(meterRegistry);
+		Gauge.builder("memome.memo.autosave.buffered.bytes", bufferedBytes, AtomicLong::get)
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		Gauge.builder("memome.memo.autosave.pending", pending, Map::size)
+			.register(meterRegistry);
+	}
+
+	// 스케줄러 스레드는 다른 작업과 함께 쓰므로 DB 쓰기는 크기가 정해진 전용 스레드에서 한다.
+	// 큐가 차면 그 메모는 이번 주기에 건너뛰고 다음 확인 때 다시 넣는다
+	private static ExecutorService newFlushExecutor(MemoAutosaveProperties properties) {
+		if (properties.flushThreads() < 1 || properties.flushQueueCapacity() < 1) {
+			throw new IllegalArgumentException("flush-threads와 flush-queue-capacity는 1 이상이어야 합니다: "
+				+ properties.flushThreads() + ", " + properties.flushQueueCapacity());
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		return new ThreadPoolExecutor(properties.flushThreads(), properties.flushThreads(), 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(properties.flushQueueCapacity()), runnable -> {
+			Thread thread = new Thread(runnable, "memo-autosave-flush-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void autosave(AutosaveMemoDto dto) {
+		Memo.validateTitleAndBody(dto.getTitle(), dto.getBody());
+		// 처음 버퍼에 올라가는 메모만 DB에서 소유자와 기준 버전을 확인한다. 그 뒤의 자동 저장은 DB를 건드리지 않는다
+		while (!tryBuffer(dto, pending.get(dto.getMemoId()))) {
+			Thread.onSpinWait();
+		}
+		received.increment();
+		droppedAutosaves.remove(dto.getMemoId());
+		if (bufferedBytes.get() > maxBufferedBytes) {
+			// 메모리 상한을 넘으면 방금 받은 메모를 바로 써서 버퍼를 비운다.
+			// 같은 메모를 다른 스레드가 쓰고 있으면 그 뒤에 방금 받은 내용까지 쓰도록 기다린다
+			flush(dto.getMemoId(), true);
+		}
+	}
+
+	private boolean tryBuffer(AutosaveMemoDto dto, PendingMemo current) {
+		Long baseVersion = null;
+		if (current == null || !current.authorId().equals(dto.getAuthorId())) {
+			baseVersion = memoService.getOwnedMemoVersion(new GetOwnedMemoDto(dto.getMemoId(), dto.getAuthorId()));
+		}
+		Instant now = clock.instant();
+		Long version = baseVersion;
+		PendingMemo saved = pending.compute(dto.getMemoId(), (memoId, previous) -> {
+			PendingMemo next;
+			if (previous != null) {
+				next = previous.next(dto.getTitle(), dto.getBody(), now);
+			} else if (version != null) {
+				next = new PendingMemo(dto.getAuthorId(), dto.getTitle(), dto.getBody(), version, now, now, 1);
+			} else {
+				// 확인한 사이에 플러시로 빠졌다. 기준 버전을 다시 읽는다
+				return null;
+			}
+			bufferedBytes.addAndGet(next.bytes() - (previous == null ? 0 : previous.bytes()));
+			return next;
+		});
+		return saved != null;
+	}
+
+	// 이 인스턴스가 받아 두고 아직 DB에 쓰지 않은 자동 저장 내용을 덮어서 보여준다. 다른 인스턴스에서 읽으면 DB 내용이 보인다
+	public MemoDto view(Memo memo) {
+		PendingMemo pendingMemo = pendingOf(memo.getId(), memo.getAuthor().getId());
+		if (pendingMemo == null) {
+			return MemoDto.from(memo);
+		}
+		return new MemoDto(memo.getId(), pendingMemo.title(), pendingMemo.body(), memo.getCreatedAt(),
+			toLocalDateTime(pendingMemo.lastSavedAt()), memo.getVersion());
+	}
+
+	public MemoSummaryPageDto view(MemoSummaryPageDto page, Long authorId) {
+		if (pending.isEmpty()) {
+			return page;
+		}
+		List<MemoSummaryDto> memos = page.getMemos().stream()
+			.map(summary -> {
+				PendingMemo pendingMemo = pendingOf(summary.getId(), authorId);
+				return pendingMemo == null ? summary
+					: new MemoSummaryDto(summary.getId(), pendingMemo.title(), Memo.previewOf(pendingMemo.body()),
+					summary.getCreatedAt(), toLocalDateTime(pendingMemo.lastSavedAt()));
+			})
+			.toList();
+		return new MemoSummaryPageDto(memos, page.getNextToken());
+	}
+
+	public boolean hasPending(Long memoId, Long authorId) {
+		return pendingOf(memoId, authorId) != null;
+	}
+
+	public AutosaveStatusDto status(Long memoId, Long authorId) {
+		PendingMemo pendingMemo = pendingOf(memoId, authorId);
+		DroppedAutosave droppedAutosave = droppedAutosaves.get(memoId);
+		if (droppedAutosave != null && !droppedAutosave.authorId().equals(authorId)) {
+			droppedAutosave = null;
+		}
+		return new AutosaveStatusDto(pendingMemo != null,
+			pendingMemo == null ? null : toLocalDateTime(pendingMemo.lastSavedAt()),
+			droppedAutosave == null ? null : droppedAutosave.reason(),
+			droppedAutosave == null ? null : toLocalDateTime(droppedAutosave.droppedAt()));
+	}
+
+	// 명시적인 수정/삭제가 자동 저장보다 우선한다
+	public void discard(Long memoId, Long authorId) {
+		droppedAutosaves.computeIfPresent(memoId,
+			(id, dropped) -> dropped.authorId().equals(authorId) ? null : dropped);
+		pending.computeIfPresent(memoId, (id, current) -> {
+			if (!current.authorId().equals(authorId)) {
+				return current;
+			}
+			bufferedBytes.addAndGet(-current.bytes());
+			return null;
+		});
+	}
+
+	@EventListener
+	public void onMemberRemoving(MemberRemovingEvent event) {
+		List.copyOf(pending.keySet()).forEach(memoId -> discard(memoId, event.getMemberId()));
+		droppedAutosaves.values().removeIf(dropped -> dropped.authorId().equals(event.getMemberId()));
+	}
+
+	@Scheduled(fixedDelayString = "${memome.memo.autosave.flush-check-interval:PT1S}")
+	public void flushDue() {
+		Instant now = clock.instant();
+		pending.forEach((memoId, pendingMemo) -> {
+			if (pendingMemo.isDue(now, idleDelay, maxDelay) && queued.add(memoId)) {
+				submitFlush(memoId);
+			}
+		});
+		droppedAutosaves.values().removeIf(dropped -> !now.isBefore(dropped.droppedAt().plus(droppedRetention)));
+	}
+
+	private void submitFlush(Long memoId) {
+		try {
+			flushExecutor.execute(() -> {
+				try {
+					flush(memoId, false);
+				} finally {
+					queued.remove(memoId);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			queued.remove(memoId);
+		}
+	}
+
+	@PreDestroy
+	public void flushAll() {
+		if (flushExecutor instanceof ExecutorService executor) {
+			executor.shutdown();
+			try {
+				if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+					log.warn("Autosave flush executor did not terminate in time");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		List.copyOf(pending.keySet()).forEach(memoId -> flush(memoId, true));
+		if (!pending.isEmpty()) {
+			log.warn("{} autosaved memos could not be written on shutdown", pending.size());
+		}
+	}
+
+	// 주기적인 플러시는 같은 메모를 이미 쓰고 있으면 건너뛰고(다음 주기에 다시 본다), 그 외에는 끝나기를 기다린다
+	void flush(Long memoId, boolean waitForRunning) {
+		Lock lock = flushLocks[Math.floorMod(memoId.hashCode(), flushLocks.length)];
+		if (waitForRunning) {
+			lock.lock();
+		} else if (!lock.tryLock()) {
+			return;
+		}
+		try {
+			PendingMemo snapshot = pending.get(memoId);
+			if (snapshot != null) {
+				write(memoId, snapshot);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void write(Long memoId, PendingMemo snapshot) {
+		Long writtenVersion;
+		try {
+			writtenVersion = memoService.updateMemo(new UpdateMemoDto(memoId, snapshot.authorId(), snapshot.title(),
+				snapshot.body(), snapshot.baseVersion())).getVersion();
+			written.increment();
+		} catch (MemoVersionConflictException | OptimisticLockingFailureException | NoSuchElementException
+				 | NotMemoOwnerException e) {
+			// 그 사이 다른 곳에서 수정되거나 지워졌다. 기준 버전이 낡았으므로 뒤에 쌓인 내용도 함께 버린다
+			drop(memoId, snapshot, DropReason.CONFLICT, e);
+			writtenVersion = null;
+		} catch (MemoQuotaExceededException e) {
+			// 다시 써도 할당량을 넘으므로 버린다
+			drop(memoId, snapshot, DropReason.QUOTA_EXCEEDED, e);
+			writtenVersion = null;
+		} catch (RuntimeException e) {
+			// 일시적인 장애일 수 있으니 남겨 두고 다음 주기에 다시 쓴다
+			log.warn("Failed to write autosaved content of memo {}", memoId, e);
+			return;
+		}
+		Long version = writtenVersion;
+		pending.computeIfPresent(memoId, (id, current) -> {
+			if (version != null && current.sequence() != snapshot.sequence()) {
+				// 쓰는 동안 새 자동 저장이 들어왔다. 방금 쓴 버전을 기준으로 남겨 둔다
+				return current.rebase(version);
+			}
+			bufferedBytes.addAndGet(-current.bytes());
+			return null;
+		});
+	}
+
+	// 클라이언트는 이미 202를 받았으므로 상태 조회로 알 수 있게 남긴다
+	private void drop(Long memoId, PendingMemo snapshot, DropReason reason, RuntimeException cause) {
+		log.warn("Dropped autosaved content of memo {}: {}", memoId, cause.getMessage());
+		dropped.increment();
+		droppedAutosaves.put(memoId, new DroppedAutosave(snapshot.authorId(), reason, clock.instant()));
+	}
+
+	private PendingMemo pendingOf(Long memoId, Long authorId) {
+		PendingMemo pendingMemo = pending.get(memoId);
+		return pendingMemo != null && pendingMemo.authorId().equals(authorId) ? pendingMemo : null;
+	}
+
+	private LocalDateTime toLocalDateTime(Instant instant) {
+		return LocalDateTime.ofInstant(instant, clock.getZone());
+	}
+
+	private record DroppedAutosave(Long authorId, DropReason reason, Instant droppedAt) {
+	}
+
+	private record PendingMemo(Long authorId, String title, String body, Long baseVersion, Instant firstSavedAt,
+							   Instant lastSavedAt, long sequence) {
+		PendingMemo next(String title, String body, Instant now) {
+			return new PendingMemo(authorId, title, body, baseVersion, firstSavedAt, now, sequence + 1);
+		}
+
+		PendingMemo rebase(Long baseVersion) {
+			return new PendingMemo(authorId, title, body, baseVersion, lastSavedAt, lastSavedAt, sequence);
+		}
+
+		boolean isDue(Instant now, Duration idleDelay, Duration maxDelay) {
+			return !now.isBefore(lastSavedAt.plus(idleDelay)) || !now.isBefore(firstSavedAt.plus(maxDelay));
+		}
+
+		long bytes() {
+			return 2L * (title.length() + body.length());
+		}
+	}
+}
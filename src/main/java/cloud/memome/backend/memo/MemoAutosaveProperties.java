@@ -0,0 +1,18 @@
+package cloud.memome.backend.memo;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("memome.memo.autosave")
+public record MemoAutosaveProperties(
+	@DefaultValue("3s") Duration idleDelay,
+	@DefaultValue("30s") Duration maxDelay,
+	@DefaultValue("64MB") DataSize maxBufferedSize,
+	@DefaultValue("4") int flushThreads,
+	@DefaultValue("1000") int flushQueueCapacity,
+	@DefaultValue("1h") Duration droppedRetention
+) {
+}
@@ -0,0 +1,91 @@
+package cloud.memome.backend.memo;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.springframework.data.domain.Persistable;
+
+import cloud.memome.backend.common.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 해시로 주소를 정하므로 한 번 쓴 본문은 바뀌지 않는다
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCacheConfig.MEMO_BODY_REGION)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MemoBody implements Persistable<String> {
+	private static final String HASH_ALGORITHM = "SHA-256";
+
+	@Id
+	@Column(length = 64)
+	private String hash;
+	@Lob
+	@Convert(converter = MemoBodyContentConverter.class)
+	private String content;
+	// 마지막으로 쓰인(새로 넣거나 다른 메모가 다시 가리킨) 시각. sweep은 이 시각이 유예 기간보다 오래된 본문만 지운다
+	private LocalDateTime storedAt;
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean persisted;
+
+	private MemoBody(String hash, String content) {
+		this.hash = hash;
+		this.content = content;
+		this.storedAt = LocalDateTime.now();
+	}
+
+	public static MemoBody of(String content) {
+		if (content == null) {
+			throw new IllegalArgumentException("content는 null일 수 없습니다");
+		}
+		return new MemoBody(hashOf(content), content);
+	}
+
+	public static String hashOf(String content) {
+		try {
+			byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(HASH_ALGORITHM + " is not supported", e);
+		}
+	}
+
+	@Override
+	public String getId() {
+		return hash;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markPersisted() {
+		this.persisted = true;
+	}
+
+	@Override
+	public String toString() {
+		return "MemoBody(hash: " + hash + ")";
+	}
+}
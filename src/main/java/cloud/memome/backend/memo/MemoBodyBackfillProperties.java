@@ -0,0 +1,10 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.memo.body-backfill")
+public record MemoBodyBackfillProperties(
+	@DefaultValue("500") int pageSize
+) {
+}
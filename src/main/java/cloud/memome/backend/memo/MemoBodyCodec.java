@@ -0,0 +1,116 @@
+package cloud.memome.backend.memo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// memo_body.content의 저장 형식. 접두어가 없는 값은 압축 도입 이전의 평문이다
+//   "\u0001z" + base64(deflate(utf-8)) : 압축
+//   "\u0001r" + 평문                    : 접두어 문자로 시작하는 평문, 또는 재압축해도 줄지 않아 평문으로 둔 본문
+@Component
+public class MemoBodyCodec {
+	static final char MARKER = '\u0001';
+	private static final String DEFLATE_PREFIX = MARKER + "z";
+	private static final String RAW_PREFIX = MARKER + "r";
+
+	private final MemoBodyCompressionProperties properties;
+	private final Counter rawBytes;
+	private final Counter storedBytes;
+	private final DistributionSummary compressionRatio;
+
+	public MemoBodyCodec(MemoBodyCompressionProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.rawBytes = Counter.builder("memome.memo.body.raw.bytes")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		this.storedBytes = Counter.builder("memome.memo.body.stored.bytes")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		this.compressionRatio = DistributionSummary.builder("memome.memo.body.compression.ratio")
+			.description("stored size / raw size of compressed memo bodies")
+			.register(meterRegistry);
+	}
+
+	static MemoBodyCodec withDefaults() {
+		return new MemoBodyCodec(MemoBodyCompressionProperties.DEFAULT, new SimpleMeterRegistry());
+	}
+
+	public String encode(String content) {
+		if (content == null) {
+			return null;
+		}
+		byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+		String stored = properties.enabled() && raw.length >= properties.threshold().toBytes()
+			? compressOrNull(raw) : null;
+		if (stored == null) {
+			stored = content.isEmpty() || content.charAt(0) != MARKER ? content : RAW_PREFIX + content;
+		} else {
+			compressionRatio.record((double)stored.length() / raw.length);
+		}
+		rawBytes.increment(raw.length);
+		// 압축 형식은 ASCII라 글자 수가 곧 바이트 수다. 평문은 붙인 접두어(ASCII)만큼만 늘어난다
+		storedBytes.increment(isCompressed(stored) ? stored.length() : raw.length + stored.length() - content.length());
+		return stored;
+	}
+
+	public String decode(String stored) {
+		if (stored == null || stored.isEmpty() || stored.charAt(0) != MARKER) {
+			return stored;
+		}
+		if (stored.startsWith(RAW_PREFIX)) {
+			return stored.substring(RAW_PREFIX.length());
+		}
+		if (stored.startsWith(DEFLATE_PREFIX)) {
+			return decompress(stored.substring(DEFLATE_PREFIX.length()));
+		}
+		throw new IllegalStateException("Unknown memo body format: " + stored.substring(0, 2));
+	}
+
+	// 접두어가 없는 평문을 다시 압축한다. 새로 들어온 본문이 아니므로 지표에 더하지 않는다.
+	// 줄지 않으면 접두어를 붙여서, 재압축이 이미 시도한 본문을 다시 고르지 않게 한다
+	public String recompress(String plain) {
+		String compressed = compressOrNull(plain.getBytes(StandardCharsets.UTF_8));
+		return compressed != null ? compressed : RAW_PREFIX + plain;
+	}
+
+	public boolean isCompressed(String stored) {
+		return stored != null && stored.startsWith(DEFLATE_PREFIX);
+	}
+
+	// 압축해도 줄지 않으면(이미 압축된 데이터 등) null
+	private String compressOrNull(byte[] raw) {
+		Deflater deflater = new Deflater(properties.level());
+		ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+		try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+			deflaterOut.write(raw);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			deflater.end();
+		}
+		String stored = DEFLATE_PREFIX + Base64.getEncoder().encodeToString(out.toByteArray());
+		return stored.length() < raw.length ? stored : null;
+	}
+
+	private static String decompress(String encoded) {
+		byte[] compressed = Base64.getDecoder().decode(encoded);
+		try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Corrupted compressed memo body", e);
+		}
+	}
+}
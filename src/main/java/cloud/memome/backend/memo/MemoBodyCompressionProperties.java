@@ -0,0 +1,16 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("memome.memo.compression")
+public record MemoBodyCompressionProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("1KB") DataSize threshold,
+	@DefaultValue("6") int level,
+	@DefaultValue("100") int recompressPageSize
+) {
+	static final MemoBodyCompressionProperties DEFAULT = new MemoBodyCompressionProperties(
+		true, DataSize.ofKilobytes(1), 6, 100);
+}
@@ -0,0 +1,31 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class MemoBodyContentConverter implements AttributeConverter<String, String> {
+	private final MemoBodyCodec memoBodyCodec;
+
+	// 스프링 빈 컨테이너 없이 만들어지면(JPA 슬라이스 테스트 등) 기본 설정을 쓴다
+	public MemoBodyContentConverter() {
+		this(MemoBodyCodec.withDefaults());
+	}
+
+	@Autowired
+	public MemoBodyContentConverter(MemoBodyCodec memoBodyCodec) {
+		this.memoBodyCodec = memoBodyCodec;
+	}
+
+	@Override
+	public String convertToDatabaseColumn(String content) {
+		return memoBodyCodec.encode(content);
+	}
+
+	@Override
+	public String convertToEntityAttribute(String stored) {
+		return memoBodyCodec.decode(stored);
+	}
+}
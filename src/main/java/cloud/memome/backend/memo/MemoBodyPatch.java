@@ -0,0 +1,33 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+
+import cloud.memome.backend.memo.dto.TextEditDto;
+
+final class MemoBodyPatch {
+	private MemoBodyPatch() {
+	}
+
+	// 편집은 모두 기준 본문의 위치로 표현되며, offset 오름차순이고 서로 겹치지 않아야 한다
+	static String apply(String base, List<TextEditDto> edits) {
+		if (edits == null || edits.isEmpty()) {
+			return base;
+		}
+		StringBuilder result = new StringBuilder(base.length());
+		int cursor = 0;
+		for (TextEditDto edit : edits) {
+			int offset = edit.getOffset();
+			int delete = edit.getDelete();
+			if (offset < cursor || delete < 0 || delete > base.length() - offset) {
+				throw new IllegalArgumentException(
+					"편집 범위가 올바르지 않습니다: offset=" + offset + ", delete=" + delete + ", length=" + base.length());
+			}
+			result.append(base, cursor, offset);
+			if (edit.getInsert() != null) {
+				result.append(edit.getInsert());
+			}
+			cursor = offset + delete;
+		}
+		return result.append(base, cursor, base.length()).toString();
+	}
+}
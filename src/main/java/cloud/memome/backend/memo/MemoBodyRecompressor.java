@@ -0,0 +1,61 @@
+package cloud.memome.backend.memo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoBodyRecompressor {
+	// 접두어가 없고(압축 이전의 평문이고 재압축도 아직 시도하지 않은) 임계값 이상인 본문만 고른다.
+	// 건너뛰는 행의 내용은 DB 밖으로 가져오지 않는다
+	private static final String SELECT_PAGE =
+		"select hash, content from memo_body where hash > ? and left(content, 1) <> ? and octet_length(content) >= ?"
+			+ " order by hash limit ?";
+	private static final String UPDATE_CONTENT = "update memo_body set content = ? where hash = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MemoBodyCodec memoBodyCodec;
+	private final MemoBodyCompressionProperties properties;
+
+	// 압축 도입 이전에 저장됐거나 임계값 변경 전에 평문으로 남은 본문을 다시 압축한다.
+	// 컨버터를 거치면 엔티티 값은 같아 보여 dirty checking에 걸리지 않으므로 컬럼 값을 직접 읽고 쓴다.
+	// 압축해도 줄지 않는 본문은 접두어를 붙여 두므로 다음 실행에서는 고르지 않는다
+	@Scheduled(cron = "${memome.memo.compression.recompress-cron:0 30 4 * * *}")
+	public void recompress() {
+		if (!properties.enabled()) {
+			return;
+		}
+		String lastHash = "";
+		int tried = 0;
+		int recompressed = 0;
+		while (true) {
+			List<String[]> page = jdbcTemplate.query(SELECT_PAGE,
+				(rs, rowNum) -> new String[] {rs.getString("hash"), rs.getString("content")},
+				lastHash, String.valueOf(MemoBodyCodec.MARKER), properties.threshold().toBytes(),
+				properties.recompressPageSize());
+			if (page.isEmpty()) {
+				break;
+			}
+			List<Object[]> updates = new ArrayList<>();
+			for (String[] row : page) {
+				String stored = memoBodyCodec.recompress(row[1]);
+				if (memoBodyCodec.isCompressed(stored)) {
+					recompressed++;
+				}
+				updates.add(new Object[] {stored, row[0]});
+			}
+			jdbcTemplate.batchUpdate(UPDATE_CONTENT, updates);
+			tried += page.size();
+			lastHash = page.getLast()[0];
+		}
+		log.info("Recompressed {} of {} uncompressed memo bodies", recompressed, tried);
+	}
+}
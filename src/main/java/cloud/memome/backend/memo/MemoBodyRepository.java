@@ -0,0 +1,19 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemoBodyRepository extends JpaRepository<MemoBody, String>, MemoBodyRepositoryCustom {
+	// stored_at이 없는 본문은 이 컬럼이 생기기 전에 쓰인 것이다
+	@Modifying
+	@Query("delete from MemoBody b"
+		+ " where (b.storedAt is null or b.storedAt < :storedBefore)"
+		+ " and not exists (select m.id from Memo m where m.memoBody = b)"
+		+ " and not exists (select r.id from MemoRevision r where r.snapshotBody = b)")
+	int deleteUnreferenced(LocalDateTime storedBefore);
+}
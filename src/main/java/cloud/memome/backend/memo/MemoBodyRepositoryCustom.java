@@ -0,0 +1,7 @@
+package cloud.memome.backend.memo;
+
+import java.util.Collection;
+
+public interface MemoBodyRepositoryCustom {
+	void upsertAll(Collection<MemoBody> memoBodies);
+}
@@ -0,0 +1,64 @@
+package cloud.memome.backend.memo;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.ObjectProvider;
+
+import jakarta.persistence.EntityManager;
+
+public class MemoBodyRepositoryCustomImpl implements MemoBodyRepositoryCustom {
+	private static final String COLUMNS = "hash, content, stored_at";
+	private static final String ROW = "(?, ?, ?)";
+
+	// 이미 있는 본문은 내용을 다시 쓰지 않고 stored_at만 갱신한다. 동시에 같은 본문이 들어와도 먼저 커밋된 쪽을
+	// 기다린 뒤 예외 없이 끝나고, 갱신된 stored_at 덕분에 아직 커밋되지 않은 메모가 가리킬 본문을 sweep이 지우지 않는다
+	private static final String MYSQL_UPSERT_PREFIX = "insert into memo_body (" + COLUMNS + ") values ";
+	private static final String MYSQL_UPSERT_SUFFIX = " as new on duplicate key update stored_at = new.stored_at";
+	// H2는 개발/테스트용이라 같은 내용을 덮어쓰는 MERGE로 충분하다
+	private static final String MERGE_PREFIX = "merge into memo_body (" + COLUMNS + ") key (hash) values ";
+
+	// 본문은 READ_ONLY로 캐시되고 같은 해시면 내용도 같으므로, 캐시된 엔티티와 겹치지 않는 공간으로 알려 2차 캐시를 비우지 않게 한다
+	private static final String QUERY_SPACE = "memo_body_upsert";
+
+	private final EntityManager entityManager;
+	private final MemoBodyCodec memoBodyCodec;
+
+	// 스프링 빈 컨테이너에 코덱이 없으면(JPA 슬라이스 테스트 등) 컨버터와 같은 기본 설정을 쓴다
+	public MemoBodyRepositoryCustomImpl(EntityManager entityManager, ObjectProvider<MemoBodyCodec> memoBodyCodec) {
+		this.entityManager = entityManager;
+		this.memoBodyCodec = memoBodyCodec.getIfAvailable(MemoBodyCodec::withDefaults);
+	}
+
+	// 네이티브 쿼리는 컨버터를 거치지 않으므로 content를 직접 인코딩한다.
+	// 여러 트랜잭션이 겹치는 본문을 쓸 때 서로 다른 순서로 잠가 교착되지 않도록 해시 순으로 쓴다
+	@Override
+	public void upsertAll(Collection<MemoBody> memoBodies) {
+		if (memoBodies.isEmpty()) {
+			return;
+		}
+		List<MemoBody> sorted = memoBodies.stream()
+			.sorted(Comparator.comparing(MemoBody::getHash))
+			.toList();
+		SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+		boolean mysql = session.getFactory().getJdbcServices().getDialect() instanceof MySQLDialect;
+		String rows = String.join(", ", Collections.nCopies(sorted.size(), ROW));
+
+		var query = entityManager.createNativeQuery(mysql
+			? MYSQL_UPSERT_PREFIX + rows + MYSQL_UPSERT_SUFFIX
+			: MERGE_PREFIX + rows);
+		int position = 1;
+		for (MemoBody memoBody : sorted) {
+			query.setParameter(position++, memoBody.getHash())
+				.setParameter(position++, memoBodyCodec.encode(memoBody.getContent()))
+				.setParameter(position++, memoBody.getStoredAt());
+		}
+		query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(QUERY_SPACE);
+		query.executeUpdate();
+	}
+}
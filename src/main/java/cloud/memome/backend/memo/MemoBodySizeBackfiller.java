@@ -0,0 +1,60 @@
+package cloud.memome.backend.memo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoBodySizeBackfiller {
+	private static final String SELECT_PAGE = "select m.id, m.body_hash, b.content from memo m"
+		+ " join memo_body b on b.hash = m.body_hash"
+		+ " where m.id > ? and m.body_size is null order by m.id limit ?";
+	// 그 사이 본문이 바뀌었으면 새 크기가 이미 들어 있으므로 건드리지 않는다
+	private static final String UPDATE_SIZE =
+		"update memo set body_size = ? where id = ? and body_hash = ? and body_size is null";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MemoBodyCodec memoBodyCodec;
+	private final MemberUsageProperties properties;
+	private final EntityManagerFactory entityManagerFactory;
+
+	// 본문 크기 컬럼이 생기기 전에 저장된 메모의 크기를 채운다. 사용량 보정(05:00)보다 먼저 돌아
+	// 보정이 정확한 바이트 합으로 회원의 바이트 할당량을 다시 켤 수 있게 한다
+	@Scheduled(cron = "${memome.memo.usage.backfill-cron:0 35 4 * * *}")
+	public void backfill() {
+		Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		long lastId = 0;
+		int filled = 0;
+		while (true) {
+			List<Object[]> page = jdbcTemplate.query(SELECT_PAGE,
+				(rs, rowNum) -> new Object[] {rs.getLong("id"), rs.getString("body_hash"), rs.getString("content")},
+				lastId, properties.backfillPageSize());
+			if (page.isEmpty()) {
+				break;
+			}
+			List<Object[]> updates = new ArrayList<>();
+			for (Object[] row : page) {
+				String body = memoBodyCodec.decode((String)row[2]);
+				updates.add(new Object[] {body.getBytes(StandardCharsets.UTF_8).length, row[0], row[1]});
+			}
+			jdbcTemplate.batchUpdate(UPDATE_SIZE, updates);
+			// 캐시에 남은 메모는 크기가 null인 채로 보이므로 채운 메모만 내린다
+			page.forEach(row -> cache.evictEntityData(Memo.class, row[0]));
+			filled += page.size();
+			lastId = (Long)page.getLast()[0];
+		}
+		log.info("Backfilled body size of {} memos", filled);
+	}
+}
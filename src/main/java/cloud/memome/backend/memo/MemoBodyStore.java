@@ -0,0 +1,35 @@
+package cloud.memome.backend.memo;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MemoBodyStore {
+	private final MemoBodyRepository memoBodyRepository;
+
+	// 있는지 확인한 뒤 넣으면 같은 본문을 동시에 쓸 때 중복 키로 실패하므로, 확인 없이 한 번에 upsert한다
+	public MemoBody store(MemoBody memoBody) {
+		memoBodyRepository.upsertAll(List.of(memoBody));
+		return memoBodyRepository.getReferenceById(memoBody.getHash());
+	}
+
+	public Map<String, MemoBody> storeAll(Collection<MemoBody> memoBodies) {
+		Map<String, MemoBody> distinct = new LinkedHashMap<>();
+		memoBodies.forEach(memoBody -> distinct.putIfAbsent(memoBody.getHash(), memoBody));
+		if (distinct.isEmpty()) {
+			return distinct;
+		}
+
+		memoBodyRepository.upsertAll(distinct.values());
+		Map<String, MemoBody> stored = new LinkedHashMap<>();
+		distinct.keySet().forEach(hash -> stored.put(hash, memoBodyRepository.getReferenceById(hash)));
+		return stored;
+	}
+}
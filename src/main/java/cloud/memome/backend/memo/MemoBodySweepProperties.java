@@ -0,0 +1,12 @@
+package cloud.memome.backend.memo;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.memo.body-sweep")
+public record MemoBodySweepProperties(
+	@DefaultValue("1h") Duration grace
+) {
+}
@@ -0,0 +1,39 @@
+package cloud.memome.backend.memo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MemoBodySweeper {
+	private final MemoBodyRepository memoBodyRepository;
+	private final Duration grace;
+	private final Clock clock;
+
+	public MemoBodySweeper(MemoBodyRepository memoBodyRepository, MemoBodySweepProperties properties) {
+		this(memoBodyRepository, properties, Clock.systemDefaultZone());
+	}
+
+	MemoBodySweeper(MemoBodyRepository memoBodyRepository, MemoBodySweepProperties properties, Clock clock) {
+		this.memoBodyRepository = memoBodyRepository;
+		this.grace = properties.grace();
+		this.clock = clock;
+	}
+
+	// 본문은 여러 메모가 공유하므로 메모 삭제/수정 시점이 아닌 주기적인 sweep으로 정리한다.
+	// 본문을 쓰고 나서 그 본문을 가리키는 메모가 커밋되기 전에는 아무도 참조하지 않는 것처럼 보이므로,
+	// 유예 기간 안에 쓰인 본문은 남겨 둔다
+	@Transactional
+	@Scheduled(cron = "${memome.memo.body-sweep-cron:0 0 4 * * *}")
+	public void sweepUnreferencedBodies() {
+		int deleted = memoBodyRepository.deleteUnreferenced(LocalDateTime.now(clock).minus(grace));
+		log.info("Swept {} unreferenced memo bodies", deleted);
+	}
+}
@@ -0,0 +1,58 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.ColumnTransformer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회원별 변경 피드. id가 변경 순번이고, 메모마다 가장 최근 변경 한 행만 남는다(삭제는 tombstone).
+// 인스턴스가 여러 개여도 순번이 발급 순서대로 커지도록 DB의 auto increment로 insert 때 받는다.
+// 미리 할당받는 시퀀스는 노드마다 구간이 달라 순서가 섞이고, MySQL에는 시퀀스가 없어 할당 없는 시퀀스는
+// 쓰기마다 별도 커넥션으로 시퀀스 테이블 한 행을 잠그게 된다. 발급 순서와 커밋 순서의 차이는 읽는 쪽이 settle-window로 메운다
+@Entity
+@Table(indexes = {
+	@Index(name = "idx_memo_change_author_id", columnList = "author_id, id"),
+	@Index(name = "idx_memo_change_memo_id", columnList = "memo_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MemoChange {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "author_id", nullable = false)
+	private Long authorId;
+	@Column(name = "memo_id", nullable = false)
+	private Long memoId;
+	private boolean removed;
+	// 앱 노드의 시계가 아니라 DB 시계로 insert 시각을 남긴다(엔티티 값은 비어 있고 DB가 채운다).
+	// 동기화도 같은 DB 시계로 settle-window를 재므로, 노드 간 시계 차이로 커밋 전의 변경을 건너뛰지 않는다
+	@ColumnTransformer(write = "coalesce(?, localtimestamp(6))")
+	@Column(updatable = false)
+	private LocalDateTime changedAt;
+
+	private MemoChange(Long authorId, Long memoId, boolean removed) {
+		this.authorId = authorId;
+		this.memoId = memoId;
+		this.removed = removed;
+	}
+
+	public static MemoChange saved(Long authorId, Long memoId) {
+		return new MemoChange(authorId, memoId, false);
+	}
+
+	public static MemoChange removed(Long authorId, Long memoId) {
+		return new MemoChange(authorId, memoId, true);
+	}
+}
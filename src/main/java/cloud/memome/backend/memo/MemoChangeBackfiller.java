@@ -0,0 +1,59 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.memo.dto.MemoOwnerDto;
+import lombok.extern.slf4j.Slf4j;
+
+// 변경 피드가 생기기 전에 만들어진 메모는 변경 행이 없어서, 처음 동기화하는 클라이언트가 받지 못한다.
+// 그런 메모마다 저장 변경을 하나씩 남긴다. 새 순번이라 이미 토큰을 가진 클라이언트에게도 한 번 더 가지만 결과는 같다.
+// 메모 id 순서로 페이지마다 트랜잭션을 끊고, 채울 메모가 없으면 변경 행 인덱스만 확인하고 끝난다
+@Slf4j
+@Component
+public class MemoChangeBackfiller {
+	private final MemoRepository memoRepository;
+	private final MemoChangeRepository memoChangeRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final int pageSize;
+
+	public MemoChangeBackfiller(MemoRepository memoRepository, MemoChangeRepository memoChangeRepository,
+		TransactionTemplate transactionTemplate, MemoSyncProperties properties) {
+		if (properties.backfillPageSize() < 1) {
+			throw new IllegalArgumentException(
+				"backfill-page-size는 1 이상이어야 합니다: " + properties.backfillPageSize());
+		}
+		this.memoRepository = memoRepository;
+		this.memoChangeRepository = memoChangeRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.pageSize = properties.backfillPageSize();
+	}
+
+	@Scheduled(cron = "${memome.memo.sync.backfill-cron:0 50 4 * * *}")
+	public void backfill() {
+		long afterId = 0;
+		long backfilled = 0;
+		List<MemoOwnerDto> page;
+		do {
+			long cursor = afterId;
+			page = transactionTemplate.execute(status -> backfillPage(cursor));
+			if (!page.isEmpty()) {
+				afterId = page.getLast().getMemoId();
+			}
+			backfilled += page.size();
+		} while (page.size() == pageSize);
+		log.info("Backfilled memo changes for {} memos", backfilled);
+	}
+
+	private List<MemoOwnerDto> backfillPage(long afterId) {
+		List<MemoOwnerDto> memos = memoRepository.findWithoutChangeAfter(afterId, PageRequest.ofSize(pageSize));
+		memoChangeRepository.saveAll(memos.stream()
+			.map(memo -> MemoChange.saved(memo.getAuthorId(), memo.getMemoId()))
+			.toList());
+		return memos;
+	}
+}
@@ -0,0 +1,40 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoChangeRecorder {
+	private final MemoChangeRepository memoChangeRepository;
+	private final MemoSyncProperties properties;
+
+	public void recordCreated(Memo memo) {
+		memoChangeRepository.save(MemoChange.saved(memo.getAuthor().getId(), memo.getId()));
+	}
+
+	// 이전 변경 행은 새 변경에 가려지므로 같은 트랜잭션에서 지워서, 동기화 비용이 메모 수가 아닌 변경 수를 따르게 한다
+	public void recordUpdated(Memo memo) {
+		memoChangeRepository.deleteByMemoId(memo.getId());
+		memoChangeRepository.save(MemoChange.saved(memo.getAuthor().getId(), memo.getId()));
+	}
+
+	public void recordRemoved(Long authorId, Long memoId) {
+		memoChangeRepository.deleteByMemoId(memoId);
+		memoChangeRepository.save(MemoChange.removed(authorId, memoId));
+	}
+
+	// 보존 기간이 지난 tombstone을 지운다. 그보다 오래된 sync token은 만료로 처리된다
+	@Transactional
+	@Scheduled(cron = "${memome.memo.sync.tombstone-sweep-cron:0 45 4 * * *}")
+	public void sweepTombstones() {
+		int deleted = memoChangeRepository.deleteTombstonesBefore(
+			memoChangeRepository.currentTimestamp().minus(properties.tombstoneRetention()));
+		log.info("Swept {} memo tombstones", deleted);
+	}
+}
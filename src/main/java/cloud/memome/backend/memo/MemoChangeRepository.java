@@ -0,0 +1,40 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemoChangeRepository extends JpaRepository<MemoChange, Long>, MemoChangeRepositoryCustom {
+	@Query("select c from MemoChange c where c.authorId = :authorId and c.id > :afterId order by c.id")
+	List<MemoChange> findByAuthorIdAfter(Long authorId, Long afterId, Pageable pageable);
+
+	@Query("select c from MemoChange c where c.id > :afterId order by c.id")
+	List<MemoChange> findAfter(Long afterId, Pageable pageable);
+
+	@Query("select max(c.id) from MemoChange c where c.changedAt < :before")
+	Optional<Long> findLastIdBefore(LocalDateTime before);
+
+	@Modifying
+	@Query("delete from MemoChange c where c.memoId = :memoId")
+	int deleteByMemoId(Long memoId);
+
+	@Modifying
+	@Query("delete from MemoChange c where c.memoId in :memoIds")
+	int deleteByMemoIdIn(Collection<Long> memoIds);
+
+	@Modifying
+	@Query("delete from MemoChange c where c.authorId = :authorId")
+	int deleteByAuthorId(Long authorId);
+
+	@Modifying
+	@Query("delete from MemoChange c where c.removed = true and c.changedAt < :before")
+	int deleteTombstonesBefore(LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+public interface MemoChangeRepositoryCustom {
+	LocalDateTime currentTimestamp();
+}
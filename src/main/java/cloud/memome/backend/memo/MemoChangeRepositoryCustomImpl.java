@@ -0,0 +1,25 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.query.NativeQuery;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class MemoChangeRepositoryCustomImpl implements MemoChangeRepositoryCustom {
+	// MemoChange.changedAt을 채우는 식과 같은 DB 시계
+	private static final String CURRENT_TIMESTAMP = "select localtimestamp(6)";
+	// 어떤 엔티티와도 겹치지 않는 공간으로 알려서 조회 전에 flush하거나 2차 캐시를 건드리지 않게 한다
+	private static final String QUERY_SPACE = "memo_change_clock";
+
+	private final EntityManager entityManager;
+
+	@Override
+	public LocalDateTime currentTimestamp() {
+		var query = entityManager.createNativeQuery(CURRENT_TIMESTAMP, LocalDateTime.class);
+		query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(QUERY_SPACE);
+		return (LocalDateTime)query.getSingleResult();
+	}
+}
@@ -0,0 +1,130 @@
+package cloud.memome.backend.memo;
+
+import java.net.URI;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import cloud.memome.backend.auth.LoginMember;
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.MemberService;
+import cloud.memome.backend.memo.dto.AutosaveMemoDto;
+import cloud.memome.backend.memo.dto.AutosaveStatusDto;
+import cloud.memome.backend.memo.dto.CreateMemoDto;
+import cloud.memome.backend.memo.dto.EditMemoDto;
+import cloud.memome.backend.memo.dto.GetOwnedMemoDto;
+import cloud.memome.backend.memo.dto.GetOwnedMemoSummariesDto;
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.dto.MemoSummaryPageDto;
+import cloud.memome.backend.memo.dto.PatchMemoDto;
+import cloud.memome.backend.memo.dto.RemoveMemoDto;
+import cloud.memome.backend.memo.dto.UpdateMemoDto;
+import cloud.memome.backend.memo.dto.WriteMemoDto;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/memos")
+@RequiredArgsConstructor
+public class MemoController {
+	private final MemoService memoService;
+	private final MemberService memberService;
+	private final MemoAutosaveBuffer memoAutosaveBuffer;
+
+	@GetMapping
+	public ResponseEntity<MemoSummaryPageDto> getMemos(@LoginMember Long memberId,
+		@RequestParam(required = false) Integer limit, @RequestParam(required = false) String continuationToken) {
+		MemoSummaryPageDto page = memoAutosaveBuffer.view(memoService.getOwnedMemoSummaries(
+			new GetOwnedMemoSummariesDto(memberId, limit, continuationToken)), memberId);
+		return ResponseEntity.ok()
+			.eTag(MemoETag.of(page))
+			.body(page);
+	}
+
+	@GetMapping("/{memoId}")
+	public ResponseEntity<MemoDto> getMemo(@LoginMember Long memberId, @PathVariable Long memoId,
+		WebRequest webRequest) {
+		GetOwnedMemoDto dto = new GetOwnedMemoDto(memoId, memberId);
+		// If-None-Match가 있으면 버전만 조회해서, 같으면 본문을 읽지 않고 304로 응답한다.
+		// 아직 쓰지 않은 자동 저장 내용이 있으면 버전이 같아도 내용이 다르므로 건너뛴다
+		if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null && !memoAutosaveBuffer.hasPending(memoId, memberId)
+			&& webRequest.checkNotModified(MemoETag.of(memoService.getOwnedMemoVersion(dto)))) {
+			return null;
+		}
+		Memo memo = memoService.getOwnedMemo(dto);
+		MemoDto view = memoAutosaveBuffer.view(memo);
+		return ResponseEntity.ok()
+			.eTag(MemoETag.of(memo, view))
+			.body(view);
+	}
+
+	@PostMapping
+	public ResponseEntity<MemoDto> createMemo(@LoginMember Long memberId, @RequestBody WriteMemoDto dto) {
+		Member author = memberService.getMemberById(memberId);
+		Memo memo = memoService.createNewMemo(new CreateMemoDto(dto.getTitle(), dto.getBody(), author));
+		URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+			.path("/{memoId}")
+			.buildAndExpand(memo.getId())
+			.toUri();
+		return ResponseEntity.created(location)
+			.eTag(MemoETag.of(memo.getVersion()))
+			.body(MemoDto.from(memo));
+	}
+
+	@PutMapping("/{memoId}")
+	public ResponseEntity<MemoDto> updateMemo(@LoginMember Long memberId, @PathVariable Long memoId,
+		@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody WriteMemoDto dto) {
+		memoAutosaveBuffer.discard(memoId, memberId);
+		Memo memo = memoService.updateMemo(
+			new UpdateMemoDto(memoId, memberId, dto.getTitle(), dto.getBody(), MemoETag.parseIfMatch(ifMatch)));
+		return ResponseEntity.ok()
+			.eTag(MemoETag.of(memo.getVersion()))
+			.body(MemoDto.from(memo));
+	}
+
+	// 편집 중 자주 들어오는 저장은 버퍼에 모았다가 한 번에 쓴다. 응답 시점에는 아직 DB에 반영되지 않았을 수 있다
+	@PutMapping("/{memoId}/autosave")
+	public ResponseEntity<Void> autosaveMemo(@LoginMember Long memberId, @PathVariable Long memoId,
+		@RequestBody WriteMemoDto dto) {
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(memoId, memberId, dto.getTitle(), dto.getBody()));
+		return ResponseEntity.accepted().build();
+	}
+
+	// 자동 저장이 아직 버퍼에 남아 있는지, 충돌이나 할당량 초과로 버려졌는지 알려준다
+	@GetMapping("/{memoId}/autosave")
+	public ResponseEntity<AutosaveStatusDto> getAutosaveStatus(@LoginMember Long memberId, @PathVariable Long memoId) {
+		return ResponseEntity.ok(memoAutosaveBuffer.status(memoId, memberId));
+	}
+
+	// 기준 버전(If-Match)에 대한 본문 편집만 보낸다. 응답도 본문 없이 새 ETag만 돌려준다
+	@PatchMapping("/{memoId}")
+	public ResponseEntity<Void> patchMemo(@LoginMember Long memberId, @PathVariable Long memoId,
+		@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch, @RequestBody EditMemoDto dto) {
+		memoAutosaveBuffer.discard(memoId, memberId);
+		Memo memo = memoService.patchMemo(
+			new PatchMemoDto(memoId, memberId, MemoETag.parseIfMatch(ifMatch), dto.getTitle(), dto.getEdits()));
+		return ResponseEntity.noContent()
+			.eTag(MemoETag.of(memo.getVersion()))
+			.build();
+	}
+
+	@DeleteMapping("/{memoId}")
+	public ResponseEntity<Void> removeMemo(@LoginMember Long memberId, @PathVariable Long memoId,
+		@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		memoAutosaveBuffer.discard(memoId, memberId);
+		memoService.removeMemo(new RemoveMemoDto(memoId, memberId, MemoETag.parseIfMatch(ifMatch)));
+		return ResponseEntity.noContent().build();
+	}
+}
@@ -0,0 +1,43 @@
+package cloud.memome.backend.memo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import lombok.Getter;
+
+@Getter
+class MemoCursor {
+	private static final String DELIMITER = "|";
+
+	private final LocalDateTime updatedAt;
+	private final Long id;
+
+	private MemoCursor(LocalDateTime updatedAt, Long id) {
+		this.updatedAt = updatedAt;
+		this.id = id;
+	}
+
+	static MemoCursor after(MemoSummaryDto summary) {
+		return new MemoCursor(summary.getUpdatedAt(), summary.getId());
+	}
+
+	static MemoCursor decode(String token) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.indexOf(DELIMITER);
+			return new MemoCursor(
+				LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+				Long.valueOf(decoded.substring(delimiterIndex + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new IllegalArgumentException("유효하지 않은 continuation token 입니다: " + token, e);
+		}
+	}
+
+	String encode() {
+		String raw = updatedAt.toString() + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
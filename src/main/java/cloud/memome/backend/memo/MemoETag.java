@@ -0,0 +1,63 @@
+package cloud.memome.backend.memo;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.DigestUtils;
+
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import cloud.memome.backend.memo.dto.MemoSummaryPageDto;
+
+// 메모 ETag는 버전 컬럼에서 만든다. 같은 버전이면 본문도 같다
+final class MemoETag {
+	private static final String ANY = "*";
+
+	private MemoETag() {
+	}
+
+	static String of(Long version) {
+		return "\"" + version + "\"";
+	}
+
+	// 아직 쓰지 않은 자동 저장 내용을 덮어 보여줄 때는 DB 버전의 강한 ETag를 쓰지 않는다.
+	// 버전과 보여준 내용으로 약한 ETag를 만들어서, 조건부 GET에는 쓰이되 If-Match로는 받지 않는다
+	static String of(Memo memo, MemoDto view) {
+		if (view.getTitle().equals(memo.getTitle()) && view.getBody().equals(memo.getBody())) {
+			return of(memo.getVersion());
+		}
+		return weak(memo.getVersion() + "\n" + view.getTitle() + "\n" + view.getBody());
+	}
+
+	// 목록은 항목의 id와 수정 시각, 다음 페이지 토큰으로 약한 ETag를 만든다.
+	// 자동 저장 내용을 덮은 항목은 수정 시각이 같아도 내용이 다를 수 있으므로 제목과 미리보기도 넣는다
+	static String of(MemoSummaryPageDto page) {
+		StringBuilder source = new StringBuilder();
+		for (MemoSummaryDto summary : page.getMemos()) {
+			source.append(summary.getId()).append('@').append(summary.getUpdatedAt())
+				.append('\n').append(summary.getTitle())
+				.append('\n').append(summary.getPreview()).append('\n');
+		}
+		source.append(page.getNextToken());
+		return weak(source.toString());
+	}
+
+	private static String weak(String source) {
+		return "W/\"" + DigestUtils.md5DigestAsHex(source.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+	// If-Match가 없거나 *이면 버전을 확인하지 않는다(null)
+	static Long parseIfMatch(String ifMatch) {
+		if (ifMatch == null || ifMatch.isBlank() || ANY.equals(ifMatch.trim())) {
+			return null;
+		}
+		String eTag = ifMatch.trim();
+		if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+			throw new IllegalArgumentException("If-Match는 하나의 강한 ETag여야 합니다: " + ifMatch);
+		}
+		try {
+			return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("If-Match는 하나의 강한 ETag여야 합니다: " + ifMatch);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.memo.export")
+public record MemoExportProperties(
+	@DefaultValue("500") int fetchSize,
+	@DefaultValue("100") int flushInterval
+) {
+}
@@ -0,0 +1,102 @@
+package cloud.memome.backend.memo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import cloud.memome.backend.memo.dto.MemoExportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemoExportService {
+	private static final String EXPORT_QUERY =
+		"select m from Memo m left join fetch m.memoBody where m.author.id = :authorId order by m.id";
+	private static final int MAX_FILE_NAME_TITLE_LENGTH = 50;
+
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final MemoExportProperties properties;
+
+	public void exportNdjson(Long authorId, OutputStream out) throws IOException {
+		exportEach(authorId, out, memo -> {
+			out.write(objectMapper.writeValueAsBytes(memo));
+			out.write('\n');
+		});
+	}
+
+	public void exportMarkdownZip(Long authorId, OutputStream out) throws IOException {
+		ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+		exportEach(authorId, zip, memo -> {
+			zip.putNextEntry(new ZipEntry(markdownFileName(memo)));
+			zip.write(("# " + memo.getTitle() + "\n\n" + memo.getBody() + "\n").getBytes(StandardCharsets.UTF_8));
+			zip.closeEntry();
+		});
+		zip.finish();
+	}
+
+	// 커서(scroll) 기반으로 한 건씩 읽고, 쓰고 난 엔티티는 바로 detach 해서 영속성 컨텍스트가 커지지 않게 한다
+	private void exportEach(Long authorId, OutputStream out, MemoWriter writer) throws IOException {
+		try (Stream<Memo> memos = entityManager.createQuery(EXPORT_QUERY, Memo.class)
+			.setParameter("authorId", authorId)
+			.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize())
+			.setHint(HibernateHints.HINT_READ_ONLY, true)
+			// 한 번 훑고 마는 읽기라 2차 캐시를 읽지도 채우지도 않는다. 자주 읽는 메모가 밀려나지 않게 한다
+			.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+			.getResultStream()) {
+			Iterator<Memo> iterator = memos.iterator();
+			int written = 0;
+			while (iterator.hasNext()) {
+				Memo memo = iterator.next();
+				writer.write(new MemoExportDto(
+					memo.getId(), memo.getTitle(), memo.getBody(), memo.getCreatedAt(), memo.getUpdatedAt()));
+				if (memo.getMemoBody() != null) {
+					entityManager.detach(memo.getMemoBody());
+				}
+				entityManager.detach(memo);
+
+				written++;
+				if (written == 1 || written % properties.flushInterval() == 0) {
+					out.flush();
+				}
+			}
+		}
+		out.flush();
+	}
+
+	// MySQL 드라이버는 useCursorFetch 없이는 fetch size를 무시하고 결과 전체를 메모리에 올린다.
+	// 풀 설정을 바꾸지 않고 이 쿼리만 Integer.MIN_VALUE로 한 행씩 스트리밍한다. 스트리밍 중에는 그 커넥션으로
+	// 다른 쿼리를 보낼 수 없는데, 본문은 같은 쿼리로 읽고 엔티티는 바로 detach 하므로 지연 로딩이 일어나지 않는다
+	private int fetchSize() {
+		Dialect dialect = entityManager.unwrap(SharedSessionContractImplementor.class).getJdbcServices().getDialect();
+		return dialect instanceof MySQLDialect ? Integer.MIN_VALUE : properties.fetchSize();
+	}
+
+	private static String markdownFileName(MemoExportDto memo) {
+		String title = memo.getTitle().strip().replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_");
+		if (title.length() > MAX_FILE_NAME_TITLE_LENGTH) {
+			title = title.substring(0, MAX_FILE_NAME_TITLE_LENGTH);
+		}
+		return memo.getId() + "-" + title + ".md";
+	}
+
+	@FunctionalInterface
+	private interface MemoWriter {
+		void write(MemoExportDto memo) throws IOException;
+	}
+}
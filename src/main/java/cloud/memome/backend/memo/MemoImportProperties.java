@@ -0,0 +1,11 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.memo.import")
+public record MemoImportProperties(
+	@DefaultValue("500") int batchSize,
+	@DefaultValue("100") int maxReportedErrors
+) {
+}
@@ -0,0 +1,155 @@
+package cloud.memome.backend.memo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.memo.dto.ImportMemoDto;
+import cloud.memome.backend.memo.dto.ImportMemosResultDto;
+import cloud.memome.backend.memo.dto.ImportMemosResultDto.ImportErrorDto;
+import cloud.memome.backend.memo.event.MemoSavedEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxWriter;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemoImportService {
+	private final ObjectMapper objectMapper;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final MemoBodyStore memoBodyStore;
+	private final MemoRevisionRecorder memoRevisionRecorder;
+	private final MemoChangeRecorder memoChangeRecorder;
+	private final MemberUsageRecorder memberUsageRecorder;
+	private final OutboxWriter outboxWriter;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MemoImportProperties properties;
+
+	// NDJSON 또는 JSON 배열을 한 건씩 읽어 batchSize 단위의 트랜잭션으로 나누어 저장한다
+	public ImportMemosResultDto importMemos(Long authorId, InputStream in) throws IOException {
+		ImportResult result = new ImportResult(properties.maxReportedErrors());
+		List<ImportItem> chunk = new ArrayList<>(properties.batchSize());
+		int index = 0;
+
+		try (MappingIterator<ImportMemoDto> iterator = objectMapper.readerFor(ImportMemoDto.class).readValues(in)) {
+			while (true) {
+				try {
+					if (!iterator.hasNextValue()) {
+						break;
+					}
+					chunk.add(new ImportItem(index, iterator.nextValue()));
+				} catch (JsonParseException e) {
+					result.fail(index, "malformed JSON: " + e.getOriginalMessage());
+					break;
+				} catch (JsonMappingException e) {
+					result.fail(index, e.getOriginalMessage());
+				}
+				index++;
+
+				if (chunk.size() == properties.batchSize()) {
+					writeChunk(authorId, chunk, result);
+					chunk.clear();
+				}
+			}
+		}
+		if (!chunk.isEmpty()) {
+			writeChunk(authorId, chunk, result);
+		}
+		return result.toDto();
+	}
+
+	private void writeChunk(Long authorId, List<ImportItem> chunk, ImportResult result) {
+		List<ImportErrorDto> invalid = new ArrayList<>();
+		try {
+			int imported = transactionTemplate.execute(status -> {
+				Member author = entityManager.getReference(Member.class, authorId);
+				Map<ImportItem, Memo> memos = new LinkedHashMap<>();
+				for (ImportItem item : chunk) {
+					try {
+						memos.put(item, Memo.create(item.memo().getTitle(), item.memo().getBody(), author));
+					} catch (IllegalArgumentException e) {
+						invalid.add(new ImportErrorDto(item.index(), e.getMessage()));
+					}
+				}
+
+				// 할당량을 넘기는 청크는 통째로 실패로 보고한다
+				if (!memos.isEmpty()) {
+					memberUsageRecorder.recordCreated(authorId, memos.size(),
+						memos.values().stream().mapToLong(Memo::getBodySize).sum());
+				}
+				Map<String, MemoBody> bodies = memoBodyStore.storeAll(
+					memos.values().stream().map(Memo::getMemoBody).toList());
+				memos.forEach((item, memo) -> {
+					memo.storeBody(memoBody -> bodies.get(memoBody.getHash()));
+					entityManager.persist(memo);
+					memoRevisionRecorder.recordCreated(memo);
+					memoChangeRecorder.recordCreated(memo);
+					outboxWriter.memo(memo.getId(), OutboxEventType.CREATED, authorId);
+					eventPublisher.publishEvent(
+						new MemoSavedEvent(memo.getId(), authorId, memo.getTitle(), item.memo().getBody()));
+				});
+				entityManager.flush();
+				entityManager.clear();
+				return memos.size();
+			});
+			result.imported(imported);
+		} catch (RuntimeException e) {
+			log.warn("Failed to import chunk of {} memos for member({})", chunk.size(), authorId, e);
+			// 이미 잘못된 항목으로 판정된 것은 아래에서 그 사유로 한 번만 보고한다
+			Set<Integer> invalidIndexes = invalid.stream()
+				.map(ImportErrorDto::getIndex)
+				.collect(Collectors.toSet());
+			chunk.stream()
+				.filter(item -> !invalidIndexes.contains(item.index()))
+				.forEach(item -> result.fail(item.index(), "failed to store memo: " + e.getMessage()));
+		}
+		invalid.forEach(error -> result.fail(error.getIndex(), error.getMessage()));
+	}
+
+	private record ImportItem(int index, ImportMemoDto memo) {
+	}
+
+	private static class ImportResult {
+		private final int maxReportedErrors;
+		private final List<ImportErrorDto> errors = new ArrayList<>();
+		private int importedCount;
+		private int failedCount;
+
+		ImportResult(int maxReportedErrors) {
+			this.maxReportedErrors = maxReportedErrors;
+		}
+
+		void imported(int count) {
+			importedCount += count;
+		}
+
+		void fail(int index, String message) {
+			failedCount++;
+			if (errors.size() < maxReportedErrors) {
+				errors.add(new ImportErrorDto(index, message));
+			}
+		}
+
+		ImportMemosResultDto toDto() {
+			return new ImportMemosResultDto(importedCount, failedCount, List.copyOf(errors));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package cloud.memome.backend.memo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+// 본문 테이블이 생기기 전에 memo.body에 저장된 본문을 memo_body로 옮긴다. 해시로 본문을 upsert하고
+// body_hash와 body_size를 채운 뒤 옛 컬럼을 비운다. 메모 id 순서로 페이지마다 트랜잭션을 끊는다
+@Slf4j
+@Component
+public class MemoLegacyBodyBackfiller {
+	private static final String SELECT_PAGE = "select id, body from memo"
+		+ " where id > ? and body_hash is null and body is not null order by id limit ?";
+	// 그 사이 앱이 메모를 저장했으면 이미 본문 테이블로 옮겨졌으므로 건드리지 않는다
+	private static final String UPDATE_MEMO = "update memo set body_hash = ?, body_size = ?, body = null"
+		+ " where id = ? and body_hash is null";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MemoBodyStore memoBodyStore;
+	private final TransactionTemplate transactionTemplate;
+	private final EntityManagerFactory entityManagerFactory;
+	private final int pageSize;
+
+	public MemoLegacyBodyBackfiller(JdbcTemplate jdbcTemplate, MemoBodyStore memoBodyStore,
+		TransactionTemplate transactionTemplate, EntityManagerFactory entityManagerFactory,
+		MemoBodyBackfillProperties properties) {
+		if (properties.pageSize() < 1) {
+			throw new IllegalArgumentException("page-size는 1 이상이어야 합니다: " + properties.pageSize());
+		}
+		this.jdbcTemplate = jdbcTemplate;
+		this.memoBodyStore = memoBodyStore;
+		this.transactionTemplate = transactionTemplate;
+		this.entityManagerFactory = entityManagerFactory;
+		this.pageSize = properties.pageSize();
+	}
+
+	// 크기 채우기(04:35)보다 먼저 돈다. 옮긴 메모는 크기도 함께 채우므로 그쪽에서 다시 읽지 않는다
+	@Scheduled(cron = "${memome.memo.body-backfill.cron:0 30 4 * * *}")
+	public void backfill() {
+		Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+		long afterId = 0;
+		long moved = 0;
+		List<Map.Entry<Long, String>> page;
+		do {
+			long cursor = afterId;
+			page = transactionTemplate.execute(status -> movePage(cursor));
+			// 캐시에 남은 메모는 옛 본문을 가진 채로 보이므로 옮긴 메모만 내린다
+			page.forEach(row -> cache.evictEntityData(Memo.class, row.getKey()));
+			if (!page.isEmpty()) {
+				afterId = page.getLast().getKey();
+			}
+			moved += page.size();
+		} while (page.size() == pageSize);
+		log.info("Moved {} legacy memo bodies into memo_body", moved);
+	}
+
+	private List<Map.Entry<Long, String>> movePage(long afterId) {
+		List<Map.Entry<Long, String>> page = jdbcTemplate.query(SELECT_PAGE,
+			(rs, rowNum) -> Map.entry(rs.getLong("id"), rs.getString("body")), afterId, pageSize);
+		if (page.isEmpty()) {
+			return page;
+		}
+		List<MemoBody> bodies = new ArrayList<>();
+		List<Object[]> updates = new ArrayList<>();
+		for (Map.Entry<Long, String> row : page) {
+			MemoBody memoBody = MemoBody.of(row.getValue());
+			bodies.add(memoBody);
+			updates.add(new Object[] {memoBody.getHash(), Memo.bodySizeOf(row.getValue()), row.getKey()});
+		}
+		memoBodyStore.storeAll(bodies);
+		jdbcTemplate.batchUpdate(UPDATE_MEMO, updates);
+		return page;
+	}
+}
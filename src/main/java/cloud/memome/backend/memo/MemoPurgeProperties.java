@@ -0,0 +1,10 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.memo.purge")
+public record MemoPurgeProperties(
+	@DefaultValue("500") int chunkSize
+) {
+}
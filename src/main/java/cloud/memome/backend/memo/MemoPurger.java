@@ -0,0 +1,75 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.member.event.MemberRemovingEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxWriter;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+public class MemoPurger {
+	private final MemoRepository memoRepository;
+	private final MemoRevisionRepository memoRevisionRepository;
+	private final MemoChangeRepository memoChangeRepository;
+	private final MemberUsageRepository memberUsageRepository;
+	private final OutboxWriter outboxWriter;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+
+	public MemoPurger(MemoRepository memoRepository, MemoRevisionRepository memoRevisionRepository,
+		MemoChangeRepository memoChangeRepository, MemberUsageRepository memberUsageRepository,
+		OutboxWriter outboxWriter, TransactionTemplate transactionTemplate, MemoPurgeProperties properties) {
+		if (properties.chunkSize() < 1) {
+			throw new IllegalArgumentException("chunk-size는 1 이상이어야 합니다: " + properties.chunkSize());
+		}
+		this.memoRepository = memoRepository;
+		this.memoRevisionRepository = memoRevisionRepository;
+		this.memoChangeRepository = memoChangeRepository;
+		this.memberUsageRepository = memberUsageRepository;
+		this.outboxWriter = outboxWriter;
+		this.transactionTemplate = transactionTemplate;
+		this.chunkSize = properties.chunkSize();
+	}
+
+	@EventListener
+	public void onMemberRemoving(MemberRemovingEvent event) {
+		purgeByAuthorId(event.getMemberId());
+	}
+
+	// 청크마다 트랜잭션을 끊어서, 메모가 아주 많은 회원이어도 잠금을 오래 잡거나 undo 로그가 커지지 않게 한다
+	public long purgeByAuthorId(Long authorId) {
+		long purged = 0;
+		int chunk;
+		do {
+			chunk = transactionTemplate.execute(status -> purgeChunk(authorId));
+			purged += chunk;
+		} while (chunk == chunkSize);
+		// 남은 것은 보존 기간 안의 tombstone과 사용량뿐이다
+		transactionTemplate.executeWithoutResult(status -> {
+			memoChangeRepository.deleteByAuthorId(authorId);
+			memberUsageRepository.deleteByMemberId(authorId);
+		});
+		log.info("Purged {} memos of member {}", purged, authorId);
+		return purged;
+	}
+
+	private int purgeChunk(Long authorId) {
+		List<Long> memoIds = memoRepository.findIdsByAuthorId(authorId, PageRequest.ofSize(chunkSize));
+		if (memoIds.isEmpty()) {
+			return 0;
+		}
+		memoRevisionRepository.deleteByMemoIdIn(memoIds);
+		memoChangeRepository.deleteByMemoIdIn(memoIds);
+		memoRepository.deleteByAuthorIdAndIdIn(authorId, memoIds);
+		// 다른 노드가 2차 캐시에서 지운 메모만 골라 비울 수 있도록 메모마다 삭제를 알린다
+		memoIds.forEach(memoId -> outboxWriter.memo(memoId, OutboxEventType.REMOVED, authorId));
+		return memoIds.size();
+	}
+}
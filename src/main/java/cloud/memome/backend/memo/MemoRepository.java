@@ -1,16 +1,81 @@
 package cloud.memome.backend.memo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import cloud.memome.backend.member.Member;
+import cloud.memome.backend.memo.dto.MemoContentDto;
+import cloud.memome.backend.memo.dto.MemoOwnerDto;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import cloud.memome.backend.memo.dto.MemoUsageDto;
 
 @Repository
-public interface MemoRepository extends JpaRepository<Memo, Long> {
+public interface MemoRepository extends JpaRepository<Memo, Long>, MemoRepositoryCustom {
 	List<Memo> findAllByAuthor(Member author);
 
-	Optional<Memo> findByIdAndAuthorId(Long id, Long authorId);
+	boolean existsByIdAndAuthorId(Long id, Long authorId);
+
+	@Query("select m.version from Memo m where m.id = :id and m.author.id = :authorId")
+	Optional<Long> findVersionByIdAndAuthorId(Long id, Long authorId);
+
+	@Query("select m.id from Memo m where m.author.id = :authorId order by m.id")
+	List<Long> findIdsByAuthorId(Long authorId, Pageable pageable);
+
+	@Query("select new cloud.memome.backend.memo.dto.MemoSummaryDto(m.id, m.title, m.preview, m.createdAt, m.updatedAt)"
+		+ " from Memo m"
+		+ " where m.author.id = :authorId"
+		+ " order by m.updatedAt desc, m.id desc")
+	List<MemoSummaryDto> findSummariesByAuthorId(Long authorId, Pageable pageable);
+
+	@Query("select new cloud.memome.backend.memo.dto.MemoSummaryDto(m.id, m.title, m.preview, m.createdAt, m.updatedAt)"
+		+ " from Memo m"
+		+ " where m.author.id = :authorId"
+		+ " and (m.updatedAt < :updatedAt or (m.updatedAt = :updatedAt and m.id < :id))"
+		+ " order by m.updatedAt desc, m.id desc")
+	List<MemoSummaryDto> findSummariesByAuthorIdAfter(Long authorId, LocalDateTime updatedAt, Long id,
+		Pageable pageable);
+
+	@Query("select new cloud.memome.backend.memo.dto.MemoSummaryDto(m.id, m.title, m.preview, m.createdAt, m.updatedAt)"
+		+ " from Memo m"
+		+ " where m.author.id = :authorId and m.id in :ids")
+	List<MemoSummaryDto> findSummariesByAuthorIdAndIdIn(Long authorId, Collection<Long> ids);
+
+	@Query("select m from Memo m left join fetch m.memoBody where m.author.id = :authorId and m.id in :ids")
+	List<Memo> findWithBodyByAuthorIdAndIdIn(Long authorId, Collection<Long> ids);
+
+	@Query("select new cloud.memome.backend.memo.dto.MemoContentDto("
+		+ "m.id, m.author.id, m.title, b.content, m.legacyBody)"
+		+ " from Memo m left join m.memoBody b"
+		+ " where m.id > :afterId"
+		+ " order by m.id")
+	List<MemoContentDto> findContentsAfter(Long afterId, Pageable pageable);
+
+	@Query("select new cloud.memome.backend.memo.dto.MemoContentDto("
+		+ "m.id, m.author.id, m.title, b.content, m.legacyBody)"
+		+ " from Memo m left join m.memoBody b"
+		+ " where m.id in :ids")
+	List<MemoContentDto> findContentsByIdIn(Collection<Long> ids);
+
+	// 변경 피드가 생기기 전에 만들어져 변경 행이 없는 메모
+	@Query("select new cloud.memome.backend.memo.dto.MemoOwnerDto(m.id, m.author.id)"
+		+ " from Memo m"
+		+ " where m.id > :afterId"
+		+ " and not exists (select c.id from MemoChange c where c.memoId = m.id)"
+		+ " order by m.id")
+	List<MemoOwnerDto> findWithoutChangeAfter(Long afterId, Pageable pageable);
+
+	// 사용량을 처음 만들거나 어긋난 사용량을 맞출 때만 쓴다. 메모가 없는 회원은 결과에 없다
+	@Query("select new cloud.memome.backend.memo.dto.MemoUsageDto("
+		+ "m.author.id, count(m), coalesce(sum(m.bodySize), 0L), count(m) - count(m.bodySize))"
+		+ " from Memo m"
+		+ " where m.author.id in :authorIds"
+		+ " group by m.author.id")
+	List<MemoUsageDto> sumUsageByAuthorIdIn(Collection<Long> authorIds);
 }
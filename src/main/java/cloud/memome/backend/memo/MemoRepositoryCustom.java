@@ -0,0 +1,12 @@
+package cloud.memome.backend.memo;
+
+import java.util.Collection;
+
+// 아래 삭제들은 엔티티를 읽지 않는 한 문장이며, 지워진 행 수로 조건 충족 여부를 알린다
+public interface MemoRepositoryCustom {
+	int deleteByIdAndAuthorId(Long id, Long authorId);
+
+	int deleteByIdAndAuthorIdAndVersion(Long id, Long authorId, Long version);
+
+	int deleteByAuthorIdAndIdIn(Long authorId, Collection<Long> ids);
+}
@@ -0,0 +1,75 @@
+package cloud.memome.backend.memo;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+// JPQL 벌크 삭제는 어떤 행이 지워졌는지 모르므로 Memo 2차 캐시 영역 전체를 비운다.
+// 같은 한 문장 삭제를 네이티브 쿼리로 하고, 지운 메모만 캐시에서 비운다
+@RequiredArgsConstructor
+public class MemoRepositoryCustomImpl implements MemoRepositoryCustom {
+	private static final String DELETE_OWNED = "delete from memo where id = :id and author_id = :authorId";
+	private static final String DELETE_OWNED_WITH_VERSION = DELETE_OWNED + " and version = :version";
+	private static final String DELETE_OWNED_IN = "delete from memo where author_id = :authorId and id in (:ids)";
+	// 캐시되는 엔티티와 겹치지 않는 공간으로 알려서 2차 캐시를 비우지 않게 한다
+	private static final String QUERY_SPACE = "memo_delete";
+
+	private final EntityManager entityManager;
+
+	@Override
+	public int deleteByIdAndAuthorId(Long id, Long authorId) {
+		return delete(entityManager.createNativeQuery(DELETE_OWNED)
+			.setParameter("id", id)
+			.setParameter("authorId", authorId), List.of(id));
+	}
+
+	@Override
+	public int deleteByIdAndAuthorIdAndVersion(Long id, Long authorId, Long version) {
+		return delete(entityManager.createNativeQuery(DELETE_OWNED_WITH_VERSION)
+			.setParameter("id", id)
+			.setParameter("authorId", authorId)
+			.setParameter("version", version), List.of(id));
+	}
+
+	@Override
+	public int deleteByAuthorIdAndIdIn(Long authorId, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return delete(entityManager.createNativeQuery(DELETE_OWNED_IN)
+			.setParameter("authorId", authorId)
+			.setParameter("ids", ids), ids);
+	}
+
+	private int delete(Query query, Collection<Long> ids) {
+		query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(QUERY_SPACE);
+		int deleted = query.executeUpdate();
+		if (deleted > 0) {
+			evict(List.copyOf(ids));
+		}
+		return deleted;
+	}
+
+	// 커밋 전에 다른 트랜잭션이 지우기 전의 행을 다시 캐시에 올릴 수 있으므로 커밋 뒤에 한 번 더 비운다
+	private void evict(List<Long> ids) {
+		Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+		ids.forEach(id -> cache.evictEntityData(Memo.class, id));
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					ids.forEach(id -> cache.evictEntityData(Memo.class, id));
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 스냅샷 리비전은 본문 전체(content-addressed memo_body)를 가리키고,
+// 나머지는 직전 리비전 본문에 대한 편집 하나(offset, delete, insert)만 저장한다
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"memo_id", "revision"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class MemoRevision {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "memo_revision_seq")
+	@SequenceGenerator(name = "memo_revision_seq", sequenceName = "memo_revision_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(name = "memo_id", nullable = false)
+	private Long memoId;
+	private int revision;
+	private String title;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "snapshot_body_hash")
+	private MemoBody snapshotBody;
+	private Integer deltaOffset;
+	private Integer deltaDelete;
+	@Lob
+	private String deltaInsert;
+
+	private LocalDateTime createdAt;
+
+	private MemoRevision(Long memoId, int revision, String title, LocalDateTime createdAt) {
+		this.memoId = memoId;
+		this.revision = revision;
+		this.title = title;
+		this.createdAt = createdAt;
+	}
+
+	public static MemoRevision snapshot(Memo memo, int revision) {
+		MemoRevision memoRevision = new MemoRevision(memo.getId(), revision, memo.getTitle(), memo.getUpdatedAt());
+		memoRevision.snapshotBody = memo.getMemoBody();
+		return memoRevision;
+	}
+
+	// 바뀐 구간이 본문의 절반을 넘으면 편집보다 스냅샷이 싸므로 null을 돌려준다
+	public static MemoRevision deltaOrNull(Memo memo, int revision, String previousBody, String body) {
+		int max = Math.min(previousBody.length(), body.length());
+		int prefix = 0;
+		while (prefix < max && previousBody.charAt(prefix) == body.charAt(prefix)) {
+			prefix++;
+		}
+		int suffix = 0;
+		while (suffix < max - prefix
+			&& previousBody.charAt(previousBody.length() - 1 - suffix) == body.charAt(body.length() - 1 - suffix)) {
+			suffix++;
+		}
+		String insert = body.substring(prefix, body.length() - suffix);
+		if (insert.length() > body.length() / 2) {
+			return null;
+		}
+
+		MemoRevision memoRevision = new MemoRevision(memo.getId(), revision, memo.getTitle(), memo.getUpdatedAt());
+		memoRevision.deltaOffset = prefix;
+		memoRevision.deltaDelete = previousBody.length() - prefix - suffix;
+		memoRevision.deltaInsert = insert;
+		return memoRevision;
+	}
+
+	public boolean isSnapshot() {
+		return snapshotBody != null;
+	}
+
+	// 스냅샷이면 자신의 본문을, 아니면 직전 리비전 본문에 편집을 적용한 결과를 돌려준다
+	public String bodyFrom(String previousBody) {
+		if (isSnapshot()) {
+			return snapshotBody.getContent();
+		}
+		if (previousBody == null) {
+			throw new IllegalStateException("No base body for delta revision " + revision + " of memo(" + memoId + ")");
+		}
+		return previousBody.substring(0, deltaOffset) + deltaInsert + previousBody.substring(deltaOffset + deltaDelete);
+	}
+
+	@Override
+	public String toString() {
+		return "MemoRevision(memoId: " + memoId + ", revision: " + revision + ")";
+	}
+}
@@ -0,0 +1,35 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import cloud.memome.backend.auth.LoginMember;
+import cloud.memome.backend.memo.dto.GetMemoRevisionDto;
+import cloud.memome.backend.memo.dto.GetMemoRevisionsDto;
+import cloud.memome.backend.memo.dto.MemoRevisionDto;
+import cloud.memome.backend.memo.dto.MemoRevisionSummaryDto;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/memos/{memoId}/revisions")
+@RequiredArgsConstructor
+public class MemoRevisionController {
+	private final MemoRevisionService memoRevisionService;
+
+	@GetMapping
+	public List<MemoRevisionSummaryDto> getRevisions(@LoginMember Long memberId, @PathVariable Long memoId,
+		@RequestParam(required = false) Integer before, @RequestParam(required = false) Integer limit) {
+		return memoRevisionService.getRevisions(new GetMemoRevisionsDto(memoId, memberId, before, limit));
+	}
+
+	@GetMapping("/{revision}")
+	public MemoRevisionDto getRevision(@LoginMember Long memberId, @PathVariable Long memoId,
+		@PathVariable int revision) {
+		return memoRevisionService.getRevision(new GetMemoRevisionDto(memoId, memberId, revision));
+	}
+}
@@ -0,0 +1,15 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.memo.revision")
+public record MemoRevisionProperties(
+	@DefaultValue("20") int snapshotInterval
+) {
+	public MemoRevisionProperties {
+		if (snapshotInterval < 1) {
+			throw new IllegalArgumentException("snapshot-interval은 1 이상이어야 합니다: " + snapshotInterval);
+		}
+	}
+}
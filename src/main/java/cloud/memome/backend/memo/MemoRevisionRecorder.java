@@ -0,0 +1,33 @@
+package cloud.memome.backend.memo;
+
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MemoRevisionRecorder {
+	private final MemoRevisionRepository memoRevisionRepository;
+	private final MemoRevisionProperties properties;
+
+	public void recordCreated(Memo memo) {
+		memoRevisionRepository.save(MemoRevision.snapshot(memo, 1));
+	}
+
+	// 리비전 r은 (r - 1)이 snapshotInterval의 배수일 때 스냅샷이 되므로
+	// 어떤 리비전이든 snapshotInterval - 1번 이하의 편집 적용으로 복원된다.
+	// 메모의 버전 UPDATE를 먼저 반영해 행 잠금을 쥔 뒤에 불러야 다음 리비전 번호가 겹치지 않는다
+	public void recordUpdated(Memo memo, String previousTitle, String previousBody, String body) {
+		if (Objects.equals(previousTitle, memo.getTitle()) && previousBody.equals(body)) {
+			return;
+		}
+		int revision = memoRevisionRepository.findLastRevision(memo.getId()) + 1;
+		MemoRevision memoRevision = null;
+		if (revision > 1 && (revision - 1) % properties.snapshotInterval() != 0) {
+			memoRevision = MemoRevision.deltaOrNull(memo, revision, previousBody, body);
+		}
+		memoRevisionRepository.save(memoRevision != null ? memoRevision : MemoRevision.snapshot(memo, revision));
+	}
+}
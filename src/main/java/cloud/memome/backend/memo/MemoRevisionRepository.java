@@ -0,0 +1,42 @@
+package cloud.memome.backend.memo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import cloud.memome.backend.memo.dto.MemoRevisionSummaryDto;
+
+@Repository
+public interface MemoRevisionRepository extends JpaRepository<MemoRevision, Long> {
+	@Query("select coalesce(max(r.revision), 0) from MemoRevision r where r.memoId = :memoId")
+	int findLastRevision(Long memoId);
+
+	@Query("select max(r.revision) from MemoRevision r"
+		+ " where r.memoId = :memoId and r.revision <= :revision and r.snapshotBody is not null")
+	Optional<Integer> findSnapshotRevisionAtOrBefore(Long memoId, int revision);
+
+	@Query("select r from MemoRevision r left join fetch r.snapshotBody"
+		+ " where r.memoId = :memoId and r.revision between :from and :to"
+		+ " order by r.revision")
+	List<MemoRevision> findRange(Long memoId, int from, int to);
+
+	@Query("select new cloud.memome.backend.memo.dto.MemoRevisionSummaryDto(r.revision, r.title, r.createdAt)"
+		+ " from MemoRevision r"
+		+ " where r.memoId = :memoId and r.revision < :before"
+		+ " order by r.revision desc")
+	List<MemoRevisionSummaryDto> findSummaries(Long memoId, int before, Pageable pageable);
+
+	@Modifying
+	@Query("delete from MemoRevision r where r.memoId = :memoId")
+	int deleteByMemoId(Long memoId);
+
+	@Modifying
+	@Query("delete from MemoRevision r where r.memoId in :memoIds")
+	int deleteByMemoIdIn(Collection<Long> memoIds);
+}
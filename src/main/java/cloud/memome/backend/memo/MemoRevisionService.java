@@ -0,0 +1,64 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import cloud.memome.backend.memo.dto.GetMemoRevisionDto;
+import cloud.memome.backend.memo.dto.GetMemoRevisionsDto;
+import cloud.memome.backend.memo.dto.MemoRevisionDto;
+import cloud.memome.backend.memo.dto.MemoRevisionSummaryDto;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Timed(value = "memome.service", histogram = true)
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemoRevisionService {
+	static final int DEFAULT_LIMIT = 50;
+	static final int MAX_LIMIT = 200;
+
+	private final MemoRepository memoRepository;
+	private final MemoRevisionRepository memoRevisionRepository;
+
+	public List<MemoRevisionSummaryDto> getRevisions(GetMemoRevisionsDto dto) {
+		assertOwned(dto.getMemoId(), dto.getAuthorId());
+		int limit = dto.getLimit() == null ? DEFAULT_LIMIT : Math.clamp(dto.getLimit(), 1, MAX_LIMIT);
+		int before = dto.getBefore() == null ? Integer.MAX_VALUE : dto.getBefore();
+		return memoRevisionRepository.findSummaries(dto.getMemoId(), before, PageRequest.ofSize(limit));
+	}
+
+	// 가장 가까운 이전 스냅샷부터 편집을 차례로 적용해 복원한다
+	public MemoRevisionDto getRevision(GetMemoRevisionDto dto) {
+		assertOwned(dto.getMemoId(), dto.getAuthorId());
+		int snapshotRevision = memoRevisionRepository.findSnapshotRevisionAtOrBefore(dto.getMemoId(), dto.getRevision())
+			.orElseThrow(() -> revisionNotFound(dto));
+		List<MemoRevision> chain = memoRevisionRepository.findRange(
+			dto.getMemoId(), snapshotRevision, dto.getRevision());
+		if (chain.isEmpty() || chain.getLast().getRevision() != dto.getRevision()) {
+			throw revisionNotFound(dto);
+		}
+
+		String body = null;
+		for (MemoRevision memoRevision : chain) {
+			body = memoRevision.bodyFrom(body);
+		}
+		MemoRevision target = chain.getLast();
+		return new MemoRevisionDto(dto.getMemoId(), target.getRevision(), target.getTitle(), body,
+			target.getCreatedAt());
+	}
+
+	private void assertOwned(Long memoId, Long authorId) {
+		if (!memoRepository.existsByIdAndAuthorId(memoId, authorId)) {
+			throw new NoSuchElementException("Memo not found with id: " + memoId);
+		}
+	}
+
+	private static NoSuchElementException revisionNotFound(GetMemoRevisionDto dto) {
+		return new NoSuchElementException("Revision " + dto.getRevision() + " not found for memo: " + dto.getMemoId());
+	}
+}
@@ -2,27 +2,62 @@ package cloud.memome.backend.memo;
 
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import cloud.memome.backend.member.Member;
 import cloud.memome.backend.memo.dto.CreateMemoDto;
 import cloud.memome.backend.memo.dto.GetOwnedMemoDto;
+import cloud.memome.backend.memo.dto.GetOwnedMemoSummariesDto;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import cloud.memome.backend.memo.dto.MemoSummaryPageDto;
+import cloud.memome.backend.memo.dto.PatchMemoDto;
 import cloud.memome.backend.memo.dto.RemoveMemoDto;
 import cloud.memome.backend.memo.dto.UpdateMemoDto;
+import cloud.memome.backend.memo.event.MemoRemovedEvent;
+import cloud.memome.backend.memo.event.MemoSavedEvent;
+import cloud.memome.backend.memo.exception.MemoVersionConflictException;
+import cloud.memome.backend.memo.exception.NotMemoOwnerException;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "memome.service", histogram = true)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class MemoService {
+	static final int DEFAULT_SUMMARY_LIMIT = 20;
+	static final int MAX_SUMMARY_LIMIT = 100;
+
 	private final MemoRepository memoRepository;
+	private final MemoBodyStore memoBodyStore;
+	private final MemoRevisionRecorder memoRevisionRecorder;
+	private final MemoRevisionRepository memoRevisionRepository;
+	private final MemoChangeRecorder memoChangeRecorder;
+	private final MemberUsageRecorder memberUsageRecorder;
+	private final OutboxWriter outboxWriter;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Transactional
 	public Memo createNewMemo(CreateMemoDto dto) {
 		Memo memo = Memo.create(dto.getTitle(), dto.getBody(), dto.getAuthor());
-		return memoRepository.save(memo);
+		memberUsageRecorder.recordCreated(dto.getAuthor().getId(), 1, memo.getBodySize());
+		memo.storeBody(memoBodyStore::store);
+		Memo saved = memoRepository.save(memo);
+		memoRevisionRecorder.recordCreated(saved);
+		memoChangeRecorder.recordCreated(saved);
+		outboxWriter.memo(saved.getId(), OutboxEventType.CREATED, dto.getAuthor().getId());
+		eventPublisher.publishEvent(
+			new MemoSavedEvent(saved.getId(), dto.getAuthor().getId(), saved.getTitle(), dto.getBody()));
+		return saved;
 	}
 
 	private Memo getMemoById(Long id) {
@@ -32,26 +67,129 @@ public class MemoService {
 	}
 
 	public Memo getOwnedMemo(GetOwnedMemoDto dto) {
-		Memo memo = memoRepository.findByIdAndAuthorId(dto.getMemoId(), dto.getAuthorId())
+		// id로 읽어야 2차 캐시를 탄다. 작성자는 읽은 뒤에 확인한다
+		Memo memo = memoRepository.findById(dto.getMemoId())
+			.filter(found -> found.isAuthoredBy(dto.getAuthorId()))
 			.orElseThrow(() -> new NoSuchElementException("Memo not found with id: " + dto.getMemoId()));
+		// open-in-view를 껐으므로 응답에 쓸 본문은 트랜잭션 안에서 읽어 둔다. 본문도 2차 캐시에 있으면 DB를 오가지 않는다
+		Hibernate.initialize(memo.getMemoBody());
 		return memo;
 	}
 
+	// 본문을 읽지 않고 버전만 조회한다(조건부 GET용)
+	public Long getOwnedMemoVersion(GetOwnedMemoDto dto) {
+		return memoRepository.findVersionByIdAndAuthorId(dto.getMemoId(), dto.getAuthorId())
+			.orElseThrow(() -> new NoSuchElementException("Memo not found with id: " + dto.getMemoId()));
+	}
+
 	public List<Memo> getOwnedMemosAll(Member author) {
 		return memoRepository.findAllByAuthor(author);
 	}
 
+	public MemoSummaryPageDto getOwnedMemoSummaries(GetOwnedMemoSummariesDto dto) {
+		int limit = normalizeSummaryLimit(dto.getLimit());
+		Pageable pageable = PageRequest.ofSize(limit + 1);
+
+		List<MemoSummaryDto> summaries;
+		if (dto.getContinuationToken() == null) {
+			summaries = memoRepository.findSummariesByAuthorId(dto.getAuthorId(), pageable);
+		} else {
+			MemoCursor cursor = MemoCursor.decode(dto.getContinuationToken());
+			summaries = memoRepository.findSummariesByAuthorIdAfter(
+				dto.getAuthorId(), cursor.getUpdatedAt(), cursor.getId(), pageable);
+		}
+
+		if (summaries.size() <= limit) {
+			return new MemoSummaryPageDto(summaries, null);
+		}
+		List<MemoSummaryDto> page = List.copyOf(summaries.subList(0, limit));
+		return new MemoSummaryPageDto(page, MemoCursor.after(page.getLast()).encode());
+	}
+
+	private static int normalizeSummaryLimit(Integer limit) {
+		if (limit == null) {
+			return DEFAULT_SUMMARY_LIMIT;
+		}
+		if (limit < 1) {
+			throw new IllegalArgumentException("limit은 1 이상이어야 합니다: " + limit);
+		}
+		return Math.min(limit, MAX_SUMMARY_LIMIT);
+	}
+
 	@Transactional
 	public Memo updateMemo(UpdateMemoDto dto) {
 		Memo memo = this.getMemoById(dto.getMemoId());
+		memo.assertAuthor(dto.getAuthorId());
+		memo.assertVersion(dto.getExpectedVersion());
+		String previousTitle = memo.getTitle();
+		// 본문이 그대로면(제목만 고친 경우 등) 이전 본문을 읽지 않는다
+		String previousBody = dto.getBody() != null && memo.hasBody(dto.getBody()) ? dto.getBody() : memo.getBody();
+		Integer previousBodySize = memo.getBodySize();
 		memo.update(dto.getTitle(), dto.getBody(), dto.getAuthorId());
+		memberUsageRecorder.recordUpdated(dto.getAuthorId(), previousBodySize, memo.getBodySize());
+		memo.storeBody(memoBodyStore::store);
+		// 버전 조건을 건 UPDATE를 리비전 INSERT보다 먼저 보낸다. 동시에 고친 쪽은 행 잠금을 기다렸다가
+		// 버전 충돌(409)로 끝나므로 같은 리비전 번호를 넣지 않는다. 증가한 버전은 응답(ETag)에도 쓴다
+		memoRepository.flush();
+		memoRevisionRecorder.recordUpdated(memo, previousTitle, previousBody, dto.getBody());
+		memoChangeRecorder.recordUpdated(memo);
+		outboxWriter.memo(memo.getId(), OutboxEventType.UPDATED, dto.getAuthorId());
+		eventPublisher.publishEvent(new MemoSavedEvent(memo.getId(), dto.getAuthorId(), memo.getTitle(), dto.getBody()));
 		return memo;
 	}
 
+	// 전체 본문 대신 기준 버전에 대한 편집만 받아 적용한다
 	@Transactional
-	public void removeMemo(RemoveMemoDto dto) {
+	public Memo patchMemo(PatchMemoDto dto) {
+		if (dto.getBaseVersion() == null) {
+			throw new IllegalArgumentException("본문 편집에는 기준 버전이 필요합니다");
+		}
 		Memo memo = this.getMemoById(dto.getMemoId());
 		memo.assertAuthor(dto.getAuthorId());
-		memoRepository.delete(memo);
+		memo.assertVersion(dto.getBaseVersion());
+
+		String previousTitle = memo.getTitle();
+		String previousBody = memo.getBody();
+		Integer previousBodySize = memo.getBodySize();
+		String title = dto.getTitle() == null ? previousTitle : dto.getTitle();
+		String body = MemoBodyPatch.apply(previousBody, dto.getEdits());
+		memo.update(title, body, dto.getAuthorId());
+		memberUsageRecorder.recordUpdated(dto.getAuthorId(), previousBodySize, memo.getBodySize());
+		memo.storeBody(memoBodyStore::store);
+		memoRepository.flush();
+		memoRevisionRecorder.recordUpdated(memo, previousTitle, previousBody, body);
+		memoChangeRecorder.recordUpdated(memo);
+		outboxWriter.memo(memo.getId(), OutboxEventType.UPDATED, dto.getAuthorId());
+		eventPublisher.publishEvent(new MemoSavedEvent(memo.getId(), dto.getAuthorId(), memo.getTitle(), body));
+		return memo;
+	}
+
+	// 메모를 읽지 않고 소유자(와 버전) 조건을 건 DELETE 한 문장으로 지운다.
+	// 사용량은 지우기 전에 그 메모의 크기로 줄이고, 지우지 못하면 예외로 롤백된다
+	@Transactional
+	public void removeMemo(RemoveMemoDto dto) {
+		memberUsageRecorder.recordRemoved(dto.getAuthorId(), dto.getMemoId());
+		int deleted = dto.getExpectedVersion() == null
+			? memoRepository.deleteByIdAndAuthorId(dto.getMemoId(), dto.getAuthorId())
+			: memoRepository.deleteByIdAndAuthorIdAndVersion(dto.getMemoId(), dto.getAuthorId(), dto.getExpectedVersion());
+		if (deleted == 0) {
+			throw removeFailureOf(dto);
+		}
+		memoRevisionRepository.deleteByMemoId(dto.getMemoId());
+		memoChangeRecorder.recordRemoved(dto.getAuthorId(), dto.getMemoId());
+		outboxWriter.memo(dto.getMemoId(), OutboxEventType.REMOVED, dto.getAuthorId());
+		eventPublisher.publishEvent(new MemoRemovedEvent(dto.getMemoId(), dto.getAuthorId()));
+	}
+
+	// 지워진 행이 없을 때만 원인을 가려낸다
+	private RuntimeException removeFailureOf(RemoveMemoDto dto) {
+		Optional<Long> version = memoRepository.findVersionByIdAndAuthorId(dto.getMemoId(), dto.getAuthorId());
+		if (version.isPresent()) {
+			return new MemoVersionConflictException(dto.getMemoId(), dto.getExpectedVersion(), version.get());
+		}
+		if (memoRepository.existsById(dto.getMemoId())) {
+			return new NotMemoOwnerException(dto.getMemoId(), dto.getAuthorId());
+		}
+		return new NoSuchElementException("Memo not found with id: " + dto.getMemoId());
 	}
 }
@@ -0,0 +1,24 @@
+package cloud.memome.backend.memo;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import cloud.memome.backend.auth.LoginMember;
+import cloud.memome.backend.memo.dto.GetMemoChangesDto;
+import cloud.memome.backend.memo.dto.MemoChangesDto;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/memos/changes")
+@RequiredArgsConstructor
+public class MemoSyncController {
+	private final MemoSyncService memoSyncService;
+
+	@GetMapping
+	public MemoChangesDto getChanges(@LoginMember Long memberId,
+		@RequestParam(required = false) String syncToken, @RequestParam(required = false) Integer limit) {
+		return memoSyncService.getChanges(new GetMemoChangesDto(memberId, syncToken, limit));
+	}
+}
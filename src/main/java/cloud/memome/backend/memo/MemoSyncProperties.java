@@ -0,0 +1,14 @@
+package cloud.memome.backend.memo;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.memo.sync")
+public record MemoSyncProperties(
+	@DefaultValue("10s") Duration settleWindow,
+	@DefaultValue("30d") Duration tombstoneRetention,
+	@DefaultValue("500") int backfillPageSize
+) {
+}
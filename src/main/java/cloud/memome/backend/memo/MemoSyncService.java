@@ -0,0 +1,106 @@
+package cloud.memome.backend.memo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import cloud.memome.backend.memo.dto.GetMemoChangesDto;
+import cloud.memome.backend.memo.dto.MemoChangesDto;
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.exception.MemoSyncTokenExpiredException;
+import io.micrometer.core.annotation.Timed;
+
+@Service
+@Timed(value = "memome.service", histogram = true)
+@Transactional(readOnly = true)
+public class MemoSyncService {
+	static final int DEFAULT_CHANGE_LIMIT = 100;
+	static final int MAX_CHANGE_LIMIT = 500;
+
+	private final MemoChangeRepository memoChangeRepository;
+	private final MemoRepository memoRepository;
+	private final Duration settleWindow;
+	private final Duration tokenLifetime;
+	private final Clock clock;
+
+	public MemoSyncService(MemoChangeRepository memoChangeRepository, MemoRepository memoRepository,
+		MemoSyncProperties properties) {
+		this(memoChangeRepository, memoRepository, properties, Clock.systemDefaultZone());
+	}
+
+	MemoSyncService(MemoChangeRepository memoChangeRepository, MemoRepository memoRepository,
+		MemoSyncProperties properties, Clock clock) {
+		if (properties.settleWindow().compareTo(properties.tombstoneRetention()) >= 0) {
+			throw new IllegalArgumentException("settle-window는 tombstone-retention보다 짧아야 합니다: "
+				+ properties.settleWindow() + ", " + properties.tombstoneRetention());
+		}
+		this.memoChangeRepository = memoChangeRepository;
+		this.memoRepository = memoRepository;
+		this.settleWindow = properties.settleWindow();
+		this.tokenLifetime = properties.tombstoneRetention().minus(properties.settleWindow());
+		this.clock = clock;
+	}
+
+	// 변경 피드에서 토큰 이후의 변경만 읽으므로 비용은 전체 메모 수가 아니라 변경 수에 비례한다
+	public MemoChangesDto getChanges(GetMemoChangesDto dto) {
+		int limit = normalizeChangeLimit(dto.getLimit());
+		Instant now = clock.instant();
+		MemoSyncToken token = dto.getSyncToken() == null
+			? MemoSyncToken.initial() : MemoSyncToken.decode(dto.getSyncToken());
+		if (token.isExpired(now, tokenLifetime)) {
+			throw new MemoSyncTokenExpiredException(dto.getSyncToken());
+		}
+
+		List<MemoChange> changes = memoChangeRepository.findByAuthorIdAfter(
+			dto.getAuthorId(), token.getChangeId(), PageRequest.ofSize(limit + 1));
+		boolean hasMore = changes.size() > limit;
+		List<MemoChange> page = hasMore ? changes.subList(0, limit) : changes;
+
+		// 순번은 발급 순서이고 커밋 순서가 아니다. 아직 커밋되지 않은 앞 순번을 건너뛰지 않도록
+		// settle-window 안쪽의 변경은 보내기만 하고 토큰은 그 앞에서 멈춰서, 다음 동기화 때 다시 보낸다
+		// changedAt이 DB 시계이므로 기준 시각도 DB에서 읽는다
+		LocalDateTime settledBefore = page.isEmpty() ? null
+			: memoChangeRepository.currentTimestamp().minus(settleWindow);
+		long nextChangeId = token.getChangeId();
+		for (MemoChange change : page) {
+			if (!change.getChangedAt().isBefore(settledBefore)) {
+				hasMore = false;
+				break;
+			}
+			nextChangeId = change.getId();
+		}
+
+		List<Long> savedMemoIds = page.stream()
+			.filter(change -> !change.isRemoved())
+			.map(MemoChange::getMemoId)
+			.toList();
+		List<MemoDto> memos = savedMemoIds.isEmpty() ? List.of()
+			: memoRepository.findWithBodyByAuthorIdAndIdIn(dto.getAuthorId(), savedMemoIds).stream()
+			.map(MemoDto::from)
+			.toList();
+		List<Long> removedMemoIds = page.stream()
+			.filter(MemoChange::isRemoved)
+			.map(MemoChange::getMemoId)
+			.toList();
+
+		// 다음 페이지를 이어 받는 동안에는 처음 발급 시각을 유지해야 그 사이 지워진 tombstone을 만료로 알아챈다
+		Instant issuedAt = hasMore && token.getIssuedAt() != null ? token.getIssuedAt() : now;
+		return new MemoChangesDto(memos, removedMemoIds, new MemoSyncToken(nextChangeId, issuedAt).encode(), hasMore);
+	}
+
+	private static int normalizeChangeLimit(Integer limit) {
+		if (limit == null) {
+			return DEFAULT_CHANGE_LIMIT;
+		}
+		if (limit < 1) {
+			throw new IllegalArgumentException("limit은 1 이상이어야 합니다: " + limit);
+		}
+		return Math.min(limit, MAX_CHANGE_LIMIT);
+	}
+}
@@ -0,0 +1,49 @@
+package cloud.memome.backend.memo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import lombok.Getter;
+
+// 클라이언트가 마지막으로 받은 변경 순번과 토큰 발급 시각. 클라이언트에게는 불투명한 문자열이다
+@Getter
+class MemoSyncToken {
+	private static final String DELIMITER = "|";
+
+	private final long changeId;
+	private final Instant issuedAt;
+
+	MemoSyncToken(long changeId, Instant issuedAt) {
+		this.changeId = changeId;
+		this.issuedAt = issuedAt;
+	}
+
+	// 처음 동기화하는 클라이언트는 살아 있는 메모 전체를 받는다
+	static MemoSyncToken initial() {
+		return new MemoSyncToken(0, null);
+	}
+
+	static MemoSyncToken decode(String token) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int delimiterIndex = decoded.indexOf(DELIMITER);
+			return new MemoSyncToken(
+				Long.parseLong(decoded.substring(0, delimiterIndex)),
+				Instant.ofEpochMilli(Long.parseLong(decoded.substring(delimiterIndex + 1))));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("유효하지 않은 sync token 입니다: " + token, e);
+		}
+	}
+
+	// 토큰 이후의 tombstone이 이미 지워졌을 수 있으면 만료로 본다
+	boolean isExpired(Instant now, Duration lifetime) {
+		return issuedAt != null && issuedAt.plus(lifetime).isBefore(now);
+	}
+
+	String encode() {
+		String raw = changeId + DELIMITER + issuedAt.toEpochMilli();
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
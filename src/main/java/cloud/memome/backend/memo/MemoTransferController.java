@@ -0,0 +1,51 @@
+package cloud.memome.backend.memo;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import cloud.memome.backend.auth.LoginMember;
+import cloud.memome.backend.memo.dto.ImportMemosResultDto;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/memos")
+@RequiredArgsConstructor
+public class MemoTransferController {
+	private final MemoImportService memoImportService;
+	private final MemoExportService memoExportService;
+
+	@PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+	public ImportMemosResultDto importMemos(@LoginMember Long memberId, InputStream body) throws IOException {
+		return memoImportService.importMemos(memberId, body);
+	}
+
+	@GetMapping("/export.ndjson")
+	public ResponseEntity<StreamingResponseBody> exportNdjson(@LoginMember Long memberId) {
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, attachment("memos.ndjson"))
+			.contentType(MediaType.APPLICATION_NDJSON)
+			.body(out -> memoExportService.exportNdjson(memberId, out));
+	}
+
+	@GetMapping("/export.zip")
+	public ResponseEntity<StreamingResponseBody> exportMarkdownZip(@LoginMember Long memberId) {
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, attachment("memos.zip"))
+			.contentType(MediaType.parseMediaType("application/zip"))
+			.body(out -> memoExportService.exportMarkdownZip(memberId, out));
+	}
+
+	private static String attachment(String fileName) {
+		return ContentDisposition.attachment().filename(fileName).build().toString();
+	}
+}
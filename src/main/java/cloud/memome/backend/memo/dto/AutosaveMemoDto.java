@@ -0,0 +1,11 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Value;
+
+@Value
+public class AutosaveMemoDto {
+	Long memoId;
+	Long authorId;
+	String title;
+	String body;
+}
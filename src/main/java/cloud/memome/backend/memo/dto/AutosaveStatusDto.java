@@ -0,0 +1,20 @@
+package cloud.memome.backend.memo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+// 자동 저장은 202로 먼저 응답하므로, 버퍼에 남아 있는지와 쓰지 못하고 버려졌는지는 따로 확인한다
+@Value
+public class AutosaveStatusDto {
+	boolean pending;
+	LocalDateTime lastSavedAt;
+	DropReason droppedReason;
+	LocalDateTime droppedAt;
+
+	public enum DropReason {
+		// 그 사이 다른 곳에서 수정되거나 지워졌다
+		CONFLICT,
+		QUOTA_EXCEEDED
+	}
+}
@@ -0,0 +1,16 @@
+package cloud.memome.backend.memo.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+// title이 null이면 제목은 그대로 둔다
+@Value
+@Builder
+@Jacksonized
+public class EditMemoDto {
+	String title;
+	List<TextEditDto> edits;
+}
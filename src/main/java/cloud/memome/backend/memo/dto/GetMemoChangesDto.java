@@ -0,0 +1,10 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Value;
+
+@Value
+public class GetMemoChangesDto {
+	Long authorId;
+	String syncToken;
+	Integer limit;
+}
@@ -0,0 +1,11 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Value;
+
+@Value
+public class GetMemoRevisionsDto {
+	Long memoId;
+	Long authorId;
+	Integer before;
+	Integer limit;
+}
@@ -0,0 +1,10 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Value;
+
+@Value
+public class GetOwnedMemoSummariesDto {
+	Long authorId;
+	Integer limit;
+	String continuationToken;
+}
@@ -0,0 +1,18 @@
+package cloud.memome.backend.memo.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class ImportMemosResultDto {
+	int importedCount;
+	int failedCount;
+	List<ImportErrorDto> errors;
+
+	@Value
+	public static class ImportErrorDto {
+		int index;
+		String message;
+	}
+}
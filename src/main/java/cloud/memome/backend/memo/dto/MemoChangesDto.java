@@ -0,0 +1,13 @@
+package cloud.memome.backend.memo.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class MemoChangesDto {
+	List<MemoDto> memos;
+	List<Long> removedMemoIds;
+	String syncToken;
+	boolean hasMore;
+}
@@ -0,0 +1,20 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.ToString;
+import lombok.Value;
+
+@Value
+@AllArgsConstructor
+@ToString(exclude = "body")
+public class MemoContentDto {
+	Long id;
+	Long authorId;
+	String title;
+	String body;
+
+	// 본문 테이블로 옮겨지지 않은 메모는 옛 memo.body 컬럼에 본문이 있다
+	public MemoContentDto(Long id, Long authorId, String title, String body, String legacyBody) {
+		this(id, authorId, title, body != null ? body : legacyBody);
+	}
+}
@@ -0,0 +1,21 @@
+package cloud.memome.backend.memo.dto;
+
+import java.time.LocalDateTime;
+
+import cloud.memome.backend.memo.Memo;
+import lombok.Value;
+
+@Value
+public class MemoDto {
+	Long id;
+	String title;
+	String body;
+	LocalDateTime createdAt;
+	LocalDateTime updatedAt;
+	Long version;
+
+	public static MemoDto from(Memo memo) {
+		return new MemoDto(memo.getId(), memo.getTitle(), memo.getBody(), memo.getCreatedAt(), memo.getUpdatedAt(),
+			memo.getVersion());
+	}
+}
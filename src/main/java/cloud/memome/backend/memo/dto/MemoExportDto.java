@@ -0,0 +1,16 @@
+package cloud.memome.backend.memo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.ToString;
+import lombok.Value;
+
+@Value
+@ToString(exclude = "body")
+public class MemoExportDto {
+	Long id;
+	String title;
+	String body;
+	LocalDateTime createdAt;
+	LocalDateTime updatedAt;
+}
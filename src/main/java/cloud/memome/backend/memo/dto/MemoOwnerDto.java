@@ -0,0 +1,9 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Value;
+
+@Value
+public class MemoOwnerDto {
+	Long memoId;
+	Long authorId;
+}
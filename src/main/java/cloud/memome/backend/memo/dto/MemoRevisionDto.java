@@ -0,0 +1,14 @@
+package cloud.memome.backend.memo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+@Value
+public class MemoRevisionDto {
+	Long memoId;
+	int revision;
+	String title;
+	String body;
+	LocalDateTime createdAt;
+}
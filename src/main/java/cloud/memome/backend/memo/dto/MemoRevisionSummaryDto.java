@@ -0,0 +1,12 @@
+package cloud.memome.backend.memo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+@Value
+public class MemoRevisionSummaryDto {
+	int revision;
+	String title;
+	LocalDateTime createdAt;
+}
@@ -0,0 +1,14 @@
+package cloud.memome.backend.memo.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+@Value
+public class MemoSummaryDto {
+	Long id;
+	String title;
+	String preview;
+	LocalDateTime createdAt;
+	LocalDateTime updatedAt;
+}
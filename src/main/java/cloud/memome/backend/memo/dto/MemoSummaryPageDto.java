@@ -0,0 +1,15 @@
+package cloud.memome.backend.memo.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class MemoSummaryPageDto {
+	List<MemoSummaryDto> memos;
+	String nextToken;
+
+	public boolean hasNext() {
+		return nextToken != null;
+	}
+}
@@ -0,0 +1,12 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Value;
+
+@Value
+public class MemoUsageDto {
+	Long authorId;
+	Long memoCount;
+	Long bodyBytes;
+	// 본문 크기를 아직 채우지 않은 메모 수. 0이 아니면 bodyBytes는 실제보다 작다
+	Long unsizedCount;
+}
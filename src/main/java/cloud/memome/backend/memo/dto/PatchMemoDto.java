@@ -0,0 +1,14 @@
+package cloud.memome.backend.memo.dto;
+
+import java.util.List;
+
+import lombok.Value;
+
+@Value
+public class PatchMemoDto {
+	Long memoId;
+	Long authorId;
+	Long baseVersion;
+	String title;
+	List<TextEditDto> edits;
+}
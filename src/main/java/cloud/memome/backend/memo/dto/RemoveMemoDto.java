@@ -1,9 +1,16 @@
 package cloud.memome.backend.memo.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor
 public class RemoveMemoDto {
 	Long memoId;
 	Long authorId;
+	Long expectedVersion;
+
+	public RemoveMemoDto(Long memoId, Long authorId) {
+		this(memoId, authorId, null);
+	}
 }
@@ -0,0 +1,15 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+// 기준 본문의 offset부터 delete 글자(UTF-16 단위)를 지우고 insert를 넣는다
+@Value
+@Builder
+@Jacksonized
+public class TextEditDto {
+	int offset;
+	int delete;
+	String insert;
+}
@@ -1,11 +1,18 @@
 package cloud.memome.backend.memo.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor
 public class UpdateMemoDto {
 	Long memoId;
 	Long authorId;
 	String title;
 	String body;
+	Long expectedVersion;
+
+	public UpdateMemoDto(Long memoId, Long authorId, String title, String body) {
+		this(memoId, authorId, title, body, null);
+	}
 }
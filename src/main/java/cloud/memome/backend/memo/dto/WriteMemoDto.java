@@ -0,0 +1,15 @@
+package cloud.memome.backend.memo.dto;
+
+import lombok.Builder;
+import lombok.ToString;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+@ToString(exclude = "body")
+public class WriteMemoDto {
+	String title;
+	String body;
+}
@@ -0,0 +1,9 @@
+package cloud.memome.backend.memo.event;
+
+import lombok.Value;
+
+@Value
+public class MemoRemovedEvent {
+	Long memoId;
+	Long authorId;
+}
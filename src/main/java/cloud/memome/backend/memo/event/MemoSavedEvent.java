@@ -0,0 +1,13 @@
+package cloud.memome.backend.memo.event;
+
+import lombok.ToString;
+import lombok.Value;
+
+@Value
+@ToString(exclude = "body")
+public class MemoSavedEvent {
+	Long memoId;
+	Long authorId;
+	String title;
+	String body;
+}
@@ -0,0 +1,18 @@
+package cloud.memome.backend.memo.exception;
+
+import lombok.Getter;
+
+@Getter
+public class MemoQuotaExceededException extends RuntimeException {
+	private final Long memberId;
+	private final long maxMemoCount;
+	private final long maxBodyBytes;
+
+	public MemoQuotaExceededException(Long memberId, long maxMemoCount, long maxBodyBytes) {
+		super("member(" + memberId + ") may keep at most " + maxMemoCount + " memos and " + maxBodyBytes
+			+ " bytes of memo bodies");
+		this.memberId = memberId;
+		this.maxMemoCount = maxMemoCount;
+		this.maxBodyBytes = maxBodyBytes;
+	}
+}
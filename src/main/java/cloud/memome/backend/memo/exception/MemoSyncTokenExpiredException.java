@@ -0,0 +1,7 @@
+package cloud.memome.backend.memo.exception;
+
+public class MemoSyncTokenExpiredException extends RuntimeException {
+	public MemoSyncTokenExpiredException(String syncToken) {
+		super("sync token has expired, sync again without a token: " + syncToken);
+	}
+}
@@ -0,0 +1,17 @@
+package cloud.memome.backend.memo.exception;
+
+import lombok.Getter;
+
+@Getter
+public class MemoVersionConflictException extends RuntimeException {
+	private final Long memoId;
+	private final Long expectedVersion;
+	private final Long actualVersion;
+
+	public MemoVersionConflictException(Long memoId, Long expectedVersion, Long actualVersion) {
+		super("memo(" + memoId + ") version is " + actualVersion + ", not " + expectedVersion);
+		this.memoId = memoId;
+		this.expectedVersion = expectedVersion;
+		this.actualVersion = actualVersion;
+	}
+}
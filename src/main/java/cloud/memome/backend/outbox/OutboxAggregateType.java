@@ -0,0 +1,6 @@
+package cloud.memome.backend.outbox;
+
+public enum OutboxAggregateType {
+	MEMO,
+	MEMBER
+}
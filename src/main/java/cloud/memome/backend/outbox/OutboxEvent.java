@@ -0,0 +1,55 @@
+package cloud.memome.backend.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 무엇이 바뀌었는지만 남긴다. 내용이 필요한 구독자는 id로 다시 읽는다.
+// 같은 집계의 변경은 발급 순서대로 커밋되므로, id 순으로 전달하면 집계별 순서가 지켜진다.
+// id는 노드와 관계없이 발급 순서대로 커지도록 DB의 auto increment로 받는다(MemoChange와 같은 이유)
+@Entity
+@Table(indexes = @Index(name = "idx_outbox_event_created_at", columnList = "created_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private OutboxAggregateType aggregateType;
+	@Column(nullable = false)
+	private Long aggregateId;
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private OutboxEventType eventType;
+	private Long memberId;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	OutboxEvent(OutboxAggregateType aggregateType, Long aggregateId, OutboxEventType eventType, Long memberId) {
+		this.aggregateType = aggregateType;
+		this.aggregateId = aggregateId;
+		this.eventType = eventType;
+		this.memberId = memberId;
+		this.createdAt = LocalDateTime.now();
+	}
+
+	@Override
+	public String toString() {
+		return "OutboxEvent(id: " + id + ", " + aggregateType + " " + aggregateId + " " + eventType + ")";
+	}
+}
@@ -0,0 +1,29 @@
+package cloud.memome.backend.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+	@Query("select e from OutboxEvent e where e.id > :afterId order by e.id")
+	List<OutboxEvent> findAfter(Long afterId, Pageable pageable);
+
+	@Query("select max(e.id) from OutboxEvent e where e.createdAt < :before")
+	Optional<Long> findLastIdBefore(LocalDateTime before);
+
+	@Query("select e.aggregateId from OutboxEvent e where e.aggregateType = :aggregateType"
+		+ " and e.eventType = :eventType and e.createdAt > :after")
+	List<Long> findAggregateIdsCreatedAfter(OutboxAggregateType aggregateType, OutboxEventType eventType,
+		LocalDateTime after);
+
+	@Modifying
+	@Query("delete from OutboxEvent e where e.createdAt < :before")
+	int deleteCreatedBefore(LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package cloud.memome.backend.outbox;
+
+public enum OutboxEventType {
+	CREATED,
+	UPDATED,
+	REMOVED
+}
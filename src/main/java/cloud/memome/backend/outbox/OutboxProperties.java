@@ -0,0 +1,16 @@
+package cloud.memome.backend.outbox;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.outbox")
+public record OutboxProperties(
+	@DefaultValue("500") int batchSize,
+	@DefaultValue("10s") Duration settleWindow,
+	@DefaultValue("1d") Duration retention,
+	@DefaultValue("5m") Duration gapTimeout,
+	@DefaultValue("5") int maxAttempts
+) {
+}
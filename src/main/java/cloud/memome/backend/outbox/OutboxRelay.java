@@ -0,0 +1,209 @@
+package cloud.memome.backend.outbox;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+// 노드마다 자기 커서로 outbox를 id 순서대로 읽어 로컬 구독자에게 배치로 넘긴다.
+// id는 발급 순서이고 커밋 순서가 아니므로, 커서는 빈 id 없이 이어진 이벤트 중 settle-window가 지난 것까지만 올리고
+// 그 뒤에 이미 넘긴 이벤트는 기억해 두었다가 다시 넘기지 않는다
+@Slf4j
+@Component
+public class OutboxRelay {
+	private final OutboxEventRepository outboxEventRepository;
+	private final List<OutboxSubscriber> subscribers;
+	private final int batchSize;
+	private final Duration settleWindow;
+	private final Duration retention;
+	private final Duration gapTimeout;
+	private final int maxAttempts;
+	private final Clock clock;
+	private final Counter delivered;
+	private final Counter failures;
+	private final Counter deadLettered;
+	private final Timer deliveryLag;
+	private final AtomicLong lagMillis = new AtomicLong();
+
+	private Long cursor;
+	private final Set<Long> deliveredAfterCursor = new HashSet<>();
+	// 커서 바로 뒤 id가 비어 있는 것을 처음 본 시각. 롤백된 트랜잭션의 id는 끝내 채워지지 않는다
+	private Long gapAfter;
+	private Instant gapSeenAt;
+	// 일부 구독자만 실패한 배치. 다음 주기에 같은 배치를 아직 받지 못한 구독자에게만 다시 넘긴다
+	private List<OutboxEvent> retryBatch = List.of();
+	private final Set<OutboxSubscriber> retryDelivered = new HashSet<>();
+	private int attempts;
+
+	public OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxSubscriber> subscribers,
+		OutboxProperties properties, MeterRegistry meterRegistry) {
+		this(outboxEventRepository, subscribers, properties, meterRegistry, Clock.systemDefaultZone());
+	}
+
+	OutboxRelay(OutboxEventRepository outboxEventRepository, List<OutboxSubscriber> subscribers,
+		OutboxProperties properties, MeterRegistry meterRegistry, Clock clock) {
+		if (properties.batchSize() < 1) {
+			throw new IllegalArgumentException("batch-size는 1 이상이어야 합니다: " + properties.batchSize());
+		}
+		if (properties.maxAttempts() < 1) {
+			throw new IllegalArgumentException("max-attempts는 1 이상이어야 합니다: " + properties.maxAttempts());
+		}
+		this.outboxEventRepository = outboxEventRepository;
+		this.subscribers = List.copyOf(subscribers);
+		this.batchSize = properties.batchSize();
+		this.settleWindow = properties.settleWindow();
+		this.retention = properties.retention();
+		this.gapTimeout = properties.gapTimeout();
+		this.maxAttempts = properties.maxAttempts();
+		this.clock = clock;
+		this.delivered = Counter.builder("memome.outbox.delivered")
+			.register(meterRegistry);
+		this.failures = Counter.builder("memome.outbox.failures")
+			.register(meterRegistry);
+		this.deadLettered = Counter.builder("memome.outbox.dead.lettered")
+			.description("events a subscriber gave up on after max-attempts")
+			.register(meterRegistry);
+		this.deliveryLag = Timer.builder("memome.outbox.delivery.lag")
+			.description("time from outbox write to delivery to subscribers")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("memome.outbox.lag", lagMillis, AtomicLong::get)
+			.description("age of the oldest event not yet delivered")
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${memome.outbox.poll-interval:PT1S}")
+	public void relay() {
+		// 한 번에 배치 크기를 꽉 채워 넘겼으면 밀린 것이 더 있으므로 바로 이어서 읽는다
+		int relayed;
+		do {
+			relayed = relayBatch();
+		} while (relayed == batchSize);
+	}
+
+	// 넘긴 이벤트 수를 돌려준다
+	int relayBatch() {
+		Instant now = clock.instant();
+		if (cursor == null) {
+			// 시작 시점에 진행 중이던 트랜잭션의 이벤트를 놓치지 않도록 settle-window만큼 앞에서 시작한다
+			cursor = outboxEventRepository.findLastIdBefore(toLocalDateTime(now.minus(settleWindow))).orElse(0L);
+		}
+		List<OutboxEvent> events = outboxEventRepository.findAfter(cursor,
+			PageRequest.ofSize(batchSize + deliveredAfterCursor.size()));
+		List<OutboxEvent> batch = !retryBatch.isEmpty() ? retryBatch : events.stream()
+			.filter(event -> !deliveredAfterCursor.contains(event.getId()))
+			.limit(batchSize)
+			.toList();
+
+		if (!batch.isEmpty() && !deliver(batch, now)) {
+			return 0;
+		}
+		advanceCursor(events, now);
+		lagMillis.set(batch.size() == batchSize ? ageOf(batch.getLast(), now).toMillis() : 0);
+		return batch.size();
+	}
+
+	// 한 구독자가 실패해도 나머지 구독자에게는 넘기고, 실패한 구독자에게만 다음 주기에 같은 배치를 다시 넘긴다.
+	// max-attempts번 실패하면 그 구독자는 이 배치를 포기하고(로그와 지표로 남긴다) 뒤의 이벤트로 넘어간다
+	private boolean deliver(List<OutboxEvent> batch, Instant now) {
+		Set<OutboxSubscriber> failed = new HashSet<>();
+		for (OutboxSubscriber subscriber : subscribers) {
+			if (retryDelivered.contains(subscriber)) {
+				continue;
+			}
+			try {
+				subscriber.onEvents(batch);
+				retryDelivered.add(subscriber);
+			} catch (RuntimeException e) {
+				failures.increment();
+				failed.add(subscriber);
+				log.warn("Outbox subscriber {} failed on events {}..{} (attempt {})",
+					subscriber.getClass().getSimpleName(), batch.getFirst().getId(), batch.getLast().getId(),
+					attempts + 1, e);
+			}
+		}
+		if (!failed.isEmpty() && ++attempts < maxAttempts) {
+			retryBatch = batch;
+			lagMillis.set(ageOf(batch.getFirst(), now).toMillis());
+			return false;
+		}
+		if (!failed.isEmpty()) {
+			deadLettered.increment((double)batch.size() * failed.size());
+			log.error("Outbox subscribers {} gave up on events {} after {} attempts",
+				failed.stream().map(subscriber -> subscriber.getClass().getSimpleName()).toList(),
+				batch.stream().map(OutboxEvent::getId).map(String::valueOf).collect(Collectors.joining(",")),
+				attempts);
+		}
+		retryBatch = List.of();
+		retryDelivered.clear();
+		attempts = 0;
+		batch.forEach(event -> {
+			deliveredAfterCursor.add(event.getId());
+			deliveryLag.record(ageOf(event, now));
+		});
+		delivered.increment(batch.size());
+		return true;
+	}
+
+	// 커서 바로 뒤부터 빈 id 없이 이어지고 settle-window가 지난 이벤트까지만 커서를 옮긴다.
+	// 빈 id는 아직 커밋되지 않은 트랜잭션일 수 있으므로, gap-timeout 동안 채워지지 않을 때만 롤백된 것으로 보고 건너뛴다
+	private void advanceCursor(List<OutboxEvent> events, Instant now) {
+		LocalDateTime settledBefore = toLocalDateTime(now.minus(settleWindow));
+		for (OutboxEvent event : events) {
+			if (!deliveredAfterCursor.contains(event.getId()) || !event.getCreatedAt().isBefore(settledBefore)) {
+				return;
+			}
+			if (event.getId() != cursor + 1 && !gapExpired(event.getId(), now)) {
+				return;
+			}
+			deliveredAfterCursor.remove(event.getId());
+			cursor = event.getId();
+		}
+	}
+
+	private boolean gapExpired(long nextId, Instant now) {
+		if (!cursor.equals(gapAfter)) {
+			gapAfter = cursor;
+			gapSeenAt = now;
+			return false;
+		}
+		if (now.isBefore(gapSeenAt.plus(gapTimeout))) {
+			return false;
+		}
+		log.warn("Skipped outbox ids {}..{} that were not committed within {}", cursor + 1, nextId - 1, gapTimeout);
+		return true;
+	}
+
+	@Transactional
+	@Scheduled(cron = "${memome.outbox.cleanup-cron:0 15 4 * * *}")
+	public void deleteExpired() {
+		int deleted = outboxEventRepository.deleteCreatedBefore(toLocalDateTime(clock.instant().minus(retention)));
+		log.info("Deleted {} expired outbox events", deleted);
+	}
+
+	private Duration ageOf(OutboxEvent event, Instant now) {
+		Duration age = Duration.between(event.getCreatedAt().atZone(clock.getZone()).toInstant(), now);
+		return age.isNegative() ? Duration.ZERO : age;
+	}
+
+	private LocalDateTime toLocalDateTime(Instant instant) {
+		return LocalDateTime.ofInstant(instant, clock.getZone());
+	}
+}
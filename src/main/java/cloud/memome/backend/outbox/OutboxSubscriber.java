@@ -0,0 +1,9 @@
+package cloud.memome.backend.outbox;
+
+import java.util.List;
+
+// 모든 노드의 OutboxRelay가 각자 모든 이벤트를 id 순서대로 넘긴다(노드 로컬 캐시 무효화 등).
+// 적어도 한 번 전달되므로 같은 이벤트를 다시 받아도 결과가 같아야 한다. 예외를 던지면 배치 전체를 다시 받는다
+public interface OutboxSubscriber {
+	void onEvents(List<OutboxEvent> events);
+}
@@ -0,0 +1,31 @@
+package cloud.memome.backend.outbox;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+// 변경과 같은 트랜잭션에서 작은 행 하나만 남긴다(id를 DB가 정하므로 insert는 바로 나가고, 같은 커넥션을 쓴다).
+// 구독자는 커밋 이후 OutboxRelay가 따로 불러서, 쓰기 트랜잭션이 구독자를 기다리지 않는다
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+	private final OutboxEventRepository outboxEventRepository;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(OutboxAggregateType aggregateType, Long aggregateId, OutboxEventType eventType,
+		Long memberId) {
+		outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, memberId));
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void memo(Long memoId, OutboxEventType eventType, Long authorId) {
+		append(OutboxAggregateType.MEMO, memoId, eventType, authorId);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void member(Long memberId, OutboxEventType eventType) {
+		append(OutboxAggregateType.MEMBER, memberId, eventType, memberId);
+	}
+}
@@ -0,0 +1,135 @@
+package cloud.memome.backend.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+class MemberSearchIndex {
+	static final int TITLE_WEIGHT = 3;
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+	private final Map<Long, Integer> lengths = new HashMap<>();
+	private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+	private long totalLength;
+
+	static Map<String, Integer> termWeights(String title, String body) {
+		Map<String, Integer> weights = new HashMap<>();
+		for (String token : Tokenizer.tokenize(title)) {
+			weights.merge(token, TITLE_WEIGHT, Integer::sum);
+		}
+		for (String token : Tokenizer.tokenize(body)) {
+			weights.merge(token, 1, Integer::sum);
+		}
+		return weights;
+	}
+
+	void put(Long memoId, Map<String, Integer> terms) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(memoId);
+			int length = 0;
+			for (Map.Entry<String, Integer> term : terms.entrySet()) {
+				postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(memoId, term.getValue());
+				length += term.getValue();
+			}
+			documents.put(memoId, terms);
+			lengths.put(memoId, length);
+			totalLength += length;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void remove(Long memoId) {
+		lock.writeLock().lock();
+		try {
+			removeDocument(memoId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void removeDocument(Long memoId) {
+		Map<String, Integer> terms = documents.remove(memoId);
+		if (terms == null) {
+			return;
+		}
+		for (String term : terms.keySet()) {
+			Map<Long, Integer> posting = postings.get(term);
+			posting.remove(memoId);
+			if (posting.isEmpty()) {
+				postings.remove(term);
+			}
+		}
+		totalLength -= lengths.remove(memoId);
+	}
+
+	List<SearchHit> search(String query, int limit) {
+		LinkedHashSet<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+		lock.readLock().lock();
+		try {
+			if (terms.isEmpty() || documents.isEmpty()) {
+				return List.of();
+			}
+			int documentCount = documents.size();
+			double averageLength = (double)totalLength / documentCount;
+
+			Map<Long, Double> scores = new HashMap<>();
+			for (String term : terms) {
+				Map<Long, Integer> posting = postings.get(term);
+				if (posting == null) {
+					continue;
+				}
+				double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+				for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+					int frequency = entry.getValue();
+					double normalization = K1 * (1 - B + B * lengths.get(entry.getKey()) / averageLength);
+					double score = idf * frequency * (K1 + 1) / (frequency + normalization);
+					scores.merge(entry.getKey(), score, Double::sum);
+				}
+			}
+			return topK(scores, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static List<SearchHit> topK(Map<Long, Double> scores, int limit) {
+		PriorityQueue<SearchHit> heap = new PriorityQueue<>(Comparator.comparingDouble(SearchHit::getScore));
+		for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+			if (heap.size() < limit) {
+				heap.add(new SearchHit(entry.getKey(), entry.getValue()));
+			} else if (heap.peek().getScore() < entry.getValue()) {
+				heap.poll();
+				heap.add(new SearchHit(entry.getKey(), entry.getValue()));
+			}
+		}
+		List<SearchHit> hits = new ArrayList<>(heap);
+		hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed());
+		return hits;
+	}
+
+	int size() {
+		lock.readLock().lock();
+		try {
+			return documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 스냅샷은 색인 writer 스레드에서만 만들기 때문에 별도의 복사 없이 내부 상태를 그대로 노출한다
+	Map<Long, Map<String, Integer>> documents() {
+		return Collections.unmodifiableMap(documents);
+	}
+}
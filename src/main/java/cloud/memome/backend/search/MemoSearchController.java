@@ -0,0 +1,26 @@
+package cloud.memome.backend.search;
+
+import java.util.List;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import cloud.memome.backend.auth.LoginMember;
+import cloud.memome.backend.search.dto.MemoSearchResultDto;
+import cloud.memome.backend.search.dto.SearchMemoDto;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/memos")
+@RequiredArgsConstructor
+public class MemoSearchController {
+	private final MemoSearchService memoSearchService;
+
+	@GetMapping("/search")
+	public List<MemoSearchResultDto> search(@LoginMember Long memberId, @RequestParam("q") String query,
+		@RequestParam(required = false) Integer limit) {
+		return memoSearchService.search(new SearchMemoDto(memberId, query, limit));
+	}
+}
@@ -0,0 +1,259 @@
+package cloud.memome.backend.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import cloud.memome.backend.member.MemberRepository;
+import cloud.memome.backend.memo.MemoChange;
+import cloud.memome.backend.memo.MemoChangeRepository;
+import cloud.memome.backend.memo.MemoRepository;
+import cloud.memome.backend.memo.MemoSyncProperties;
+import cloud.memome.backend.memo.dto.MemoContentDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 색인은 노드마다 메모리에 있고, 다른 노드의 변경까지 공용 변경 피드를 커서로 따라 읽어 맞춘다.
+// 이 노드의 변경은 커밋 직후 이벤트로 먼저 반영하고, 같은 변경을 피드에서 다시 읽어도 결과가 같다
+@Slf4j
+@Component
+public class MemoSearchIndex {
+	private final MemoRepository memoRepository;
+	private final MemoChangeRepository memoChangeRepository;
+	private final MemberRepository memberRepository;
+	private final SearchProperties properties;
+	private final Duration settleWindow;
+	private final Duration tombstoneRetention;
+
+	private final Map<Long, MemberSearchIndex> indexes = new ConcurrentHashMap<>();
+	private final AtomicBoolean dirty = new AtomicBoolean();
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "memo-search-index-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	// writer 스레드에서만 읽고 쓴다. 불러오거나 다시 만들기 전에는 null이다
+	private Long changeCursor;
+	private LocalDateTime settledAt;
+
+	public MemoSearchIndex(MemoRepository memoRepository, MemoChangeRepository memoChangeRepository,
+		MemberRepository memberRepository, SearchProperties properties, MemoSyncProperties syncProperties) {
+		this.memoRepository = memoRepository;
+		this.memoChangeRepository = memoChangeRepository;
+		this.memberRepository = memberRepository;
+		this.properties = properties;
+		this.settleWindow = syncProperties.settleWindow();
+		this.tombstoneRetention = syncProperties.tombstoneRetention();
+	}
+
+	public void index(Long authorId, Long memoId, String title, String body) {
+		writer.execute(() -> put(authorId, memoId, title, body));
+	}
+
+	public void remove(Long authorId, Long memoId) {
+		writer.execute(() -> removeDocument(authorId, memoId));
+	}
+
+	public void removeMember(Long authorId) {
+		writer.execute(() -> {
+			if (indexes.remove(authorId) != null) {
+				dirty.set(true);
+			}
+		});
+	}
+
+	public List<SearchHit> search(Long authorId, String query, int limit) {
+		MemberSearchIndex index = indexes.get(authorId);
+		if (index == null) {
+			return List.of();
+		}
+		return index.search(query, limit);
+	}
+
+	public void loadOrRebuild() {
+		writer.execute(() -> {
+			if (!properties.rebuildOnStartup() && Files.exists(properties.indexPath()) && loadSnapshot()) {
+				catchUpOrWarn();
+				return;
+			}
+			rebuild();
+		});
+	}
+
+	public void catchUpWithChanges() {
+		writer.execute(() -> {
+			if (changeCursor != null) {
+				catchUpOrWarn();
+			}
+		});
+	}
+
+	public void snapshotIfDirty() {
+		writer.execute(() -> {
+			if (changeCursor != null && dirty.compareAndSet(true, false)) {
+				writeSnapshot();
+			}
+		});
+	}
+
+	private boolean loadSnapshot() {
+		try {
+			SearchIndexSnapshot.Contents loaded = SearchIndexSnapshot.read(properties.indexPath());
+			// 커서 뒤의 tombstone이 이미 지워졌을 수 있으면 삭제를 놓치므로 다시 만든다
+			if (loaded.settledAt().isBefore(memoChangeRepository.currentTimestamp().minus(tombstoneRetention))) {
+				log.info("Search index snapshot from {} is older than tombstone retention, rebuilding",
+					loaded.settledAt());
+				return false;
+			}
+			// 탈퇴한 회원의 메모는 tombstone 없이 지워지므로 피드로는 알 수 없다
+			Map<Long, MemberSearchIndex> existing = withoutRemovedMembers(loaded.indexes());
+			indexes.clear();
+			indexes.putAll(existing);
+			changeCursor = loaded.changeCursor();
+			settledAt = loaded.settledAt();
+			log.info("Loaded search index snapshot for {} members from {} at change {}", existing.size(),
+				properties.indexPath(), changeCursor);
+			return true;
+		} catch (IOException | RuntimeException e) {
+			log.warn("Failed to load search index snapshot from {}, rebuilding", properties.indexPath(), e);
+			return false;
+		}
+	}
+
+	private Map<Long, MemberSearchIndex> withoutRemovedMembers(Map<Long, MemberSearchIndex> loaded) {
+		List<Long> memberIds = List.copyOf(loaded.keySet());
+		Set<Long> existingIds = new HashSet<>();
+		for (int from = 0; from < memberIds.size(); from += properties.rebuildPageSize()) {
+			existingIds.addAll(memberRepository.findIdsByIdIn(
+				memberIds.subList(from, Math.min(from + properties.rebuildPageSize(), memberIds.size()))));
+		}
+		Map<Long, MemberSearchIndex> existing = new HashMap<>(loaded);
+		existing.keySet().retainAll(existingIds);
+		return existing;
+	}
+
+	private void catchUpOrWarn() {
+		try {
+			catchUp();
+		} catch (RuntimeException e) {
+			log.warn("Failed to catch up search index with memo changes after {}", changeCursor, e);
+		}
+	}
+
+	// 커서 뒤의 변경을 모두 반영한다. 순번은 발급 순서이고 커밋 순서가 아니므로, settle-window 안쪽의 변경은
+	// 반영만 하고 커서는 그 앞에서 멈춰서 다음에 다시 읽는다(동기화 토큰과 같은 규칙)
+	private void catchUp() {
+		LocalDateTime settledBefore = memoChangeRepository.currentTimestamp().minus(settleWindow);
+		long afterId = changeCursor;
+		boolean settled = true;
+		List<MemoChange> page;
+		do {
+			page = memoChangeRepository.findAfter(afterId, PageRequest.ofSize(properties.rebuildPageSize()));
+			if (page.isEmpty()) {
+				break;
+			}
+			apply(page);
+			for (MemoChange change : page) {
+				settled = settled && change.getChangedAt().isBefore(settledBefore);
+				if (settled) {
+					changeCursor = change.getId();
+				}
+			}
+			afterId = page.getLast().getId();
+		} while (page.size() == properties.rebuildPageSize());
+		settledAt = settledBefore;
+	}
+
+	private void apply(List<MemoChange> changes) {
+		Map<Long, MemoChange> saved = changes.stream()
+			.filter(change -> !change.isRemoved())
+			.collect(Collectors.toMap(MemoChange::getMemoId, Function.identity(), (first, second) -> second));
+		changes.stream()
+			.filter(MemoChange::isRemoved)
+			.forEach(change -> removeDocument(change.getAuthorId(), change.getMemoId()));
+		if (saved.isEmpty()) {
+			return;
+		}
+		for (MemoContentDto memo : memoRepository.findContentsByIdIn(saved.keySet())) {
+			put(memo.getAuthorId(), memo.getId(), memo.getTitle(), memo.getBody());
+			saved.remove(memo.getId());
+		}
+		// 읽기 전에 지워진 메모
+		saved.values().forEach(change -> removeDocument(change.getAuthorId(), change.getMemoId()));
+	}
+
+	private void put(Long authorId, Long memoId, String title, String body) {
+		indexes.computeIfAbsent(authorId, key -> new MemberSearchIndex())
+			.put(memoId, MemberSearchIndex.termWeights(title, body));
+		dirty.set(true);
+	}
+
+	private void removeDocument(Long authorId, Long memoId) {
+		MemberSearchIndex index = indexes.get(authorId);
+		if (index != null) {
+			index.remove(memoId);
+			dirty.set(true);
+		}
+	}
+
+	private void rebuild() {
+		// 다시 만드는 동안의 변경은 이 커서 뒤에서 다시 읽는다
+		LocalDateTime settledBefore = memoChangeRepository.currentTimestamp().minus(settleWindow);
+		long cursor = memoChangeRepository.findLastIdBefore(settledBefore).orElse(0L);
+		Map<Long, MemberSearchIndex> rebuilt = new HashMap<>();
+		long afterId = 0L;
+		int count = 0;
+		List<MemoContentDto> page;
+		do {
+			page = memoRepository.findContentsAfter(afterId, PageRequest.ofSize(properties.rebuildPageSize()));
+			for (MemoContentDto memo : page) {
+				rebuilt.computeIfAbsent(memo.getAuthorId(), key -> new MemberSearchIndex())
+					.put(memo.getId(), MemberSearchIndex.termWeights(memo.getTitle(), memo.getBody()));
+				afterId = memo.getId();
+			}
+			count += page.size();
+		} while (page.size() == properties.rebuildPageSize());
+
+		indexes.clear();
+		indexes.putAll(rebuilt);
+		changeCursor = cursor;
+		settledAt = settledBefore;
+		log.info("Rebuilt search index with {} memos of {} members", count, rebuilt.size());
+		writeSnapshot();
+	}
+
+	private void writeSnapshot() {
+		try {
+			SearchIndexSnapshot.write(properties.indexPath(), changeCursor, settledAt, indexes);
+		} catch (IOException e) {
+			dirty.set(true);
+			log.warn("Failed to write search index snapshot to {}", properties.indexPath(), e);
+		}
+	}
+
+	@PreDestroy
+	public void close() throws InterruptedException {
+		snapshotIfDirty();
+		writer.shutdown();
+		if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+			log.warn("Search index writer did not terminate in time");
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package cloud.memome.backend.search;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import cloud.memome.backend.memo.event.MemoRemovedEvent;
+import cloud.memome.backend.memo.event.MemoSavedEvent;
+import cloud.memome.backend.outbox.OutboxEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxSubscriber;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class MemoSearchIndexer implements OutboxSubscriber {
+	private final MemoSearchIndex memoSearchIndex;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		memoSearchIndex.loadOrRebuild();
+	}
+
+	@TransactionalEventListener
+	public void onMemoSaved(MemoSavedEvent event) {
+		memoSearchIndex.index(event.getAuthorId(), event.getMemoId(), event.getTitle(), event.getBody());
+	}
+
+	@TransactionalEventListener
+	public void onMemoRemoved(MemoRemovedEvent event) {
+		memoSearchIndex.remove(event.getAuthorId(), event.getMemoId());
+	}
+
+	// 탈퇴로 지운 메모와 회원은 변경 피드에 tombstone이 남지 않으므로 outbox의 삭제 이벤트로 모든 노드에서 지운다.
+	// 삭제가 커밋된 뒤에만 오므로 탈퇴가 중간에 실패하면 아직 남은 메모의 색인도 그대로 남는다
+	@Override
+	public void onEvents(List<OutboxEvent> events) {
+		for (OutboxEvent event : events) {
+			if (event.getEventType() != OutboxEventType.REMOVED) {
+				continue;
+			}
+			switch (event.getAggregateType()) {
+				case MEMO -> memoSearchIndex.remove(event.getMemberId(), event.getAggregateId());
+				case MEMBER -> memoSearchIndex.removeMember(event.getAggregateId());
+			}
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${memome.search.catch-up-interval:PT5S}")
+	public void catchUp() {
+		memoSearchIndex.catchUpWithChanges();
+	}
+
+	@Scheduled(fixedDelayString = "${memome.search.snapshot-interval:PT1M}")
+	public void snapshot() {
+		memoSearchIndex.snapshotIfDirty();
+	}
+}
@@ -0,0 +1,49 @@
+package cloud.memome.backend.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import cloud.memome.backend.memo.MemoRepository;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import cloud.memome.backend.search.dto.MemoSearchResultDto;
+import cloud.memome.backend.search.dto.SearchMemoDto;
+import lombok.RequiredArgsConstructor;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class MemoSearchService {
+	static final int DEFAULT_LIMIT = 20;
+	static final int MAX_LIMIT = 100;
+
+	private final MemoSearchIndex memoSearchIndex;
+	private final MemoRepository memoRepository;
+
+	public List<MemoSearchResultDto> search(SearchMemoDto dto) {
+		if (dto.getQuery() == null || dto.getQuery().isBlank()) {
+			throw new IllegalArgumentException("query는 null이거나 빈 문자열일 수 없습니다");
+		}
+		int limit = dto.getLimit() == null ? DEFAULT_LIMIT : Math.clamp(dto.getLimit(), 1, MAX_LIMIT);
+
+		List<SearchHit> hits = memoSearchIndex.search(dto.getAuthorId(), dto.getQuery(), limit);
+		if (hits.isEmpty()) {
+			return List.of();
+		}
+
+		// 색인은 커밋 이후 비동기로 반영되므로 이미 삭제된 메모는 DB 조회 결과에서 걸러진다
+		Map<Long, MemoSummaryDto> summaries = memoRepository.findSummariesByAuthorIdAndIdIn(
+				dto.getAuthorId(), hits.stream().map(SearchHit::getMemoId).toList())
+			.stream()
+			.collect(Collectors.toMap(MemoSummaryDto::getId, Function.identity()));
+
+		return hits.stream()
+			.filter(hit -> summaries.containsKey(hit.getMemoId()))
+			.map(hit -> new MemoSearchResultDto(summaries.get(hit.getMemoId()), hit.getScore()))
+			.toList();
+	}
+}
@@ -0,0 +1,9 @@
+package cloud.memome.backend.search;
+
+import lombok.Value;
+
+@Value
+public class SearchHit {
+	Long memoId;
+	double score;
+}
@@ -0,0 +1,89 @@
+package cloud.memome.backend.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 색인과 함께 어디까지의 변경 피드를 반영했는지(changeCursor)와 그 기준 DB 시각을 남겨,
+// 불러온 뒤 그 뒤의 변경만 다시 읽으면 되게 한다
+class SearchIndexSnapshot {
+	private static final int MAGIC = 0x4D4D5349;
+	private static final int FORMAT_VERSION = 2;
+
+	private SearchIndexSnapshot() {
+	}
+
+	record Contents(long changeCursor, LocalDateTime settledAt, Map<Long, MemberSearchIndex> indexes) {
+	}
+
+	static void write(Path path, long changeCursor, LocalDateTime settledAt, Map<Long, MemberSearchIndex> indexes)
+		throws IOException {
+		Files.createDirectories(path.toAbsolutePath().getParent());
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(
+			new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeLong(changeCursor);
+			out.writeUTF(settledAt.toString());
+			out.writeInt(indexes.size());
+			for (Map.Entry<Long, MemberSearchIndex> member : indexes.entrySet()) {
+				out.writeLong(member.getKey());
+				out.writeInt(member.getValue().size());
+				for (Map.Entry<Long, Map<String, Integer>> document : member.getValue().documents().entrySet()) {
+					writeDocument(out, document.getKey(), document.getValue());
+				}
+			}
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void writeDocument(DataOutputStream out, Long memoId, Map<String, Integer> terms)
+		throws IOException {
+		out.writeLong(memoId);
+		out.writeInt(terms.size());
+		for (Map.Entry<String, Integer> term : terms.entrySet()) {
+			out.writeUTF(term.getKey());
+			out.writeInt(term.getValue());
+		}
+	}
+
+	static Contents read(Path path) throws IOException {
+		try (DataInputStream in = new DataInputStream(
+			new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				throw new IOException("unsupported search index snapshot: " + path);
+			}
+			long changeCursor = in.readLong();
+			LocalDateTime settledAt = LocalDateTime.parse(in.readUTF());
+			int memberCount = in.readInt();
+			Map<Long, MemberSearchIndex> indexes = new HashMap<>(memberCount * 2);
+			for (int i = 0; i < memberCount; i++) {
+				long memberId = in.readLong();
+				int documentCount = in.readInt();
+				MemberSearchIndex index = new MemberSearchIndex();
+				for (int j = 0; j < documentCount; j++) {
+					long memoId = in.readLong();
+					int termCount = in.readInt();
+					Map<String, Integer> terms = new HashMap<>(termCount * 2);
+					for (int k = 0; k < termCount; k++) {
+						terms.put(in.readUTF(), in.readInt());
+					}
+					index.put(memoId, terms);
+				}
+				indexes.put(memberId, index);
+			}
+			return new Contents(changeCursor, settledAt, indexes);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package cloud.memome.backend.search;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("memome.search")
+public record SearchProperties(
+	@DefaultValue("data/search-index.bin") Path indexPath,
+	@DefaultValue("500") int rebuildPageSize,
+	@DefaultValue("false") boolean rebuildOnStartup
+) {
+}
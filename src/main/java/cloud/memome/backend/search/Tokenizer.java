@@ -0,0 +1,66 @@
+package cloud.memome.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class Tokenizer {
+	private static final int MAX_TOKEN_LENGTH = 40;
+
+	private Tokenizer() {
+	}
+
+	// 공백/문장부호로 단어를 나누고, 띄어쓰기로 조사/어미가 분리되지 않는 한글·CJK는 bigram으로 색인한다
+	public static List<String> tokenize(String text) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isEmpty()) {
+			return tokens;
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+		int i = 0;
+		while (i < normalized.length()) {
+			int codePoint = normalized.codePointAt(i);
+			if (!Character.isLetterOrDigit(codePoint)) {
+				i += Character.charCount(codePoint);
+				continue;
+			}
+			boolean bigram = isBigramScript(codePoint);
+			int start = i;
+			while (i < normalized.length()) {
+				int current = normalized.codePointAt(i);
+				if (!Character.isLetterOrDigit(current) || isBigramScript(current) != bigram) {
+					break;
+				}
+				i += Character.charCount(current);
+			}
+			String word = normalized.substring(start, i);
+			if (bigram) {
+				addBigrams(word, tokens);
+			} else if (word.length() <= MAX_TOKEN_LENGTH) {
+				tokens.add(word);
+			}
+		}
+		return tokens;
+	}
+
+	private static void addBigrams(String word, List<String> tokens) {
+		int[] codePoints = word.codePoints().toArray();
+		if (codePoints.length == 1) {
+			tokens.add(word);
+			return;
+		}
+		for (int i = 0; i + 1 < codePoints.length; i++) {
+			tokens.add(new String(codePoints, i, 2));
+		}
+	}
+
+	private static boolean isBigramScript(int codePoint) {
+		Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+		return script == Character.UnicodeScript.HANGUL
+			|| script == Character.UnicodeScript.HAN
+			|| script == Character.UnicodeScript.HIRAGANA
+			|| script == Character.UnicodeScript.KATAKANA;
+	}
+}
@@ -0,0 +1,10 @@
+package cloud.memome.backend.search.dto;
+
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import lombok.Value;
+
+@Value
+public class MemoSearchResultDto {
+	MemoSummaryDto memo;
+	double score;
+}
@@ -0,0 +1,10 @@
+package cloud.memome.backend.search.dto;
+
+import lombok.Value;
+
+@Value
+public class SearchMemoDto {
+	Long authorId;
+	String query;
+	Integer limit;
+}
@@ -3,7 +3,8 @@ package cloud.memome.backend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// 토큰 서명 키는 운영에서 환경 변수로만 주입하므로 테스트 전용 키를 넣는다
+@SpringBootTest(properties = "memome.auth.token.keys.k1=bWVtb21lLXRlc3Qtb25seS10b2tlbi1zaWduaW5nLWtleSEh")
 class MemomeBackendApplicationTests {
 
 	@Test
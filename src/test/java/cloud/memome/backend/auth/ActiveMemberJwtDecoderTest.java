@@ -0,0 +1,91 @@
+package cloud.memome.backend.auth;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import cloud.memome.backend.outbox.OutboxAggregateType;
+import cloud.memome.backend.outbox.OutboxEvent;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxProperties;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveMemberJwtDecoderTest {
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+	@Mock
+	private OutboxEvent outboxEvent;
+
+	private AuthTokenService authTokenService;
+	private RevokedMembers revokedMembers;
+	private ActiveMemberJwtDecoder decoder;
+
+	@BeforeEach
+	void setUp() {
+		AuthTokenProperties properties = AuthTokenServiceTest.properties("k1",
+			Map.of("k1", AuthTokenServiceTest.key('1')), Duration.ofHours(1));
+		authTokenService = new AuthTokenService(properties);
+		revokedMembers = new RevokedMembers(outboxEventRepository, properties,
+			new OutboxProperties(500, Duration.ofSeconds(10), Duration.ofDays(1), Duration.ofMinutes(5), 5));
+		decoder = new ActiveMemberJwtDecoder(authTokenService.jwtDecoder(), revokedMembers);
+	}
+
+	@DisplayName("탈퇴하지 않은 회원의 토큰은 DB를 보지 않고 그대로 통과시킨다")
+	@Test
+	public void decode_active_member() {
+		//when
+		Jwt jwt = decoder.decode(authTokenService.issue(42L));
+
+		//then
+		Assertions.assertThat(jwt.getSubject()).isEqualTo("42");
+		verifyNoInteractions(outboxEventRepository);
+	}
+
+	@DisplayName("outbox로 탈퇴가 전달된 회원의 토큰은 만료 전이어도 거부된다")
+	@Test
+	public void decode_removed_member() {
+		//given
+		String token = authTokenService.issue(42L);
+		when(outboxEvent.getAggregateType()).thenReturn(OutboxAggregateType.MEMBER);
+		when(outboxEvent.getEventType()).thenReturn(OutboxEventType.REMOVED);
+		when(outboxEvent.getAggregateId()).thenReturn(42L);
+
+		//when
+		revokedMembers.onEvents(List.of(outboxEvent));
+
+		//then
+		Assertions.assertThatThrownBy(() -> decoder.decode(token))
+			.isInstanceOf(JwtException.class);
+		Assertions.assertThat(decoder.decode(authTokenService.issue(43L)).getSubject()).isEqualTo("43");
+	}
+
+	@DisplayName("시작할 때 토큰 ttl 안에 남은 탈퇴 이벤트로 목록을 다시 채운다")
+	@Test
+	public void load_recent_removals() {
+		//given
+		when(outboxEventRepository.findAggregateIdsCreatedAfter(eq(OutboxAggregateType.MEMBER),
+			eq(OutboxEventType.REMOVED), any()))
+			.thenReturn(List.of(42L));
+
+		//when
+		revokedMembers.loadRecent();
+
+		//then
+		Assertions.assertThatThrownBy(() -> decoder.decode(authTokenService.issue(42L)))
+			.isInstanceOf(JwtException.class);
+	}
+}
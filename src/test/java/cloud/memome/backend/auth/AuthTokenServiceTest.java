@@ -0,0 +1,133 @@
+package cloud.memome.backend.auth;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+class AuthTokenServiceTest {
+	private static final String KEY_1 = key('1');
+	private static final String KEY_2 = key('2');
+
+	@DisplayName("발급한 토큰을 검증하면 회원 id를 얻는다")
+	@Test
+	public void issue_and_decode() {
+		//given
+		AuthTokenService authTokenService = new AuthTokenService(properties("k1", Map.of("k1", KEY_1), Duration.ofHours(1)));
+
+		//when
+		String token = authTokenService.issue(42L);
+		Jwt jwt = authTokenService.jwtDecoder().decode(token);
+
+		//then
+		Assertions.assertThat(jwt.getSubject()).isEqualTo("42");
+		Assertions.assertThat(jwt.getHeaders()).containsEntry("kid", "k1");
+	}
+
+	@DisplayName("키 교체 후에도 이전 키로 발급된 토큰은 검증된다")
+	@Test
+	public void decode_after_rotation() {
+		//given
+		String oldToken = new AuthTokenService(properties("k1", Map.of("k1", KEY_1), Duration.ofHours(1)))
+			.issue(42L);
+		AuthTokenService rotated = new AuthTokenService(
+			properties("k2", Map.of("k1", KEY_1, "k2", KEY_2), Duration.ofHours(1)));
+
+		//when
+		Jwt oldJwt = rotated.jwtDecoder().decode(oldToken);
+		Jwt newJwt = rotated.jwtDecoder().decode(rotated.issue(7L));
+
+		//then
+		Assertions.assertThat(oldJwt.getSubject()).isEqualTo("42");
+		Assertions.assertThat(newJwt.getSubject()).isEqualTo("7");
+		Assertions.assertThat(newJwt.getHeaders()).containsEntry("kid", "k2");
+	}
+
+	@DisplayName("제거된 키로 서명된 토큰은 거부된다")
+	@Test
+	public void decode_removed_key() {
+		//given
+		String oldToken = new AuthTokenService(properties("k1", Map.of("k1", KEY_1), Duration.ofHours(1)))
+			.issue(42L);
+		AuthTokenService rotated = new AuthTokenService(properties("k2", Map.of("k2", KEY_2), Duration.ofHours(1)));
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> rotated.jwtDecoder().decode(oldToken))
+			.isInstanceOf(JwtException.class);
+	}
+
+	@DisplayName("만료된 토큰은 거부된다")
+	@Test
+	public void decode_expired() {
+		//given
+		AuthTokenService authTokenService = new AuthTokenService(
+			properties("k1", Map.of("k1", KEY_1), Duration.ofMinutes(-10)));
+		String token = authTokenService.issue(42L);
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> authTokenService.jwtDecoder().decode(token))
+			.isInstanceOf(JwtException.class);
+	}
+
+	@DisplayName("active 키가 keys에 없으면 생성 실패")
+	@Test
+	public void create_without_active_key() {
+		//when //then
+		Assertions.assertThatThrownBy(
+				() -> new AuthTokenService(properties("k2", Map.of("k1", KEY_1), Duration.ofHours(1))))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@DisplayName("짧은 서명 키는 거부된다")
+	@Test
+	public void create_with_short_key() {
+		//given
+		String shortKey = Base64.getEncoder().encodeToString(new byte[16]);
+
+		//when //then
+		Assertions.assertThatThrownBy(
+				() -> new AuthTokenService(properties("k1", Map.of("k1", shortKey), Duration.ofHours(1))))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@DisplayName("서명 키 환경 변수가 비어 치환되지 않은 값이 들어오면 어느 키인지 알려주며 생성 실패")
+	@Test
+	public void create_with_unresolved_key() {
+		//when //then
+		Assertions.assertThatThrownBy(() -> new AuthTokenService(
+				properties("k1", Map.of("k1", "${MEMOME_TOKEN_KEY_K1}"), Duration.ofHours(1))))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining("k1");
+	}
+
+	@DisplayName("토큰 쿠키는 HttpOnly, Secure, SameSite=Lax")
+	@Test
+	public void createCookie() {
+		//given
+		AuthTokenService authTokenService = new AuthTokenService(properties("k1", Map.of("k1", KEY_1), Duration.ofHours(1)));
+
+		//when
+		ResponseCookie cookie = authTokenService.createCookie("token");
+
+		//then
+		Assertions.assertThat(cookie.getName()).isEqualTo("MEMOME_TOKEN");
+		Assertions.assertThat(cookie.isHttpOnly()).isTrue();
+		Assertions.assertThat(cookie.isSecure()).isTrue();
+		Assertions.assertThat(cookie.getSameSite()).isEqualTo("Lax");
+		Assertions.assertThat(cookie.getMaxAge()).isEqualTo(Duration.ofHours(1));
+	}
+
+	static AuthTokenProperties properties(String activeKeyId, Map<String, String> keys, Duration ttl) {
+		return new AuthTokenProperties("memome", ttl, "MEMOME_TOKEN", activeKeyId, keys);
+	}
+
+	static String key(char fill) {
+		return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+	}
+}
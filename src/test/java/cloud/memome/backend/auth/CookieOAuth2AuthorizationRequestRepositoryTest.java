@@ -0,0 +1,100 @@
+package cloud.memome.backend.auth;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import jakarta.servlet.http.Cookie;
+
+class CookieOAuth2AuthorizationRequestRepositoryTest {
+	private final CookieOAuth2AuthorizationRequestRepository repository = new CookieOAuth2AuthorizationRequestRepository(
+		AuthTokenServiceTest.properties("k1", Map.of("k1", AuthTokenServiceTest.key('1')), Duration.ofHours(1)));
+
+	@DisplayName("저장한 인가 요청을 같은 state로 다시 읽는다")
+	@Test
+	public void save_and_load() {
+		//given
+		OAuth2AuthorizationRequest authorizationRequest = authorizationRequest("state-1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		repository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+
+		MockHttpServletRequest callback = new MockHttpServletRequest();
+		callback.setParameter("state", "state-1");
+		callback.setCookies(response.getCookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME));
+
+		//when
+		OAuth2AuthorizationRequest loaded = repository.loadAuthorizationRequest(callback);
+
+		//then
+		Assertions.assertThat(loaded).isNotNull();
+		Assertions.assertThat(loaded.getState()).isEqualTo("state-1");
+		Assertions.assertThat(loaded.getClientId()).isEqualTo("client");
+		Assertions.assertThat(loaded.getRedirectUri()).isEqualTo(authorizationRequest.getRedirectUri());
+		Assertions.assertThat(loaded.getAttributes()).isEqualTo(authorizationRequest.getAttributes());
+		Assertions.assertThat(response.getHeader(HttpHeaders.SET_COOKIE)).contains("HttpOnly", "SameSite=Lax");
+	}
+
+	@DisplayName("state가 다르면 인가 요청을 찾지 못한다")
+	@Test
+	public void load_state_mismatch() {
+		//given
+		MockHttpServletRequest callback = new MockHttpServletRequest();
+		callback.setParameter("state", "other");
+		callback.setCookies(new Cookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME,
+			repository.encode(authorizationRequest("state-1"))));
+
+		//when //then
+		Assertions.assertThat(repository.loadAuthorizationRequest(callback)).isNull();
+	}
+
+	@DisplayName("변조된 쿠키는 무시한다")
+	@Test
+	public void load_tampered() {
+		//given
+		String value = repository.encode(authorizationRequest("state-1"));
+		String tampered = value.substring(0, value.lastIndexOf('.') + 1) + "AAAA";
+		MockHttpServletRequest callback = new MockHttpServletRequest();
+		callback.setParameter("state", "state-1");
+		callback.setCookies(new Cookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME, tampered));
+
+		//when //then
+		Assertions.assertThat(repository.loadAuthorizationRequest(callback)).isNull();
+	}
+
+	@DisplayName("인가 요청을 꺼내면 쿠키를 만료시킨다")
+	@Test
+	public void remove() {
+		//given
+		MockHttpServletRequest callback = new MockHttpServletRequest();
+		callback.setParameter("state", "state-1");
+		callback.setCookies(new Cookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME,
+			repository.encode(authorizationRequest("state-1"))));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		OAuth2AuthorizationRequest removed = repository.removeAuthorizationRequest(callback, response);
+
+		//then
+		Assertions.assertThat(removed).isNotNull();
+		Assertions.assertThat(response.getCookie(CookieOAuth2AuthorizationRequestRepository.COOKIE_NAME).getMaxAge())
+			.isZero();
+	}
+
+	private static OAuth2AuthorizationRequest authorizationRequest(String state) {
+		return OAuth2AuthorizationRequest.authorizationCode()
+			.authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+			.clientId("client")
+			.redirectUri("http://localhost:8080/login/oauth2/code/google")
+			.scope("openid", "profile", "email")
+			.state(state)
+			.attributes(Map.of("registration_id", "google", "nonce", "nonce-1"))
+			.build();
+	}
+}
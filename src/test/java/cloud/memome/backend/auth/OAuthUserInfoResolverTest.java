@@ -55,6 +55,35 @@ class OAuthUserInfoResolverTest {
 		Assertions.assertThat(oAuthUserInfo.getEmail()).isEqualTo("test@email.com");
 	}
 
+	@Test
+	@DisplayName("ID 토큰에 필요한 클레임이 모두 있으면 userinfo가 필요 없다")
+	public void hasRequiredClaims_true() throws MalformedURLException {
+		//given
+		Map<String, Object> claims = Map.of(
+			"iss", new URL(ProviderType.KAKAO.getIssuer()),
+			"sub", "0123456789",
+			"nickname", "홍길동",
+			"email", "test@email.com"
+		);
+
+		//when //then
+		Assertions.assertThat(OAuthUserInfoResolver.hasRequiredClaims(claims)).isTrue();
+	}
+
+	@Test
+	@DisplayName("ID 토큰에 이메일이 없으면 userinfo가 필요하다")
+	public void hasRequiredClaims_false() throws MalformedURLException {
+		//given
+		Map<String, Object> claims = Map.of(
+			"iss", new URL(ProviderType.GOOGLE.getIssuer()),
+			"sub", "0123456789",
+			"name", "홍길동"
+		);
+
+		//when //then
+		Assertions.assertThat(OAuthUserInfoResolver.hasRequiredClaims(claims)).isFalse();
+	}
+
 	@Test
 	@DisplayName("지원하지 않는 Provider - resolve 실패")
 	public void resolve_unsupported_provider_fail() throws MalformedURLException {
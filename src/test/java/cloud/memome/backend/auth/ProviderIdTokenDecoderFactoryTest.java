@@ -0,0 +1,102 @@
+package cloud.memome.backend.auth;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.config.oauth2.client.CommonOAuth2Provider;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import cloud.memome.backend.member.ProviderType;
+
+class ProviderIdTokenDecoderFactoryTest {
+	private StubJwksServer server;
+	private ClientRegistration clientRegistration;
+	private ProviderIdTokenDecoderFactory decoderFactory;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new StubJwksServer();
+		clientRegistration = CommonOAuth2Provider.GOOGLE.getBuilder("google")
+			.clientId("client")
+			.clientSecret("secret")
+			.jwkSetUri(server.uri().toString())
+			.build();
+		ProviderJwkProperties properties = new ProviderJwkProperties(
+			Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofSeconds(3));
+		decoderFactory = new ProviderIdTokenDecoderFactory(
+			new ProviderJwkCache(Map.of(ProviderType.GOOGLE, server.uri()), properties));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@DisplayName("로컬 JWKS 서버의 키로 서명된 ID 토큰을 검증하고 클레임 타입을 변환한다")
+	@Test
+	public void decode_id_token() throws Exception {
+		//given
+		RSAKey rsaKey = ProviderJwkCacheTest.rsaKey("k1");
+		server.keys(List.of(rsaKey.toPublicJWK()));
+		String idToken = idToken(rsaKey, "client");
+
+		//when
+		JwtDecoder jwtDecoder = decoderFactory.createDecoder(clientRegistration);
+		Jwt jwt = jwtDecoder.decode(idToken);
+
+		//then
+		Assertions.assertThat(jwt.getSubject()).isEqualTo("0123456789");
+		Assertions.assertThat(jwt.getClaims().get("iss")).isInstanceOf(URL.class);
+		Assertions.assertThat(decoderFactory.createDecoder(clientRegistration)).isSameAs(jwtDecoder);
+		Assertions.assertThat(server.requestCount()).isEqualTo(1);
+	}
+
+	@DisplayName("다른 클라이언트용 ID 토큰은 거부한다")
+	@Test
+	public void decode_wrong_audience() throws Exception {
+		//given
+		RSAKey rsaKey = ProviderJwkCacheTest.rsaKey("k1");
+		server.keys(List.of(rsaKey.toPublicJWK()));
+		String idToken = idToken(rsaKey, "other-client");
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> decoderFactory.createDecoder(clientRegistration).decode(idToken))
+			.isInstanceOf(JwtException.class);
+	}
+
+	private static String idToken(RSAKey rsaKey, String audience) {
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+			.issuer(ProviderType.GOOGLE.getIssuer())
+			.subject("0123456789")
+			.audience(List.of(audience))
+			.issuedAt(now)
+			.expiresAt(now.plus(Duration.ofMinutes(5)))
+			.claim("name", "홍길동")
+			.claim("email", "test@email.com")
+			.build();
+		JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).keyId(rsaKey.getKeyID()).build();
+		return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(rsaKey)))
+			.encode(JwtEncoderParameters.from(header, claims))
+			.getTokenValue();
+	}
+}
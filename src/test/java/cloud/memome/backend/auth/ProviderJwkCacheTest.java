@@ -0,0 +1,184 @@
+package cloud.memome.backend.auth;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import cloud.memome.backend.member.ProviderType;
+
+class ProviderJwkCacheTest {
+	private StubJwksServer server;
+	private TestClock clock;
+	private ProviderJwkCache providerJwkCache;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new StubJwksServer();
+		clock = new TestClock(Instant.parse("2025-01-01T00:00:00Z"));
+		ProviderJwkProperties properties = new ProviderJwkProperties(
+			Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofSeconds(3));
+		providerJwkCache = new ProviderJwkCache(Map.of(ProviderType.GOOGLE, server.uri()), properties, clock);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@DisplayName("동시에 들어온 첫 조회는 한 번의 요청으로 합쳐진다")
+	@Test
+	public void concurrent_fetch_coalesced() throws Exception {
+		//given
+		server.keys(List.of(rsaKey("k1")));
+		server.latency(Duration.ofMillis(200));
+		JWKSource<SecurityContext> jwkSource = providerJwkCache.jwkSource(ProviderType.GOOGLE);
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+
+		//when
+		List<Future<List<JWK>>> futures = IntStream.range(0, threads)
+			.mapToObj(i -> executor.submit(() -> {
+				start.await();
+				return jwkSource.get(selector("k1"), null);
+			}))
+			.toList();
+		start.countDown();
+
+		//then
+		for (Future<List<JWK>> future : futures) {
+			Assertions.assertThat(future.get()).extracting(JWK::getKeyID).containsExactly("k1");
+		}
+		Assertions.assertThat(server.requestCount()).isEqualTo(1);
+		executor.shutdown();
+	}
+
+	@DisplayName("캐시된 키로 찾으면 다시 요청하지 않는다")
+	@Test
+	public void cached() throws Exception {
+		//given
+		server.keys(List.of(rsaKey("k1")));
+		JWKSource<SecurityContext> jwkSource = providerJwkCache.jwkSource(ProviderType.GOOGLE);
+		jwkSource.get(selector("k1"), null);
+
+		//when
+		List<JWK> found = jwkSource.get(selector("k1"), null);
+
+		//then
+		Assertions.assertThat(found).hasSize(1);
+		Assertions.assertThat(server.requestCount()).isEqualTo(1);
+	}
+
+	@DisplayName("모르는 kid면 한 번 다시 받아 교체된 키를 찾는다")
+	@Test
+	public void unknown_kid_refetch() throws Exception {
+		//given
+		server.keys(List.of(rsaKey("k1")));
+		JWKSource<SecurityContext> jwkSource = providerJwkCache.jwkSource(ProviderType.GOOGLE);
+		jwkSource.get(selector("k1"), null);
+		server.keys(List.of(rsaKey("k1"), rsaKey("k2"))); //제공자가 키 교체
+		clock.advance(Duration.ofMinutes(1));
+
+		//when
+		List<JWK> found = jwkSource.get(selector("k2"), null);
+
+		//then
+		Assertions.assertThat(found).extracting(JWK::getKeyID).containsExactly("k2");
+		Assertions.assertThat(server.requestCount()).isEqualTo(2);
+	}
+
+	@DisplayName("최소 간격 안에서는 모르는 kid로 다시 요청하지 않는다")
+	@Test
+	public void unknown_kid_rate_limited() throws Exception {
+		//given
+		server.keys(List.of(rsaKey("k1")));
+		JWKSource<SecurityContext> jwkSource = providerJwkCache.jwkSource(ProviderType.GOOGLE);
+		jwkSource.get(selector("k1"), null);
+
+		//when
+		List<JWK> found = jwkSource.get(selector("unknown"), null);
+
+		//then
+		Assertions.assertThat(found).isEmpty();
+		Assertions.assertThat(server.requestCount()).isEqualTo(1);
+	}
+
+	@DisplayName("Cache-Control max-age 기준으로 만료 전에 백그라운드 갱신")
+	@Test
+	public void refresh_before_expiry() throws Exception {
+		//given
+		server.keys(List.of(rsaKey("k1")));
+		server.cacheControl("public, max-age=600, must-revalidate");
+		JWKSource<SecurityContext> jwkSource = providerJwkCache.jwkSource(ProviderType.GOOGLE);
+		jwkSource.get(selector("k1"), null);
+
+		//when
+		providerJwkCache.refreshExpiring(); //만료까지 10분 남음
+		clock.advance(Duration.ofMinutes(6));
+		providerJwkCache.refreshExpiring(); //만료까지 4분 남음
+
+		//then
+		long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+		while (server.requestCount() < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		Assertions.assertThat(server.requestCount()).isEqualTo(2);
+	}
+
+	private static JWKSelector selector(String keyId) {
+		return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+	}
+
+	static RSAKey rsaKey(String keyId) throws Exception {
+		return new RSAKeyGenerator(2048).keyID(keyId).generate();
+	}
+
+	static class TestClock extends Clock {
+		private volatile Instant now;
+
+		TestClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
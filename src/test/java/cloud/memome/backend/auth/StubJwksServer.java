@@ -0,0 +1,75 @@
+package cloud.memome.backend.auth;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.sun.net.httpserver.HttpServer;
+
+// 테스트용 로컬 JWKS 서버. 응답 지연과 Cache-Control을 조절할 수 있다
+class StubJwksServer implements AutoCloseable {
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private volatile JWKSet jwkSet = new JWKSet();
+	private volatile Duration latency = Duration.ZERO;
+	private volatile String cacheControl;
+
+	StubJwksServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/jwks.json", exchange -> {
+			requestCount.incrementAndGet();
+			try {
+				Thread.sleep(latency.toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			byte[] body = jwkSet.toString(true).getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			if (cacheControl != null) {
+				exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+			}
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	URI uri() {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/jwks.json");
+	}
+
+	void keys(List<JWK> keys) {
+		jwkSet = new JWKSet(keys);
+	}
+
+	void latency(Duration latency) {
+		this.latency = latency;
+	}
+
+	void cacheControl(String cacheControl) {
+		this.cacheControl = cacheControl;
+	}
+
+	int requestCount() {
+		return requestCount.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,80 @@
+package cloud.memome.backend.common;
+
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+	@Mock
+	private DataSource target;
+	@Mock
+	private Connection connection;
+
+	@Test
+	@DisplayName("허용 개수만큼 커넥션을 쓰고 있으면 다음 요청은 시간 초과로 실패한다")
+	public void limit_concurrent_connections() throws SQLException {
+		//given
+		when(target.getConnection()).thenReturn(connection);
+		ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(10));
+		Connection first = dataSource.getConnection();
+
+		//when //then
+		Assertions.assertThatThrownBy(dataSource::getConnection)
+			.isInstanceOf(SQLTransientConnectionException.class);
+
+		first.close();
+		Assertions.assertThat(dataSource.getConnection()).isNotNull();
+		verify(connection).close();
+	}
+
+	@Test
+	@DisplayName("커넥션을 두 번 닫아도 허용 개수는 한 번만 돌려준다")
+	public void release_once() throws SQLException {
+		//given
+		when(target.getConnection()).thenReturn(connection);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(10));
+		dataSource.bindTo(meterRegistry);
+
+		//when
+		Connection acquired = dataSource.getConnection();
+		acquired.close();
+		acquired.close();
+
+		//then
+		Assertions.assertThat(meterRegistry.get("memome.datasource.concurrency.available").gauge().value())
+			.isEqualTo(2);
+		Assertions.assertThat(acquired).isEqualTo(acquired);
+	}
+
+	@Test
+	@DisplayName("커넥션을 얻지 못하면 허용 개수를 돌려준다")
+	public void release_on_failure() throws SQLException {
+		//given
+		when(target.getConnection())
+			.thenThrow(new SQLException("down"))
+			.thenReturn(connection);
+		ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(10));
+
+		//when //then
+		Assertions.assertThatThrownBy(dataSource::getConnection)
+			.isInstanceOf(SQLException.class)
+			.hasMessage("down");
+		Assertions.assertThat(dataSource.getConnection()).isNotNull();
+	}
+}
@@ -0,0 +1,44 @@
+package cloud.memome.backend.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 블록 하나가 실행한 SQL을 시퀀스 조회까지 모두 모은다.
+// @DataJpaTest(properties = {RecordingStatementInspector.PROPERTY, RecordingStatementInspector.SEQUENCE_PER_INSERT})로 등록한다
+public class RecordingStatementInspector implements StatementInspector {
+	public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "cloud.memome.backend.common.RecordingStatementInspector";
+	// 시퀀스 조회는 allocationSize번에 한 번이라 테스트 실행 순서에 따라 달라진다.
+	// 풀링을 끄고 id를 만들 때마다 조회하게 해서 횟수를 고정한다. 운영에서는 allocationSize가 큰 시퀀스일수록 조회가 드물다
+	public static final String SEQUENCE_PER_INSERT = "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=none";
+
+	private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+	public static List<String> record(Runnable block) {
+		List<String> statements = new ArrayList<>();
+		RECORDED.set(statements);
+		try {
+			block.run();
+		} finally {
+			RECORDED.remove();
+		}
+		return statements;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		List<String> statements = RECORDED.get();
+		if (statements != null) {
+			statements.add(sql);
+		}
+		return sql;
+	}
+
+	public static boolean isSequenceCall(String sql) {
+		String lower = sql.toLowerCase(Locale.ROOT);
+		return lower.contains("next value for") || lower.contains("nextval");
+	}
+}
@@ -0,0 +1,215 @@
+package cloud.memome.backend.common;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+
+// 프라이머리와 레플리카를 서로 다른 H2 인메모리 DB로 띄우고, 어느 쪽에서 읽었는지 node 테이블로 구분한다
+class ReplicaRoutingDataSourceTest {
+	private static final Duration WINDOW = Duration.ofSeconds(5);
+
+	private final TestClock clock = new TestClock(Instant.parse("2026-01-01T00:00:00Z"));
+	private final ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW, clock);
+	private DataSource primary;
+	private DataSource replica;
+
+	@BeforeEach
+	void setUp() {
+		primary = h2("primary");
+		replica = h2("replica");
+	}
+
+	@AfterEach
+	void tearDown() {
+		new JdbcTemplate(primary).execute("shutdown");
+		new JdbcTemplate(replica).execute("shutdown");
+	}
+
+	@Test
+	@DisplayName("readOnly 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리로 간다")
+	public void route_by_read_only() {
+		//given
+		ReplicaRoutingDataSource routing = routing(List.of(replica));
+
+		//when //then
+		Assertions.assertThat(nodeName(routing, true)).isEqualTo("replica");
+		Assertions.assertThat(nodeName(routing, false)).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("쓰기한 요청 안에서는 이후 읽기도 프라이머리로 간다")
+	public void read_your_writes_within_request() throws Exception {
+		//given
+		ReplicaRoutingDataSource routing = routing(List.of(replica));
+		List<String> names = new ArrayList<>();
+
+		//when
+		filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+			names.add(nodeName(routing, true));
+			names.add(nodeName(routing, false));
+			names.add(nodeName(routing, true));
+		});
+
+		//then
+		Assertions.assertThat(names).containsExactly("replica", "primary", "primary");
+	}
+
+	@Test
+	@DisplayName("쓰기 후 받은 쿠키를 가진 요청은 다른 인스턴스에서도 설정한 시간 동안 프라이머리에서 읽는다")
+	public void read_your_writes_across_instances() throws Exception {
+		//given
+		MockHttpServletResponse written = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest(), written,
+			(req, res) -> nodeName(routing(List.of(replica)), false));
+		Cookie cookie = written.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+		Assertions.assertThat(cookie).isNotNull();
+
+		ReplicaRoutingDataSource otherInstance = routing(List.of(replica));
+		ReadYourWritesFilter otherFilter = new ReadYourWritesFilter(WINDOW, clock);
+
+		//when //then
+		Assertions.assertThat(readIn(otherFilter, otherInstance, cookie)).isEqualTo("primary");
+		Assertions.assertThat(readIn(otherFilter, otherInstance, null)).isEqualTo("replica");
+
+		clock.advance(WINDOW.plusMillis(1));
+		Assertions.assertThat(readIn(otherFilter, otherInstance, cookie)).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("값을 읽을 수 없는 쿠키는 무시한다")
+	public void ignore_malformed_cookie() throws Exception {
+		//given
+		ReplicaRoutingDataSource routing = routing(List.of(replica));
+
+		//when
+		String name = readIn(filter, routing, new Cookie(ReadYourWritesFilter.COOKIE_NAME, "garbage"));
+
+		//then
+		Assertions.assertThat(name).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("연결할 수 없는 레플리카는 제외하고, 남은 레플리카가 없으면 프라이머리에서 읽는다")
+	public void failover_to_primary() {
+		//given
+		DataSource broken = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+		ReplicaRoutingDataSource routing = routing(List.of(broken));
+
+		//when
+		String name = nodeName(routing, true);
+
+		//then
+		Assertions.assertThat(name).isEqualTo("primary");
+		Assertions.assertThat(routing.healthyReplicaCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("헬스 체크로 복구된 레플리카는 다시 읽기에 쓰인다")
+	public void health_check_restores_replica() {
+		//given
+		AtomicBoolean down = new AtomicBoolean(true);
+		DataSource flaky = new DelegatingDataSource(replica) {
+			@Override
+			public Connection getConnection() throws SQLException {
+				if (down.get()) {
+					throw new SQLException("replica is down");
+				}
+				return super.getConnection();
+			}
+		};
+		ReplicaRoutingDataSource routing = routing(List.of(flaky));
+		routing.checkHealth();
+		Assertions.assertThat(nodeName(routing, true)).isEqualTo("primary");
+
+		//when
+		down.set(false);
+		routing.checkHealth();
+
+		//then
+		Assertions.assertThat(routing.healthyReplicaCount()).isEqualTo(1);
+		Assertions.assertThat(nodeName(routing, true)).isEqualTo("replica");
+	}
+
+	private ReplicaRoutingDataSource routing(List<DataSource> replicas) {
+		return new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(1));
+	}
+
+	private static String readIn(ReadYourWritesFilter filter, ReplicaRoutingDataSource routing, Cookie cookie)
+		throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (cookie != null) {
+			request.setCookies(cookie);
+		}
+		List<String> names = new ArrayList<>();
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> names.add(nodeName(routing, true)));
+		return names.getFirst();
+	}
+
+	private static String nodeName(ReplicaRoutingDataSource routing, boolean readOnly) {
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(
+			status -> new JdbcTemplate(dataSource).queryForObject("select name from node", String.class));
+	}
+
+	private static DataSource h2(String name) {
+		DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table node (name varchar(20))");
+		jdbcTemplate.update("insert into node values (?)", name);
+		return dataSource;
+	}
+
+	static class TestClock extends Clock {
+		private volatile Instant now;
+
+		TestClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
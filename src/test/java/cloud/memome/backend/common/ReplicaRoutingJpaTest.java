@@ -0,0 +1,159 @@
+package cloud.memome.backend.common;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.MemberRepository;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import jakarta.persistence.EntityManagerFactory;
+
+// 프라이머리와 레플리카가 같은 H2 DB를 보게 하고, 커넥션을 어느 쪽에서 얻었는지만 센다.
+// 커넥션을 트랜잭션 동안만 쥐는지(application.yaml의 connection.handling_mode)를 JPA 트랜잭션으로 확인한다
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReplicaRoutingJpaTest.RoutingDataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaRoutingJpaTest {
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+	@Autowired
+	private RoutingDataSourceConfig routingDataSourceConfig;
+
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		member = memberRepository.save(
+			Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email@email.com"));
+		// 2차 캐시에서 읽으면 커넥션을 얻지 않으므로 비운다
+		entityManagerFactory.getCache().evictAll();
+		routingDataSourceConfig.primary.connections.set(0);
+		routingDataSourceConfig.replica.connections.set(0);
+	}
+
+	@AfterEach
+	void tearDown() {
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("한 요청에서 읽기 트랜잭션 뒤의 쓰기 트랜잭션은 레플리카 커넥션을 이어 쓰지 않고 프라이머리에서 얻는다")
+	public void write_after_read_goes_to_primary() throws Exception {
+		//given
+		ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+		//when
+		filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+			readMember();
+			saveMember();
+		});
+
+		//then
+		Assertions.assertThat(routingDataSourceConfig.replica.connections).hasValue(1);
+		Assertions.assertThat(routingDataSourceConfig.primary.connections).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("요청 내내 EntityManager가 열려 있어도(open-in-view) 트랜잭션이 끝나면 커넥션을 돌려주므로 쓰기는 프라이머리로 간다")
+	public void write_after_read_goes_to_primary_with_request_scoped_entity_manager() throws Exception {
+		//given
+		ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+		//when
+		filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+			TransactionSynchronizationManager.bindResource(entityManagerFactory,
+				new EntityManagerHolder(entityManagerFactory.createEntityManager()));
+			try {
+				readMember();
+				saveMember();
+			} finally {
+				((EntityManagerHolder)TransactionSynchronizationManager.unbindResource(entityManagerFactory))
+					.getEntityManager().close();
+			}
+		});
+
+		//then
+		Assertions.assertThat(routingDataSourceConfig.replica.connections).hasValue(1);
+		Assertions.assertThat(routingDataSourceConfig.primary.connections).hasValue(1);
+		Assertions.assertThat(memberRepository.findById(member.getId()))
+			.hasValueSatisfying(saved -> Assertions.assertThat(saved.getNickname()).isEqualTo("renamed"));
+	}
+
+	private void readMember() {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readOnly.executeWithoutResult(status -> memberRepository.findById(member.getId()).orElseThrow());
+	}
+
+	private void saveMember() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> memberRepository.findById(member.getId())
+			.orElseThrow()
+			.updateMember("renamed", "email@email.com"));
+	}
+
+	@TestConfiguration
+	static class RoutingDataSourceConfig {
+		private final CountingDataSource primary = new CountingDataSource(h2());
+		private final CountingDataSource replica = new CountingDataSource(h2());
+
+		@Bean
+		@Primary
+		DataSource dataSource() {
+			return new LazyConnectionDataSourceProxy(
+				new ReplicaRoutingDataSource(primary, List.of(replica), Duration.ofSeconds(1)));
+		}
+
+		private static DataSource h2() {
+			return new DriverManagerDataSource("jdbc:h2:mem:replica-routing-jpa;DB_CLOSE_DELAY=-1", "sa", "");
+		}
+	}
+
+	static class CountingDataSource extends DelegatingDataSource {
+		private final AtomicInteger connections = new AtomicInteger();
+
+		CountingDataSource(DataSource target) {
+			super(target);
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			connections.incrementAndGet();
+			return super.getConnection();
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package cloud.memome.backend.common;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.memo.Memo;
+import cloud.memome.backend.outbox.OutboxAggregateType;
+import cloud.memome.backend.outbox.OutboxEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import jakarta.persistence.EntityManagerFactory;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheInvalidatorTest {
+	@Mock
+	private EntityManagerFactory entityManagerFactory;
+	@Mock
+	private SessionFactory sessionFactory;
+	@Mock
+	private Cache cache;
+
+	private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+	@BeforeEach
+	void setUp() {
+		when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+		when(sessionFactory.getCache()).thenReturn(cache);
+		secondLevelCacheInvalidator = new SecondLevelCacheInvalidator(entityManagerFactory);
+	}
+
+	@Test
+	@DisplayName("수정/삭제된 메모와 수정된 회원은 해당 항목만 비운다")
+	public void evict_changed_entities() {
+		//when
+		secondLevelCacheInvalidator.onEvents(List.of(
+			event(OutboxAggregateType.MEMO, 100L, OutboxEventType.UPDATED),
+			event(OutboxAggregateType.MEMO, 200L, OutboxEventType.REMOVED),
+			event(OutboxAggregateType.MEMBER, 1L, OutboxEventType.UPDATED)));
+
+		//then
+		verify(cache).evictEntityData(Memo.class, 100L);
+		verify(cache).evictEntityData(Memo.class, 200L);
+		verify(cache).evictEntityData(Member.class, 1L);
+		verifyNoMoreInteractions(cache);
+	}
+
+	@Test
+	@DisplayName("탈퇴한 회원은 자연 키 영역까지 비우고, 메모 영역은 통째로 비우지 않는다")
+	public void evict_removed_member() {
+		//when
+		secondLevelCacheInvalidator.onEvents(List.of(event(OutboxAggregateType.MEMBER, 1L, OutboxEventType.REMOVED)));
+
+		//then
+		verify(cache).evictEntityData(Member.class, 1L);
+		verify(cache).evictNaturalIdData(Member.class);
+		verify(cache, never()).evictEntityData(Memo.class);
+	}
+
+	@Test
+	@DisplayName("생성 이벤트는 캐시를 건드리지 않는다")
+	public void ignore_created() {
+		//when
+		secondLevelCacheInvalidator.onEvents(List.of(
+			event(OutboxAggregateType.MEMO, 100L, OutboxEventType.CREATED),
+			event(OutboxAggregateType.MEMBER, 1L, OutboxEventType.CREATED)));
+
+		//then
+		verifyNoInteractions(cache);
+	}
+
+	private OutboxEvent event(OutboxAggregateType aggregateType, Long aggregateId, OutboxEventType eventType) {
+		// 생성자는 outbox 패키지 밖에 열려 있지 않으므로 필요한 값만 흉내 낸다
+		OutboxEvent event = mock(OutboxEvent.class);
+		lenient().when(event.getAggregateType()).thenReturn(aggregateType);
+		lenient().when(event.getAggregateId()).thenReturn(aggregateId);
+		lenient().when(event.getEventType()).thenReturn(eventType);
+		return event;
+	}
+}
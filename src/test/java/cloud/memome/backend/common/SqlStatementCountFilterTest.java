@@ -0,0 +1,66 @@
+package cloud.memome.backend.common;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlStatementCountFilterTest {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final SqlStatementCountFilter filter = new SqlStatementCountFilter(meterRegistry);
+	private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+	@Test
+	@DisplayName("요청 중 실행한 SQL 수를 응답 헤더와 지표로 남긴다")
+	public void count_statements() throws Exception {
+		//given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/memos/1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		filter.doFilter(request, response, (req, res) -> {
+			req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/memos/{memoId}");
+			inspector.inspect("select 1");
+			inspector.inspect("select 2");
+			res.getWriter().write("{}");
+			res.flushBuffer();
+			inspector.inspect("select 3");
+		});
+
+		//then
+		Assertions.assertThat(response.getHeader(SqlStatementCountFilter.HEADER)).isEqualTo("2");
+		Assertions.assertThat(meterRegistry.get("memome.http.sql.statements")
+				.tag("uri", "/memos/{memoId}")
+				.summary()
+				.totalAmount())
+			.isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("본문 없이 끝난 응답에도 헤더를 붙인다")
+	public void header_without_body() throws Exception {
+		//given
+		MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/memos/1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		//when
+		filter.doFilter(request, response, (req, res) -> inspector.inspect("delete from memo"));
+
+		//then
+		Assertions.assertThat(response.getHeader(SqlStatementCountFilter.HEADER)).isEqualTo("1");
+	}
+
+	@Test
+	@DisplayName("요청 밖에서 실행한 SQL은 세지 않는다")
+	public void ignore_outside_request() {
+		//when
+		inspector.inspect("select 1");
+
+		//then
+		Assertions.assertThat(SqlStatementCounter.current()).isZero();
+	}
+}
@@ -0,0 +1,51 @@
+package cloud.memome.backend.member;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MemberIdentityCacheTest {
+	private final MemberIdentityCache memberIdentityCache = new MemberIdentityCache(
+		new MemberIdentityCacheProperties(100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+
+	@Test
+	@DisplayName("저장 후 조회하면 적중, 무효화 후에는 미스")
+	public void put_get_invalidate() {
+		//given
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(ProviderType.KAKAO, "1234567890");
+
+		//when
+		memberIdentityCache.putAfterCommit(oAuthIdentity, 1L);
+
+		//then
+		Assertions.assertThat(memberIdentityCache.getMemberId(new OAuthIdentity(ProviderType.KAKAO, "1234567890")))
+			.contains(1L);
+
+		memberIdentityCache.invalidate(oAuthIdentity);
+		Assertions.assertThat(memberIdentityCache.getMemberId(oAuthIdentity)).isEmpty();
+		Assertions.assertThat(memberIdentityCache.stats().hitCount()).isEqualTo(1);
+		Assertions.assertThat(memberIdentityCache.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("회원 id로 무효화하면 그 회원의 항목만 비운다")
+	public void invalidate_members() {
+		//given
+		OAuthIdentity first = new OAuthIdentity(ProviderType.KAKAO, "1");
+		OAuthIdentity second = new OAuthIdentity(ProviderType.GOOGLE, "2");
+		memberIdentityCache.putAfterCommit(first, 1L);
+		memberIdentityCache.putAfterCommit(second, 2L);
+
+		//when
+		memberIdentityCache.invalidateMembers(List.of(1L));
+
+		//then
+		Assertions.assertThat(memberIdentityCache.getMemberId(first)).isEmpty();
+		Assertions.assertThat(memberIdentityCache.getMemberId(second)).contains(2L);
+	}
+}
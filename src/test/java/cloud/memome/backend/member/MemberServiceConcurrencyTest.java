@@ -0,0 +1,120 @@
+package cloud.memome.backend.member;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.auth.OAuthUserInfo;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberServiceConcurrencyTest {
+	private static final int THREADS = 16;
+	private static final int ROUNDS = 20;
+
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private TransactionTemplate transactionTemplate;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxEventRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("같은 OAuthIdentity로 동시에 첫 로그인해도 실패 없이 회원 하나만 생성")
+	@Test
+	public void getOrCreateMember_concurrent_first_login() throws Exception {
+		//given
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		Queue<Long> memberIds = new ConcurrentLinkedQueue<>();
+
+		//when
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				// 라운드마다 새 회원으로, 캐시가 없는 상태에서 동시에 첫 로그인
+				MemberService memberService = newMemberService();
+				OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(ProviderType.GOOGLE, "race-" + round, "nickname",
+					"test@email.com");
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<?>> futures = IntStream.range(0, THREADS)
+					.<Future<?>>mapToObj(i -> executor.submit(() -> {
+						try {
+							start.await();
+							memberIds.add(transactionTemplate.execute(
+								status -> memberService.getOrCreateMember(oAuthUserInfo).getId()));
+						} catch (Throwable e) {
+							failures.add(e);
+						}
+						return null;
+					}))
+					.toList();
+				start.countDown();
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		//then
+		Assertions.assertThat(failures).isEmpty();
+		Assertions.assertThat(memberRepository.count()).isEqualTo(ROUNDS);
+		Assertions.assertThat(Set.copyOf(memberIds)).hasSize(ROUNDS);
+
+		// 먼저 조회하지 않으므로 조건부 삽입 1번 + (경합에서 지면) 재조회 1번, 시퀀스 조회는 50개마다 1번
+		// + 라운드마다 생성한 쪽의 outbox 삽입 1번. 조회부터 하던 때는 logins * 3 + ROUNDS * 2 + 1까지였다
+		long logins = (long)THREADS * ROUNDS;
+		Assertions.assertThat(statistics.getPrepareStatementCount())
+			.isLessThanOrEqualTo(logins * 2 + ROUNDS + logins / 50 + 1);
+	}
+
+	private MemberService newMemberService() {
+		MemberIdentityCache memberIdentityCache = new MemberIdentityCache(
+			new MemberIdentityCacheProperties(1000, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+		return new MemberService(memberRepository, memberIdentityCache, transactionTemplate, event -> {
+		}, new OutboxWriter(outboxEventRepository));
+	}
+}
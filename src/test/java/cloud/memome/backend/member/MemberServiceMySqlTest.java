@@ -0,0 +1,124 @@
+package cloud.memome.backend.member;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import cloud.memome.backend.auth.OAuthUserInfo;
+import cloud.memome.backend.common.RecordingStatementInspector;
+import cloud.memome.backend.outbox.OutboxEvent;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// MySQL 기본 격리 수준(REPEATABLE READ)에서만 드러나는 경합을 실제 MySQL로 확인한다. Docker가 없으면 건너뛴다
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create-drop", RecordingStatementInspector.PROPERTY})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MemberService.class, MemberIdentityCache.class, OutboxWriter.class,
+	MemberServiceMySqlTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberServiceMySqlTest {
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4");
+
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void tearDown() {
+		outboxEventRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("스냅샷을 잡은 뒤 다른 요청이 먼저 생성해도, 경합에서 진 쪽은 먼저 생성된 회원을 돌려준다")
+	public void getOrCreateMember_lost_race_in_repeatable_read() {
+		//given
+		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(ProviderType.GOOGLE, "1234567890", "nickname", "email");
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(ProviderType.GOOGLE, "1234567890");
+
+		//when
+		Long[] ids = transactionTemplate.execute(status -> {
+			// 첫 조회로 이 트랜잭션의 스냅샷이 잡힌다
+			Optional<Member> before = memberRepository.findByOAuthIdentity(oAuthIdentity);
+			// 그 사이 다른 요청이 같은 회원을 만들고 커밋한다
+			Long winnerId = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(
+				inner -> memberService.getOrCreateMember(oAuthUserInfo).getId())).join();
+			Assertions.assertThat(before).isEmpty();
+			return new Long[] {winnerId, memberService.getOrCreateMember(oAuthUserInfo).getId()};
+		});
+
+		//then
+		Assertions.assertThat(ids[1]).isEqualTo(ids[0]);
+		Assertions.assertThat(memberRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("중복 키가 아닌 오류는 0건으로 삼키지 않고 예외로 알린다")
+	public void insertIfAbsent_reports_non_duplicate_errors() {
+		//given
+		Member member = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "n".repeat(1000), "email");
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+				status -> memberRepository.insertIfAbsent(member)))
+			.isInstanceOf(RuntimeException.class);
+	}
+
+	@Test
+	@DisplayName("MySQL에서도 outbox id는 insert가 auto increment로 받아, 쓰기마다 시퀀스 테이블을 잠그지 않고 발급 순서대로 커진다")
+	public void outbox_ids_without_sequence_table() {
+		//given
+		OAuthUserInfo first = new OAuthUserInfo(ProviderType.GOOGLE, "1234567890", "nickname", "email");
+		OAuthUserInfo second = new OAuthUserInfo(ProviderType.GOOGLE, "0987654321", "nickname", "email");
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(() -> {
+			transactionTemplate.executeWithoutResult(status -> memberService.getOrCreateMember(first));
+			transactionTemplate.executeWithoutResult(status -> memberService.getOrCreateMember(second));
+		});
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements))
+			.noneMatch(sql -> sql.toLowerCase().contains("outbox_event_seq"));
+		Assertions.assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getId)
+			.hasSize(2)
+			.isSorted();
+	}
+
+	@TestConfiguration
+	static class MeterRegistryConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package cloud.memome.backend.member;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import cloud.memome.backend.auth.OAuthUserInfo;
+import cloud.memome.backend.common.RecordingStatementInspector;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = {RecordingStatementInspector.PROPERTY, RecordingStatementInspector.SEQUENCE_PER_INSERT})
+@Import({MemberService.class, MemberIdentityCache.class, OutboxWriter.class,
+	MemberServiceQueryCountTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberServiceQueryCountTest {
+	@Autowired
+	private MemberService memberService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@AfterEach
+	void tearDown() {
+		outboxEventRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("첫 로그인: 먼저 조회하지 않고 조건부 insert 1 + outbox insert 1 + 회원 시퀀스 조회 1")
+	public void getOrCreateMember_create() {
+		//given
+		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(ProviderType.GOOGLE, "1234567890", "nickname", "email");
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memberService.getOrCreateMember(oAuthUserInfo));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).hasSize(3);
+		Assertions.assertThat(statements).filteredOn(RecordingStatementInspector::isSequenceCall).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("기존 회원 로그인(캐시 미스): 회원 시퀀스 조회 1 + 조건부 insert 1(0건) + 잠금 조회 1")
+	public void getOrCreateMember_get() {
+		//given
+		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(ProviderType.GOOGLE, "1234567890", "nickname", "email");
+		Long memberId = memberService.getOrCreateMember(oAuthUserInfo).getId();
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> Assertions.assertThat(memberService.getOrCreateMember(oAuthUserInfo).getId()).isEqualTo(memberId));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).hasSize(3);
+		Assertions.assertThat(outboxEventRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("기존 회원 로그인: 한 번 로그인한 뒤에는 회원 id를 캐시에서 찾아 DB를 오가지 않는다")
+	public void getOrCreateMemberId_cached() {
+		//given
+		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(ProviderType.GOOGLE, "1234567890", "nickname", "email");
+		Long memberId = memberService.getOrCreateMemberId(oAuthUserInfo);
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> Assertions.assertThat(memberService.getOrCreateMemberId(oAuthUserInfo)).isEqualTo(memberId));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).isEmpty();
+	}
+
+	@TestConfiguration
+	static class MeterRegistryConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
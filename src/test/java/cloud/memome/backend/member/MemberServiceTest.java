@@ -5,27 +5,46 @@ import static org.mockito.Mockito.*;
 
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import cloud.memome.backend.auth.OAuthUserInfo;
 import cloud.memome.backend.member.dto.UpdateMemberDto;
+import cloud.memome.backend.member.event.MemberRemovingEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxWriter;
 
 @ExtendWith(MockitoExtension.class)
 class MemberServiceTest {
 	@Mock
 	private MemberRepository memberRepository;
+	@Mock
+	private MemberIdentityCache memberIdentityCache;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private OutboxWriter outboxWriter;
 
 	@InjectMocks
 	private MemberService memberService;
 	
-	@DisplayName("조회 또는 생성: 조회")
+	@DisplayName("조회 또는 생성: 이미 있는 회원은 upsert가 알려 준 id로 읽고 outbox에 쓰지 않음")
 	@Test
 	public void getOrCreateMember_get() {
 		//given
@@ -37,20 +56,21 @@ class MemberServiceTest {
 		OAuthIdentity oAuthIdentity = new OAuthIdentity(providerType, providerId);
 		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(providerType, providerId, nickname, email);
 		Member member = Member.create(oAuthIdentity, nickname, email);
+		ReflectionTestUtils.setField(member, "id", 1L);
 
-		when(memberRepository.findByOAuthIdentity(oAuthIdentity))
-			.thenReturn(Optional.of(member)); //저장된 객체 조회 및 리턴
+		when(memberRepository.insertIfAbsent(any(Member.class)))
+			.thenReturn(1L); //이미 있는 회원의 id
+		when(memberRepository.findCommittedById(1L))
+			.thenReturn(Optional.of(member));
 
 		//when
 		Member result = memberService.getOrCreateMember(oAuthUserInfo);
 
 		//then
-		Assertions.assertThat(result.getOAuthIdentity()).isEqualTo(oAuthIdentity);
-		Assertions.assertThat(result.getNickname()).isEqualTo(nickname);
-		Assertions.assertThat(result.getEmail()).isEqualTo(email);
-
-		verify(memberRepository).findByOAuthIdentity(oAuthIdentity);
-		verify(memberRepository, never()).save(member);
+		Assertions.assertThat(result).isSameAs(member);
+		verify(memberRepository, never()).findByOAuthIdentity(any(OAuthIdentity.class)); //먼저 조회하지 않는다
+		verify(outboxWriter, never()).member(any(), any());
+		verify(memberIdentityCache).putAfterCommit(oAuthIdentity, 1L);
 	}
 
 	@DisplayName("조회 또는 생성: 생성")
@@ -64,23 +84,99 @@ class MemberServiceTest {
 
 		OAuthIdentity oAuthIdentity = new OAuthIdentity(providerType, providerId);
 		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(providerType, providerId, nickname, email);
-		Member member = Member.create(oAuthIdentity, nickname, email);
 
-		when(memberRepository.findByOAuthIdentity(any(OAuthIdentity.class)))
-			.thenReturn(Optional.empty());
-		when(memberRepository.save(any(Member.class)))
-			.thenReturn(member); //새로 저장 후 리턴
+		when(memberRepository.insertIfAbsent(any(Member.class)))
+			.thenAnswer(invocation -> {
+				ReflectionTestUtils.setField(invocation.getArgument(0), "id", 1L); //새로 삽입됨
+				return 1L;
+			});
 
 		//when
 		Member result = memberService.getOrCreateMember(oAuthUserInfo);
 
 		//then
+		Assertions.assertThat(result.getId()).isEqualTo(1L);
 		Assertions.assertThat(result.getOAuthIdentity()).isEqualTo(oAuthIdentity);
 		Assertions.assertThat(result.getNickname()).isEqualTo(nickname);
 		Assertions.assertThat(result.getEmail()).isEqualTo(email);
 
-		verify(memberRepository).findByOAuthIdentity(any(OAuthIdentity.class));
-		verify(memberRepository).save(any(Member.class)); //저장
+		verify(memberRepository, never()).findByOAuthIdentity(any(OAuthIdentity.class));
+		verify(memberRepository, never()).findCommittedById(any());
+		verify(outboxWriter).member(1L, OutboxEventType.CREATED);
+		verify(memberIdentityCache).putAfterCommit(oAuthIdentity, 1L);
+	}
+
+	@DisplayName("조회 또는 생성: 동시 생성 경합에서 진 경우 먼저 생성된 회원을 반환")
+	@Test
+	public void getOrCreateMember_create_lost_race() {
+		//given
+		ProviderType providerType = ProviderType.GOOGLE;
+		String providerId = "1234567890";
+		String nickname = "test nickname";
+		String email = "test@email.com";
+
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(providerType, providerId);
+		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(providerType, providerId, nickname, email);
+		Member winner = Member.create(oAuthIdentity, nickname, email);
+		ReflectionTestUtils.setField(winner, "id", 1L);
+
+		when(memberRepository.insertIfAbsent(any(Member.class)))
+			.thenReturn(1L); //다른 요청이 먼저 생성
+		when(memberRepository.findCommittedById(1L))
+			.thenReturn(Optional.of(winner)); //스냅샷이 아닌 잠금 읽기로 다시 읽는다
+
+		//when
+		Member result = memberService.getOrCreateMember(oAuthUserInfo);
+
+		//then
+		Assertions.assertThat(result).isSameAs(winner);
+		verify(memberRepository).findCommittedById(1L);
+		verify(outboxWriter, never()).member(any(), any());
+		verify(memberIdentityCache).putAfterCommit(oAuthIdentity, 1L);
+	}
+
+	@DisplayName("회원 id 조회 또는 생성: 캐시 적중 시 DB를 조회하지 않음")
+	@Test
+	public void getOrCreateMemberId_cache_hit() {
+		//given
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(ProviderType.GOOGLE, "1234567890");
+		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(ProviderType.GOOGLE, "1234567890", "nickname", "email");
+
+		when(memberIdentityCache.getMemberId(oAuthIdentity))
+			.thenReturn(Optional.of(1L));
+
+		//when
+		Long memberId = memberService.getOrCreateMemberId(oAuthUserInfo);
+
+		//then
+		Assertions.assertThat(memberId).isEqualTo(1L);
+		verifyNoInteractions(memberRepository, transactionTemplate);
+	}
+
+	@DisplayName("회원 id 조회 또는 생성: 캐시 미스 시 upsert 후 캐시에 저장")
+	@Test
+	public void getOrCreateMemberId_cache_miss() {
+		//given
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(ProviderType.GOOGLE, "1234567890");
+		OAuthUserInfo oAuthUserInfo = new OAuthUserInfo(ProviderType.GOOGLE, "1234567890", "nickname", "email");
+		Member member = Member.create(oAuthIdentity, "nickname", "email");
+		ReflectionTestUtils.setField(member, "id", 1L);
+
+		when(memberIdentityCache.getMemberId(oAuthIdentity))
+			.thenReturn(Optional.empty());
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		when(memberRepository.insertIfAbsent(any(Member.class)))
+			.thenReturn(1L);
+		when(memberRepository.findCommittedById(1L))
+			.thenReturn(Optional.of(member));
+
+		//when
+		Long memberId = memberService.getOrCreateMemberId(oAuthUserInfo);
+
+		//then
+		Assertions.assertThat(memberId).isEqualTo(1L);
+		verify(memberIdentityCache).putAfterCommit(oAuthIdentity, 1L);
 	}
 
 	@DisplayName("저장된 멤버 조회")
@@ -182,24 +278,80 @@ class MemberServiceTest {
 		Assertions.assertThat(result.getEmail()).isEqualTo(updatedEmail);
 
 		verify(memberRepository).findById(1L);
+		verify(memberIdentityCache).invalidate(oAuthIdentity);
 	}
 
-	@DisplayName("회원 삭제 성공")
+	@DisplayName("회원 삭제 성공 - 메모 정리 이벤트 후 회원을 지운다")
 	@Test
 	public void deleteMember_success() {
 		//given
 		OAuthIdentity oAuthIdentity = new OAuthIdentity(ProviderType.GOOGLE, "1234567890");
 		Member member = Member.create(oAuthIdentity, "nickname", "email@email.com");
 
-		when(memberRepository.findById(any(Long.class)))
+		when(memberRepository.findById(1L))
 			.thenReturn(Optional.of(member));
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
 
 		//when
-		memberService.removeMember(any(Long.class));
+		memberService.removeMember(1L);
 
 		//then
-		verify(memberRepository).findById(any(Long.class));
-		verify(memberRepository).delete(any(Member.class));
+		InOrder inOrder = inOrder(eventPublisher, memberRepository, outboxWriter);
+		inOrder.verify(outboxWriter).member(1L, OutboxEventType.REMOVED); //토큰 거부가 먼저
+		inOrder.verify(eventPublisher).publishEvent(new MemberRemovingEvent(1L));
+		inOrder.verify(memberRepository).delete(member);
+		inOrder.verify(outboxWriter).member(1L, OutboxEventType.REMOVED);
+		verify(memberIdentityCache, times(2)).invalidate(oAuthIdentity); //삭제 전후로 비운다
+	}
+
+	@DisplayName("회원 삭제 중 새로 생긴 메모로 FK에 걸리면 메모를 다시 정리하고 재시도")
+	@Test
+	public void deleteMember_purges_again_when_memo_created_during_removal() {
+		//given
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(ProviderType.GOOGLE, "1234567890");
+		Member member = Member.create(oAuthIdentity, "nickname", "email@email.com");
+
+		when(memberRepository.findById(1L))
+			.thenReturn(Optional.of(member));
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		doThrow(new DataIntegrityViolationException("fk_memo_author"))
+			.doNothing()
+			.when(memberRepository).delete(member);
+
+		//when
+		memberService.removeMember(1L);
+
+		//then
+		verify(eventPublisher, times(2)).publishEvent(new MemberRemovingEvent(1L));
+		verify(memberRepository, times(2)).delete(member);
+	}
+
+	@DisplayName("재시도해도 FK에 걸리면 예외를 그대로 던진다")
+	@Test
+	public void deleteMember_fail_after_max_attempts() {
+		//given
+		OAuthIdentity oAuthIdentity = new OAuthIdentity(ProviderType.GOOGLE, "1234567890");
+		Member member = Member.create(oAuthIdentity, "nickname", "email@email.com");
+
+		when(memberRepository.findById(1L))
+			.thenReturn(Optional.of(member));
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		doThrow(new DataIntegrityViolationException("fk_memo_author"))
+			.when(memberRepository).delete(member);
+
+		//when & then
+		Assertions.assertThatThrownBy(() -> memberService.removeMember(1L))
+			.isInstanceOf(DataIntegrityViolationException.class);
+		verify(memberRepository, times(MemberService.MAX_REMOVE_ATTEMPTS)).delete(member);
 	}
 
 	@DisplayName("존재하지 않는 회원 삭제 시도")
@@ -216,5 +368,6 @@ class MemberServiceTest {
 		//then
 		verify(memberRepository).findById(any(Long.class));
 		verify(memberRepository, never()).delete(any(Member.class));
+		verify(eventPublisher, never()).publishEvent(any());
 	}
 }
@@ -0,0 +1,88 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import cloud.memome.backend.memo.dto.MemoUsageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MemberUsageReconcilerTest {
+	@Mock
+	private MemberUsageRepository memberUsageRepository;
+	@Mock
+	private MemoRepository memoRepository;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private MemberUsageReconciler memberUsageReconciler;
+
+	@BeforeEach
+	void setUp() {
+		memberUsageReconciler = new MemberUsageReconciler(memberUsageRepository, memoRepository, transactionTemplate,
+			new MemberUsageProperties(10, DataSize.ofMegabytes(1), 2, 500), new SimpleMeterRegistry());
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	@Test
+	@DisplayName("어긋난 사용량만 읽은 값을 조건으로 실제 메모에 맞추고, 회원 id 순서로 배치를 넘긴다")
+	public void correct_drift_in_batches() {
+		//given
+		when(memberUsageRepository.findAfter(eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(usage(1L, 2, 200), usage(2L, 5, 500)));
+		when(memberUsageRepository.findAfter(eq(2L), any(Pageable.class)))
+			.thenReturn(List.of(usage(3L, 1, 100)));
+		when(memoRepository.sumUsageByAuthorIdIn(List.of(1L, 2L)))
+			.thenReturn(List.of(new MemoUsageDto(1L, 2L, 200L, 0L), new MemoUsageDto(2L, 4L, 420L, 0L)));
+		when(memoRepository.sumUsageByAuthorIdIn(List.of(3L)))
+			.thenReturn(List.of());
+
+		//when
+		memberUsageReconciler.reconcile();
+
+		//then
+		verify(memberUsageRepository).correct(2L, 5, 500, 4, 420, true);
+		verify(memberUsageRepository).correct(3L, 1, 100, 0, 0, true);
+		verify(memberUsageRepository, never()).correct(eq(1L), anyLong(), anyLong(), anyLong(), anyLong(), anyBoolean());
+		verify(transactionTemplate, times(2)).execute(any());
+	}
+
+	@Test
+	@DisplayName("본문 크기를 모두 채운 회원만 바이트 합이 정확하다고 표시한다")
+	public void mark_body_bytes_exact_after_backfill() {
+		//given
+		MemberUsage inexact = new MemberUsage(1L, 2, 200, false, LocalDateTime.now());
+		when(memberUsageRepository.findAfter(eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(inexact, usage(2L, 3, 300)));
+		when(memberUsageRepository.findAfter(eq(2L), any(Pageable.class)))
+			.thenReturn(List.of());
+		when(memoRepository.sumUsageByAuthorIdIn(List.of(1L, 2L)))
+			.thenReturn(List.of(new MemoUsageDto(1L, 2L, 200L, 0L), new MemoUsageDto(2L, 3L, 300L, 1L)));
+
+		//when
+		memberUsageReconciler.reconcile();
+
+		//then
+		verify(memberUsageRepository).correct(1L, 2, 200, 2, 200, true);
+		verify(memberUsageRepository).correct(2L, 3, 300, 3, 300, false);
+	}
+
+	private MemberUsage usage(Long memberId, long memoCount, long bodyBytes) {
+		return new MemberUsage(memberId, memoCount, bodyBytes, true, LocalDateTime.now());
+	}
+}
@@ -0,0 +1,128 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import cloud.memome.backend.memo.dto.MemoUsageDto;
+import cloud.memome.backend.memo.exception.MemoQuotaExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MemberUsageRecorderTest {
+	private static final Long MEMBER_ID = 1L;
+	private static final long MAX_MEMO_COUNT = 10;
+	private static final long MAX_BODY_BYTES = 1024;
+
+	@Mock
+	private MemberUsageRepository memberUsageRepository;
+	@Mock
+	private MemoRepository memoRepository;
+
+	private MemberUsageRecorder memberUsageRecorder;
+
+	@BeforeEach
+	void setUp() {
+		memberUsageRecorder = new MemberUsageRecorder(memberUsageRepository, memoRepository,
+			new MemberUsageProperties(MAX_MEMO_COUNT, DataSize.ofBytes(MAX_BODY_BYTES), 500, 500), new SimpleMeterRegistry());
+	}
+
+	@Test
+	@DisplayName("할당량 안이면 조건부 UPDATE 한 번으로 끝나고 메모를 세지 않는다")
+	public void record_within_quota() {
+		//given
+		when(memberUsageRepository.addWithinQuota(eq(MEMBER_ID), eq(1L), eq(100L), eq(MAX_MEMO_COUNT),
+			eq(MAX_BODY_BYTES), any()))
+			.thenReturn(1);
+
+		//when
+		memberUsageRecorder.recordCreated(MEMBER_ID, 1, 100);
+
+		//then
+		verify(memberUsageRepository, never()).existsById(any());
+		verifyNoInteractions(memoRepository);
+	}
+
+	@Test
+	@DisplayName("할당량을 넘으면 MemoQuotaExceededException")
+	public void reject_over_quota() {
+		//given
+		when(memberUsageRepository.addWithinQuota(any(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+			.thenReturn(0);
+		when(memberUsageRepository.existsById(MEMBER_ID))
+			.thenReturn(true);
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> memberUsageRecorder.recordCreated(MEMBER_ID, 1, 100))
+			.isInstanceOf(MemoQuotaExceededException.class);
+		verifyNoInteractions(memoRepository);
+	}
+
+	@Test
+	@DisplayName("사용량 행이 없는 회원은 지금까지의 메모로 한 번 만들고 다시 확인한다")
+	public void initialize_missing_usage() {
+		//given
+		when(memberUsageRepository.addWithinQuota(any(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+			.thenReturn(0, 1);
+		when(memberUsageRepository.existsById(MEMBER_ID))
+			.thenReturn(false);
+		when(memoRepository.sumUsageByAuthorIdIn(List.of(MEMBER_ID)))
+			.thenReturn(List.of(new MemoUsageDto(MEMBER_ID, 3L, 300L, 1L)));
+
+		//when
+		memberUsageRecorder.recordCreated(MEMBER_ID, 1, 100);
+
+		//then
+		ArgumentCaptor<MemberUsage> captor = ArgumentCaptor.forClass(MemberUsage.class);
+		verify(memberUsageRepository).insertIfAbsent(captor.capture());
+		Assertions.assertThat(captor.getValue().getMemoCount()).isEqualTo(3);
+		Assertions.assertThat(captor.getValue().getBodyBytes()).isEqualTo(300);
+		Assertions.assertThat(captor.getValue().isBodyBytesExact()).isFalse();
+		verify(memberUsageRepository, times(2)).addWithinQuota(any(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("본문이 줄어드는 수정은 할당량을 확인하지 않는다")
+	public void shrink_without_quota_check() {
+		//when
+		memberUsageRecorder.recordUpdated(MEMBER_ID, 500, 200);
+
+		//then
+		verify(memberUsageRepository).add(eq(MEMBER_ID), eq(0L), eq(-300L), any());
+		verify(memberUsageRepository, never()).addWithinQuota(any(), anyLong(), anyLong(), anyLong(), anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("본문 크기를 모르는 메모를 수정하면 새 본문 크기를 그대로 더한다")
+	public void update_unsized_memo_adds_whole_body() {
+		//given
+		when(memberUsageRepository.addWithinQuota(any(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+			.thenReturn(1);
+
+		//when
+		memberUsageRecorder.recordUpdated(MEMBER_ID, null, 200);
+
+		//then
+		verify(memberUsageRepository).addWithinQuota(eq(MEMBER_ID), eq(0L), eq(200L), anyLong(), anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("할당량은 1 이상이어야 한다")
+	public void invalid_quota() {
+		//when //then
+		Assertions.assertThatThrownBy(() -> new MemberUsageRecorder(memberUsageRepository, memoRepository,
+				new MemberUsageProperties(0, DataSize.ofBytes(MAX_BODY_BYTES), 500, 500), new SimpleMeterRegistry()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,392 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.AutosaveMemoDto;
+import cloud.memome.backend.memo.dto.AutosaveStatusDto;
+import cloud.memome.backend.memo.dto.GetOwnedMemoDto;
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.dto.UpdateMemoDto;
+import cloud.memome.backend.memo.exception.MemoQuotaExceededException;
+import cloud.memome.backend.memo.exception.MemoVersionConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class MemoAutosaveBufferTest {
+	private static final Long MEMO_ID = 1L;
+	private static final Long AUTHOR_ID = 10L;
+
+	@Mock
+	private MemoService memoService;
+
+	private TestClock clock;
+	private MemoAutosaveBuffer memoAutosaveBuffer;
+
+	@BeforeEach
+	void setUp() {
+		clock = new TestClock(Instant.parse("2025-01-01T00:00:00Z"));
+		memoAutosaveBuffer = bufferOf(DataSize.ofMegabytes(1));
+	}
+
+	@Test
+	@DisplayName("연속된 자동 저장은 마지막 내용 한 번으로 합쳐서 쓴다")
+	public void coalesce_autosaves() {
+		//given
+		when(memoService.getOwnedMemoVersion(new GetOwnedMemoDto(MEMO_ID, AUTHOR_ID)))
+			.thenReturn(3L);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenReturn(savedMemo(4L));
+
+		//when
+		for (int i = 1; i <= 20; i++) {
+			memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body " + i));
+			clock.advance(Duration.ofMillis(500));
+		}
+		clock.advance(Duration.ofSeconds(3));
+		memoAutosaveBuffer.flushDue();
+
+		//then
+		verify(memoService, times(1)).getOwnedMemoVersion(any(GetOwnedMemoDto.class));
+		verify(memoService, times(1)).updateMemo(new UpdateMemoDto(MEMO_ID, AUTHOR_ID, "title", "body 20", 3L));
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(MEMO_ID, AUTHOR_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("편집이 이어지는 동안은 쓰지 않다가, 멈추면 쓴다")
+	public void flush_after_idle_delay() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body"));
+
+		//when
+		clock.advance(Duration.ofSeconds(2));
+		memoAutosaveBuffer.flushDue();
+
+		//then
+		verify(memoService, never()).updateMemo(any(UpdateMemoDto.class));
+
+		//when
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenReturn(savedMemo(4L));
+		clock.advance(Duration.ofSeconds(1));
+		memoAutosaveBuffer.flushDue();
+
+		//then
+		verify(memoService).updateMemo(any(UpdateMemoDto.class));
+	}
+
+	@Test
+	@DisplayName("편집이 멈추지 않아도 max-delay가 지나면 쓴다")
+	public void flush_after_max_delay() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenReturn(savedMemo(4L));
+
+		//when
+		for (int i = 0; i < 30; i++) {
+			memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body " + i));
+			clock.advance(Duration.ofSeconds(1));
+			memoAutosaveBuffer.flushDue();
+		}
+
+		//then
+		verify(memoService, times(1)).updateMemo(new UpdateMemoDto(MEMO_ID, AUTHOR_ID, "title", "body 29", 3L));
+	}
+
+	@Test
+	@DisplayName("아직 쓰지 않은 자동 저장 내용을 조회 결과에 덮어서 보여준다")
+	public void view_pending_content() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		Memo memo = savedMemo(3L);
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "new title", "new body"));
+
+		//when
+		MemoDto result = memoAutosaveBuffer.view(memo);
+
+		//then
+		Assertions.assertThat(result.getTitle()).isEqualTo("new title");
+		Assertions.assertThat(result.getBody()).isEqualTo("new body");
+		Assertions.assertThat(result.getVersion()).isEqualTo(3L);
+		verify(memoService, never()).updateMemo(any(UpdateMemoDto.class));
+	}
+
+	@Test
+	@DisplayName("버퍼가 상한을 넘으면 방금 받은 자동 저장을 바로 쓴다")
+	public void write_through_when_buffer_full() {
+		//given
+		memoAutosaveBuffer = bufferOf(DataSize.ofBytes(16));
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenReturn(savedMemo(4L));
+
+		//when
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "longer than sixteen bytes"));
+
+		//then
+		verify(memoService).updateMemo(any(UpdateMemoDto.class));
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(MEMO_ID, AUTHOR_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("버퍼가 상한을 넘었을 때 같은 메모를 쓰는 중이면, 끝나기를 기다렸다가 방금 받은 내용까지 쓴다")
+	public void write_through_waits_for_running_flush() throws Exception {
+		//given
+		memoAutosaveBuffer = bufferOf(DataSize.ofBytes(64));
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenAnswer(invocation -> {
+				writing.countDown();
+				release.await();
+				return savedMemo(4L);
+			})
+			.thenReturn(savedMemo(5L));
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body"));
+		clock.advance(Duration.ofSeconds(3));
+		Thread scheduled = new Thread(memoAutosaveBuffer::flushDue);
+		scheduled.start();
+		writing.await(5, TimeUnit.SECONDS);
+
+		//when
+		String longBody = "longer than the whole autosave buffer";
+		Thread writeThrough = new Thread(
+			() -> memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", longBody)));
+		writeThrough.start();
+		while (writeThrough.getState() != Thread.State.WAITING && writeThrough.isAlive()) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+		scheduled.join(5000);
+		writeThrough.join(5000);
+
+		//then
+		verify(memoService).updateMemo(new UpdateMemoDto(MEMO_ID, AUTHOR_ID, "title", longBody, 4L));
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(MEMO_ID, AUTHOR_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("쓰지 못하고 버린 자동 저장은 상태 조회로 알려주고, 다시 자동 저장하면 지운다")
+	public void report_dropped_autosave() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenThrow(new MemoQuotaExceededException(AUTHOR_ID, 10, 100));
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body"));
+		clock.advance(Duration.ofSeconds(3));
+
+		//when
+		memoAutosaveBuffer.flushDue();
+
+		//then
+		AutosaveStatusDto status = memoAutosaveBuffer.status(MEMO_ID, AUTHOR_ID);
+		Assertions.assertThat(status.isPending()).isFalse();
+		Assertions.assertThat(status.getDroppedReason()).isEqualTo(AutosaveStatusDto.DropReason.QUOTA_EXCEEDED);
+		Assertions.assertThat(memoAutosaveBuffer.status(MEMO_ID, 99L).getDroppedReason()).isNull();
+
+		//when
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "shorter body"));
+
+		//then
+		Assertions.assertThat(memoAutosaveBuffer.status(MEMO_ID, AUTHOR_ID))
+			.extracting(AutosaveStatusDto::isPending, AutosaveStatusDto::getDroppedReason)
+			.containsExactly(true, null);
+	}
+
+	@Test
+	@DisplayName("플러시 큐가 차서 넣지 못한 자동 저장은 남겨 두었다가 다음 주기에 다시 넣는다")
+	public void resubmit_when_flush_queue_full() {
+		//given
+		Executor rejecting = runnable -> {
+			throw new RejectedExecutionException("queue full");
+		};
+		memoAutosaveBuffer = new MemoAutosaveBuffer(memoService, propertiesOf(DataSize.ofMegabytes(1)),
+			new SimpleMeterRegistry(), clock, rejecting);
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body"));
+		clock.advance(Duration.ofSeconds(3));
+
+		//when
+		memoAutosaveBuffer.flushDue();
+
+		//then
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(MEMO_ID, AUTHOR_ID)).isTrue();
+		verify(memoService, never()).updateMemo(any(UpdateMemoDto.class));
+
+		//when
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenReturn(savedMemo(4L));
+		memoAutosaveBuffer.flushAll();
+
+		//then
+		verify(memoService).updateMemo(any(UpdateMemoDto.class));
+	}
+
+	@Test
+	@DisplayName("종료할 때 남은 자동 저장을 모두 쓴다")
+	public void flush_all_on_shutdown() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenReturn(savedMemo(4L));
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(1L, AUTHOR_ID, "title", "body"));
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(2L, AUTHOR_ID, "title", "body"));
+
+		//when
+		memoAutosaveBuffer.flushAll();
+
+		//then
+		verify(memoService, times(2)).updateMemo(any(UpdateMemoDto.class));
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(1L, AUTHOR_ID)).isFalse();
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(2L, AUTHOR_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("그 사이 다른 곳에서 수정되어 버전이 충돌하면 자동 저장 내용을 버린다")
+	public void drop_on_version_conflict() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenThrow(new MemoVersionConflictException(MEMO_ID, 3L, 5L));
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body"));
+
+		//when
+		memoAutosaveBuffer.flushAll();
+
+		//then
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(MEMO_ID, AUTHOR_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("일시적인 오류로 쓰지 못하면 남겨 두고 다음 주기에 다시 쓴다")
+	public void retry_on_transient_failure() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		when(memoService.updateMemo(any(UpdateMemoDto.class)))
+			.thenThrow(new IllegalStateException("connection refused"))
+			.thenReturn(savedMemo(4L));
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body"));
+		clock.advance(Duration.ofSeconds(3));
+
+		//when
+		memoAutosaveBuffer.flushDue();
+
+		//then
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(MEMO_ID, AUTHOR_ID)).isTrue();
+
+		//when
+		memoAutosaveBuffer.flushDue();
+
+		//then
+		verify(memoService, times(2)).updateMemo(any(UpdateMemoDto.class));
+		Assertions.assertThat(memoAutosaveBuffer.hasPending(MEMO_ID, AUTHOR_ID)).isFalse();
+	}
+
+	@Test
+	@DisplayName("명시적인 수정 전에 버려진 자동 저장은 쓰지 않는다")
+	public void discard_pending() {
+		//given
+		when(memoService.getOwnedMemoVersion(any(GetOwnedMemoDto.class)))
+			.thenReturn(3L);
+		memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", "body"));
+
+		//when
+		memoAutosaveBuffer.discard(MEMO_ID, AUTHOR_ID);
+		memoAutosaveBuffer.flushAll();
+
+		//then
+		verify(memoService, never()).updateMemo(any(UpdateMemoDto.class));
+	}
+
+	@Test
+	@DisplayName("빈 제목이나 본문은 버퍼에 넣지 않는다")
+	public void reject_blank_content() {
+		//when //then
+		Assertions.assertThatThrownBy(
+				() -> memoAutosaveBuffer.autosave(new AutosaveMemoDto(MEMO_ID, AUTHOR_ID, "title", " ")))
+			.isInstanceOf(IllegalArgumentException.class);
+		verifyNoInteractions(memoService);
+	}
+
+	private MemoAutosaveBuffer bufferOf(DataSize maxBufferedSize) {
+		return new MemoAutosaveBuffer(memoService, propertiesOf(maxBufferedSize), new SimpleMeterRegistry(), clock,
+			Runnable::run);
+	}
+
+	private static MemoAutosaveProperties propertiesOf(DataSize maxBufferedSize) {
+		return new MemoAutosaveProperties(Duration.ofSeconds(3), Duration.ofSeconds(30), maxBufferedSize, 1, 1,
+			Duration.ofHours(1));
+	}
+
+	private Memo savedMemo(Long version) {
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", AUTHOR_ID);
+		Memo memo = Memo.create("title", "body", author);
+		ReflectionTestUtils.setField(memo, "id", MEMO_ID);
+		ReflectionTestUtils.setField(memo, "version", version);
+		return memo;
+	}
+
+	static class TestClock extends Clock {
+		private volatile Instant now;
+
+		TestClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package cloud.memome.backend.memo;
+
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MemoBodyCodecTest {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MemoBodyCodec memoBodyCodec = new MemoBodyCodec(
+		new MemoBodyCompressionProperties(true, DataSize.ofBytes(64), 6, 100), meterRegistry);
+
+	@Test
+	@DisplayName("임계값 이상인 본문은 압축되고 원문으로 복원된다")
+	public void encode_compresses_large_content() {
+		//given
+		String content = "오늘 회의 내용 정리\n".repeat(100);
+
+		//when
+		String stored = memoBodyCodec.encode(content);
+
+		//then
+		Assertions.assertThat(memoBodyCodec.isCompressed(stored)).isTrue();
+		Assertions.assertThat(stored.length()).isLessThan(content.length());
+		Assertions.assertThat(memoBodyCodec.decode(stored)).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("임계값보다 작은 본문은 그대로 저장된다")
+	public void encode_keeps_small_content() {
+		//given
+		String content = "짧은 메모";
+
+		//when
+		String stored = memoBodyCodec.encode(content);
+
+		//then
+		Assertions.assertThat(stored).isEqualTo(content);
+		Assertions.assertThat(memoBodyCodec.decode(stored)).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("압축 도입 이전의 평문 본문은 그대로 읽힌다")
+	public void decode_legacy_raw_content() {
+		//given
+		String legacy = "압축 이전에 저장된 본문 ".repeat(50);
+
+		//when
+		String decoded = memoBodyCodec.decode(legacy);
+
+		//then
+		Assertions.assertThat(decoded).isEqualTo(legacy);
+	}
+
+	@Test
+	@DisplayName("형식 표시 문자로 시작하는 평문도 손상 없이 복원된다")
+	public void encode_escapes_marker() {
+		//given
+		String content = "\u0001z이건 압축된 본문이 아니다";
+
+		//when
+		String stored = memoBodyCodec.encode(content);
+
+		//then
+		Assertions.assertThat(memoBodyCodec.isCompressed(stored)).isFalse();
+		Assertions.assertThat(memoBodyCodec.decode(stored)).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("압축을 꺼도 이미 압축된 본문은 읽힌다")
+	public void disabled_still_decodes() {
+		//given
+		String content = "회의록 ".repeat(100);
+		String stored = memoBodyCodec.encode(content);
+		MemoBodyCodec disabled = new MemoBodyCodec(
+			new MemoBodyCompressionProperties(false, DataSize.ofBytes(64), 6, 100), new SimpleMeterRegistry());
+
+		//when
+		String reencoded = disabled.encode(content);
+
+		//then
+		Assertions.assertThat(reencoded).isEqualTo(content);
+		Assertions.assertThat(disabled.decode(stored)).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("압축해도 줄지 않는 본문은 평문으로 저장된다")
+	public void encode_keeps_incompressible_content() {
+		//given
+		Random random = new Random(1);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 256; i++) {
+			builder.append((char)('!' + random.nextInt(94)));
+		}
+		String content = builder.toString();
+
+		//when
+		String stored = memoBodyCodec.encode(content);
+
+		//then
+		Assertions.assertThat(stored).isEqualTo(content);
+	}
+
+	@Test
+	@DisplayName("압축률과 원본/저장 바이트 수를 기록한다")
+	public void encode_records_metrics() {
+		//given
+		String content = "a".repeat(1000);
+
+		//when
+		String stored = memoBodyCodec.encode(content);
+
+		//then
+		Assertions.assertThat(meterRegistry.get("memome.memo.body.raw.bytes").counter().count()).isEqualTo(1000);
+		Assertions.assertThat(meterRegistry.get("memome.memo.body.stored.bytes").counter().count())
+			.isEqualTo(stored.length());
+		Assertions.assertThat(meterRegistry.get("memome.memo.body.compression.ratio").summary().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재압축은 지표에 더하지 않고, 줄지 않는 본문은 시도했다는 표시를 붙여 평문으로 둔다")
+	public void recompress_without_metrics() {
+		//given
+		String compressible = "오늘 회의 내용 정리\n".repeat(100);
+		Random random = new Random(1);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 256; i++) {
+			builder.append((char)('!' + random.nextInt(94)));
+		}
+		String incompressible = builder.toString();
+
+		//when
+		String compressed = memoBodyCodec.recompress(compressible);
+		String marked = memoBodyCodec.recompress(incompressible);
+
+		//then
+		Assertions.assertThat(memoBodyCodec.isCompressed(compressed)).isTrue();
+		Assertions.assertThat(memoBodyCodec.decode(compressed)).isEqualTo(compressible);
+		Assertions.assertThat(marked).isNotEqualTo(incompressible).startsWith(String.valueOf(MemoBodyCodec.MARKER));
+		Assertions.assertThat(memoBodyCodec.decode(marked)).isEqualTo(incompressible);
+		Assertions.assertThat(meterRegistry.get("memome.memo.body.raw.bytes").counter().count()).isZero();
+		Assertions.assertThat(meterRegistry.get("memome.memo.body.compression.ratio").summary().count()).isZero();
+	}
+}
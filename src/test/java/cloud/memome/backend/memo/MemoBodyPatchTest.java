@@ -0,0 +1,51 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import cloud.memome.backend.memo.dto.TextEditDto;
+
+class MemoBodyPatchTest {
+	@Test
+	@DisplayName("기준 본문 위치로 표현된 여러 편집을 한 번에 적용")
+	public void apply() {
+		//given
+		String base = "hello world, memo";
+		List<TextEditDto> edits = List.of(
+			edit(0, 5, "HELLO"), //치환
+			edit(11, 0, "!"), //삽입
+			edit(13, 4, null) //삭제
+		);
+
+		//when
+		String result = MemoBodyPatch.apply(base, edits);
+
+		//then
+		Assertions.assertThat(result).isEqualTo("HELLO world!, ");
+	}
+
+	@Test
+	@DisplayName("편집이 없으면 기준 본문 그대로")
+	public void apply_empty() {
+		Assertions.assertThat(MemoBodyPatch.apply("memo", List.of())).isEqualTo("memo");
+		Assertions.assertThat(MemoBodyPatch.apply("memo", null)).isEqualTo("memo");
+	}
+
+	@Test
+	@DisplayName("범위를 벗어나거나 겹치는 편집 - 실패")
+	public void apply_invalid() {
+		Assertions.assertThatThrownBy(() -> MemoBodyPatch.apply("memo", List.of(edit(3, 2, ""))))
+			.isInstanceOf(IllegalArgumentException.class);
+		Assertions.assertThatThrownBy(() -> MemoBodyPatch.apply("memo", List.of(edit(2, 1, ""), edit(1, 1, ""))))
+			.isInstanceOf(IllegalArgumentException.class);
+		Assertions.assertThatThrownBy(() -> MemoBodyPatch.apply("memo", List.of(edit(0, -1, ""))))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static TextEditDto edit(int offset, int delete, String insert) {
+		return TextEditDto.builder().offset(offset).delete(delete).insert(insert).build();
+	}
+}
@@ -0,0 +1,87 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemoBodyRecompressorTest {
+	private static final MemoBodyCompressionProperties PROPERTIES =
+		new MemoBodyCompressionProperties(true, DataSize.ofBytes(64), 6, 2);
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from memo_body");
+	}
+
+	@Test
+	@DisplayName("임계값 이상인 평문만 다시 압축하고, 줄지 않는 본문은 표시해서 다음 실행에서 다시 고르지 않는다")
+	public void recompress_only_untried_plain_bodies() {
+		//given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		MemoBodyCodec memoBodyCodec = spy(new MemoBodyCodec(PROPERTIES, meterRegistry));
+		String compressible = "오늘 회의 내용 정리\n".repeat(100);
+		String incompressible = randomText(256);
+		String small = "짧은 메모";
+		String alreadyCompressed = memoBodyCodec.encode("회의록 ".repeat(100));
+		insert("a", compressible);
+		insert("b", incompressible);
+		insert("c", small);
+		insert("d", alreadyCompressed);
+		clearInvocations(memoBodyCodec);
+		MemoBodyRecompressor recompressor = new MemoBodyRecompressor(jdbcTemplate, memoBodyCodec, PROPERTIES);
+
+		//when
+		recompressor.recompress();
+		recompressor.recompress();
+
+		//then
+		// 두 번째 실행은 고를 본문이 없다. 지표를 남기는 encode는 거치지 않는다
+		verify(memoBodyCodec, times(2)).recompress(anyString());
+		verify(memoBodyCodec, never()).encode(anyString());
+		Assertions.assertThat(meterRegistry.get("memome.memo.body.compression.ratio").summary().count()).isEqualTo(1);
+		Assertions.assertThat(memoBodyCodec.isCompressed(contentOf("a"))).isTrue();
+		Assertions.assertThat(memoBodyCodec.decode(contentOf("a"))).isEqualTo(compressible);
+		Assertions.assertThat(contentOf("b")).isNotEqualTo(incompressible);
+		Assertions.assertThat(memoBodyCodec.decode(contentOf("b"))).isEqualTo(incompressible);
+		Assertions.assertThat(contentOf("c")).isEqualTo(small);
+		Assertions.assertThat(contentOf("d")).isEqualTo(alreadyCompressed);
+	}
+
+	private void insert(String hash, String content) {
+		jdbcTemplate.update("insert into memo_body (hash, content, stored_at) values (?, ?, ?)",
+			hash, content, LocalDateTime.now());
+	}
+
+	private String contentOf(String hash) {
+		return jdbcTemplate.queryForObject("select content from memo_body where hash = ?", String.class, hash);
+	}
+
+	private static String randomText(int length) {
+		Random random = new Random(1);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			builder.append((char)('!' + random.nextInt(94)));
+		}
+		return builder.toString();
+	}
+}
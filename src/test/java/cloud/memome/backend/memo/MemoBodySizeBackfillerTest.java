@@ -0,0 +1,110 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.MemberRepository;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.CreateMemoDto;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import({MemoService.class, MemoBodyStore.class, MemoRevisionRecorder.class, MemoChangeRecorder.class,
+	MemberUsageRecorder.class, OutboxWriter.class, MemoBodySizeBackfillerTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemoBodySizeBackfillerTest {
+	@Autowired
+	private MemoService memoService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private MemoRepository memoRepository;
+	@Autowired
+	private MemoRevisionRepository memoRevisionRepository;
+	@Autowired
+	private MemoBodyRepository memoBodyRepository;
+	@Autowired
+	private MemoChangeRepository memoChangeRepository;
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+	@Autowired
+	private MemberUsageRepository memberUsageRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Member author;
+
+	@BeforeEach
+	void setUp() {
+		author = memberRepository.save(
+			Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email@email.com"));
+		memberUsageRepository.save(new MemberUsage(author.getId(), 0, 0, true, LocalDateTime.now()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		memoRevisionRepository.deleteAllInBatch();
+		memoChangeRepository.deleteAllInBatch();
+		outboxEventRepository.deleteAllInBatch();
+		memberUsageRepository.deleteAllInBatch();
+		memoRepository.deleteAllInBatch();
+		memoBodyRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("크기가 비어 있는 메모만 페이지 단위로 본문에서 크기를 채우고, 2차 캐시의 옛 값을 내린다")
+	public void backfill_unsized_memos() {
+		//given
+		Memo unsized = memoService.createNewMemo(new CreateMemoDto("title", "메모", author));
+		Memo another = memoService.createNewMemo(new CreateMemoDto("title", "본문 ".repeat(300), author));
+		Memo sized = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+		jdbcTemplate.update("update memo set body_size = null where id in (?, ?)", unsized.getId(), another.getId());
+		entityManagerFactory.getCache().evict(Memo.class);
+		Assertions.assertThat(memoRepository.findById(unsized.getId()))
+			.hasValueSatisfying(memo -> Assertions.assertThat(memo.getBodySize()).isNull());
+		MemoBodySizeBackfiller backfiller = new MemoBodySizeBackfiller(jdbcTemplate, MemoBodyCodec.withDefaults(),
+			new MemberUsageProperties(10, DataSize.ofMegabytes(1), 500, 1), entityManagerFactory);
+
+		//when
+		backfiller.backfill();
+
+		//then
+		Assertions.assertThat(memoRepository.findById(unsized.getId()))
+			.hasValueSatisfying(memo -> Assertions.assertThat(memo.getBodySize()).isEqualTo(6));
+		Assertions.assertThat(memoRepository.findById(another.getId()))
+			.hasValueSatisfying(memo -> Assertions.assertThat(memo.getBodySize()).isEqualTo(7 * 300));
+		Assertions.assertThat(memoRepository.findById(sized.getId()))
+			.hasValueSatisfying(memo -> Assertions.assertThat(memo.getBodySize()).isEqualTo(4));
+	}
+
+	@TestConfiguration
+	static class MeterRegistryConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package cloud.memome.backend.memo;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+// 같은 본문의 동시 저장은 MySQL의 ON DUPLICATE KEY UPDATE로 처리되므로 실제 MySQL로 확인한다. Docker가 없으면 건너뛴다
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MemoBodyStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemoBodyStoreMySqlTest {
+	private static final int THREADS = 16;
+
+	@Container
+	@ServiceConnection
+	static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4");
+
+	@Autowired
+	private MemoBodyStore memoBodyStore;
+	@Autowired
+	private MemoBodyRepository memoBodyRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterEach
+	void tearDown() {
+		memoBodyRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("같은 본문을 동시에 저장해도 실패 없이 한 행만 남는다")
+	public void store_concurrent() throws Exception {
+		//given
+		String content = "같은 본문 ".repeat(500);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+		CountDownLatch start = new CountDownLatch(1);
+
+		//when
+		try {
+			List<Future<?>> futures = IntStream.range(0, THREADS)
+				.<Future<?>>mapToObj(i -> executor.submit(() -> {
+					try {
+						start.await();
+						transactionTemplate.executeWithoutResult(
+							status -> memoBodyStore.store(MemoBody.of(content)));
+					} catch (Throwable e) {
+						failures.add(e);
+					}
+					return null;
+				}))
+				.toList();
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		//then
+		Assertions.assertThat(failures).isEmpty();
+		Assertions.assertThat(memoBodyRepository.count()).isEqualTo(1);
+		Assertions.assertThat(memoBodyRepository.findById(MemoBody.hashOf(content)))
+			.hasValueSatisfying(memoBody -> Assertions.assertThat(memoBody.getContent()).isEqualTo(content));
+	}
+}
@@ -0,0 +1,84 @@
+package cloud.memome.backend.memo;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Import(MemoBodyStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemoBodyStoreTest {
+	@Autowired
+	private MemoBodyStore memoBodyStore;
+	@Autowired
+	private MemoBodyRepository memoBodyRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		memoBodyRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("같은 본문을 두 번 저장해도 한 행만 남고, 내용은 컨버터와 같은 형식으로 저장된다")
+	public void store_twice() {
+		//given
+		String content = "같은 본문 ".repeat(500);
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> memoBodyStore.store(MemoBody.of(content)));
+		transactionTemplate.executeWithoutResult(status -> memoBodyStore.store(MemoBody.of(content)));
+
+		//then
+		Assertions.assertThat(memoBodyRepository.count()).isEqualTo(1);
+		Assertions.assertThat(memoBodyRepository.findById(MemoBody.hashOf(content)))
+			.hasValueSatisfying(memoBody -> Assertions.assertThat(memoBody.getContent()).isEqualTo(content));
+	}
+
+	@Test
+	@DisplayName("참조하는 메모가 없어도 유예 기간 안에 쓰인 본문은 sweep이 지우지 않는다")
+	public void sweep_keeps_bodies_within_grace() {
+		//given
+		MemoBodySweepProperties properties = new MemoBodySweepProperties(Duration.ofHours(1));
+		Instant now = Instant.now();
+		MemoBodySweeper beforeGraceEnds = new MemoBodySweeper(memoBodyRepository, properties,
+			Clock.fixed(now.plus(Duration.ofMinutes(30)), ZoneId.systemDefault()));
+		MemoBodySweeper afterGraceEnds = new MemoBodySweeper(memoBodyRepository, properties,
+			Clock.fixed(now.plus(Duration.ofHours(2)), ZoneId.systemDefault()));
+		transactionTemplate.executeWithoutResult(status -> memoBodyStore.store(MemoBody.of("body")));
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> beforeGraceEnds.sweepUnreferencedBodies());
+
+		//then
+		Assertions.assertThat(memoBodyRepository.existsById(MemoBody.hashOf("body"))).isTrue();
+
+		//when
+		transactionTemplate.executeWithoutResult(status -> afterGraceEnds.sweepUnreferencedBodies());
+
+		//then
+		Assertions.assertThat(memoBodyRepository.existsById(MemoBody.hashOf("body"))).isFalse();
+	}
+}
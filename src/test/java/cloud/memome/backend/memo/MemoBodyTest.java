@@ -0,0 +1,42 @@
+package cloud.memome.backend.memo;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemoBodyTest {
+	@Test
+	@DisplayName("같은 본문은 같은 해시를 가진다")
+	public void same_content_same_hash() {
+		//given
+		String content = "memo body... test is the test";
+
+		//when
+		MemoBody first = MemoBody.of(content);
+		MemoBody second = MemoBody.of(content);
+
+		//then
+		Assertions.assertThat(first.getHash()).isEqualTo(second.getHash());
+		Assertions.assertThat(first.getHash()).hasSize(64);
+		Assertions.assertThat(first.isNew()).isTrue();
+	}
+
+	@Test
+	@DisplayName("다른 본문은 다른 해시를 가진다")
+	public void different_content_different_hash() {
+		//when
+		MemoBody first = MemoBody.of("memo body");
+		MemoBody second = MemoBody.of("memo body, updated");
+
+		//then
+		Assertions.assertThat(first.getHash()).isNotEqualTo(second.getHash());
+	}
+
+	@Test
+	@DisplayName("본문 생성 실패 - content == null")
+	public void create_fail_when_content_is_null() {
+		//when && then
+		Assertions.assertThatThrownBy(() -> MemoBody.of(null))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,64 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.memo.dto.MemoOwnerDto;
+
+@ExtendWith(MockitoExtension.class)
+class MemoChangeBackfillerTest {
+	@Mock
+	private MemoRepository memoRepository;
+	@Mock
+	private MemoChangeRepository memoChangeRepository;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private MemoChangeBackfiller memoChangeBackfiller;
+
+	@BeforeEach
+	void setUp() {
+		memoChangeBackfiller = new MemoChangeBackfiller(memoRepository, memoChangeRepository, transactionTemplate,
+			new MemoSyncProperties(Duration.ofSeconds(10), Duration.ofDays(30), 2));
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	@Test
+	@DisplayName("변경 행이 없는 메모마다 저장 변경을 남기고, 메모 id 순서로 페이지를 넘긴다")
+	public void backfill_in_pages() {
+		//given
+		when(memoRepository.findWithoutChangeAfter(eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(new MemoOwnerDto(3L, 1L), new MemoOwnerDto(7L, 2L)));
+		when(memoRepository.findWithoutChangeAfter(eq(7L), any(Pageable.class)))
+			.thenReturn(List.of(new MemoOwnerDto(9L, 1L)));
+
+		//when
+		memoChangeBackfiller.backfill();
+
+		//then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<MemoChange>> captor = ArgumentCaptor.forClass(List.class);
+		verify(memoChangeRepository, times(2)).saveAll(captor.capture());
+		Assertions.assertThat(captor.getAllValues().stream().flatMap(List::stream).toList())
+			.extracting(MemoChange::getMemoId, MemoChange::getAuthorId, MemoChange::isRemoved)
+			.containsExactly(
+				Assertions.tuple(3L, 1L, false), Assertions.tuple(7L, 2L, false), Assertions.tuple(9L, 1L, false));
+		verify(transactionTemplate, times(2)).execute(any());
+	}
+}
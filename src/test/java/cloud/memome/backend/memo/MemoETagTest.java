@@ -0,0 +1,89 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import cloud.memome.backend.memo.dto.MemoSummaryPageDto;
+
+class MemoETagTest {
+	@Test
+	@DisplayName("If-Match의 강한 ETag를 버전으로 변환")
+	public void parseIfMatch() {
+		Assertions.assertThat(MemoETag.parseIfMatch(MemoETag.of(7L))).isEqualTo(7L);
+		Assertions.assertThat(MemoETag.parseIfMatch(null)).isNull();
+		Assertions.assertThat(MemoETag.parseIfMatch("*")).isNull();
+	}
+
+	@Test
+	@DisplayName("약한 ETag나 잘못된 형식의 If-Match - 실패")
+	public void parseIfMatch_invalid() {
+		Assertions.assertThatThrownBy(() -> MemoETag.parseIfMatch("W/\"7\""))
+			.isInstanceOf(IllegalArgumentException.class);
+		Assertions.assertThatThrownBy(() -> MemoETag.parseIfMatch("\"abc\""))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("목록 ETag는 항목의 수정 시각이 바뀌면 달라진다")
+	public void page_etag() {
+		//given
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+		MemoSummaryPageDto page = new MemoSummaryPageDto(
+			List.of(new MemoSummaryDto(1L, "title", "preview", now, now)), null);
+		MemoSummaryPageDto samePage = new MemoSummaryPageDto(
+			List.of(new MemoSummaryDto(1L, "title", "preview", now, now)), null);
+		MemoSummaryPageDto updatedPage = new MemoSummaryPageDto(
+			List.of(new MemoSummaryDto(1L, "title", "preview", now, now.plusSeconds(1))), null);
+
+		//when //then
+		Assertions.assertThat(MemoETag.of(page)).isEqualTo(MemoETag.of(samePage)).startsWith("W/");
+		Assertions.assertThat(MemoETag.of(page)).isNotEqualTo(MemoETag.of(updatedPage));
+	}
+
+	@Test
+	@DisplayName("목록 ETag는 수정 시각이 같아도 덮어 보여준 제목이나 미리보기가 다르면 달라진다")
+	public void page_etag_with_autosave_overlay() {
+		//given
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+		MemoSummaryPageDto page = new MemoSummaryPageDto(
+			List.of(new MemoSummaryDto(1L, "title", "preview", now, now)), null);
+		MemoSummaryPageDto overlaid = new MemoSummaryPageDto(
+			List.of(new MemoSummaryDto(1L, "title", "autosaved preview", now, now)), null);
+
+		//when //then
+		Assertions.assertThat(MemoETag.of(page)).isNotEqualTo(MemoETag.of(overlaid));
+	}
+
+	@Test
+	@DisplayName("메모 ETag는 DB 내용 그대로면 버전의 강한 ETag, 자동 저장 내용을 덮었으면 If-Match로 쓸 수 없는 약한 ETag")
+	public void memo_etag_with_autosave_overlay() {
+		//given
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		Memo memo = Memo.create("title", "body", author);
+		ReflectionTestUtils.setField(memo, "version", 3L);
+		MemoDto stored = MemoDto.from(memo);
+		MemoDto overlaid = new MemoDto(memo.getId(), "title", "autosaved body", memo.getCreatedAt(),
+			memo.getUpdatedAt(), memo.getVersion());
+		MemoDto overlaidAgain = new MemoDto(memo.getId(), "title", "autosaved body again", memo.getCreatedAt(),
+			memo.getUpdatedAt(), memo.getVersion());
+
+		//when //then
+		Assertions.assertThat(MemoETag.of(memo, stored)).isEqualTo(MemoETag.of(3L));
+		Assertions.assertThat(MemoETag.of(memo, overlaid))
+			.startsWith("W/")
+			.isEqualTo(MemoETag.of(memo, overlaid))
+			.isNotEqualTo(MemoETag.of(memo, overlaidAgain));
+		Assertions.assertThatThrownBy(() -> MemoETag.parseIfMatch(MemoETag.of(memo, overlaid)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
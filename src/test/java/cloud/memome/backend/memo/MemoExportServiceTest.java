@@ -0,0 +1,115 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+@ExtendWith(MockitoExtension.class)
+class MemoExportServiceTest {
+	@Mock
+	private EntityManager entityManager;
+	@Mock(answer = Answers.RETURNS_SELF)
+	private TypedQuery<Memo> query;
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	private SharedSessionContractImplementor session;
+
+	private MemoExportService memoExportService;
+	private List<Memo> memos;
+
+	@BeforeEach
+	void setUp() {
+		memoExportService = new MemoExportService(entityManager, new ObjectMapper().registerModule(new JavaTimeModule()),
+			new MemoExportProperties(100, 1));
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		memos = new ArrayList<>();
+		for (long id = 1; id <= 3; id++) {
+			Memo memo = Memo.create("title/" + id, "body " + id, author);
+			ReflectionTestUtils.setField(memo, "id", id);
+			memos.add(memo);
+		}
+
+		when(entityManager.createQuery(anyString(), eq(Memo.class))).thenReturn(query);
+		when(entityManager.unwrap(SharedSessionContractImplementor.class)).thenReturn(session);
+		when(query.getResultStream()).thenReturn(memos.stream());
+	}
+
+	@Test
+	@DisplayName("NDJSON 내보내기 - 메모 한 건당 한 줄, 쓴 엔티티는 detach")
+	public void export_ndjson() throws IOException {
+		//given
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		//when
+		memoExportService.exportNdjson(1L, out);
+
+		//then
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		Assertions.assertThat(lines).hasSize(3);
+		Assertions.assertThat(lines[0]).contains("\"title\":\"title/1\"", "\"body\":\"body 1\"");
+		memos.forEach(memo -> verify(entityManager).detach(memo));
+		verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, 100);
+	}
+
+	@Test
+	@DisplayName("MySQL에서는 풀 설정 대신 내보내기 쿼리에만 Integer.MIN_VALUE fetch size를 줘서 한 행씩 스트리밍한다")
+	public void export_streams_rows_on_mysql() throws IOException {
+		//given
+		when(session.getJdbcServices().getDialect()).thenReturn(new MySQLDialect());
+
+		//when
+		memoExportService.exportNdjson(1L, new ByteArrayOutputStream());
+
+		//then
+		verify(query).setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE);
+	}
+
+	@Test
+	@DisplayName("Markdown zip 내보내기 - 메모 한 건당 파일 하나")
+	public void export_markdown_zip() throws IOException {
+		//given
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		//when
+		memoExportService.exportMarkdownZip(1L, out);
+
+		//then
+		List<String> entries = new ArrayList<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			ZipEntry entry;
+			while ((entry = zip.getNextEntry()) != null) {
+				entries.add(entry.getName());
+			}
+		}
+		Assertions.assertThat(entries).containsExactly("1-title_1.md", "2-title_2.md", "3-title_3.md");
+	}
+}
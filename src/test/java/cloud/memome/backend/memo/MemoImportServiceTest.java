@@ -0,0 +1,144 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.ImportMemosResultDto;
+import cloud.memome.backend.outbox.OutboxWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class MemoImportServiceTest {
+	@Mock
+	private EntityManager entityManager;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private MemoBodyStore memoBodyStore;
+	@Mock
+	private MemoRevisionRecorder memoRevisionRecorder;
+	@Mock
+	private MemoChangeRecorder memoChangeRecorder;
+	@Mock
+	private MemberUsageRecorder memberUsageRecorder;
+	@Mock
+	private OutboxWriter outboxWriter;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private MemoImportService memoImportService;
+
+	@BeforeEach
+	void setUp() {
+		memoImportService = new MemoImportService(new ObjectMapper(), entityManager, transactionTemplate,
+			memoBodyStore, memoRevisionRecorder, memoChangeRecorder, memberUsageRecorder, outboxWriter, eventPublisher,
+			new MemoImportProperties(2, 10));
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		when(entityManager.getReference(Member.class, 1L)).thenReturn(author);
+		when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		when(memoBodyStore.storeAll(any()))
+			.thenAnswer(invocation -> invocation.<Collection<MemoBody>>getArgument(0).stream()
+				.collect(Collectors.toMap(MemoBody::getHash, Function.identity(), (first, second) -> first)));
+	}
+
+	@Test
+	@DisplayName("NDJSON 가져오기 - batchSize 단위로 나누어 저장")
+	public void import_ndjson_in_chunks() throws IOException {
+		//given
+		String payload = """
+			{"title": "title1", "body": "body1"}
+			{"title": "title2", "body": "body2"}
+			{"title": "title3", "body": "body3"}
+			""";
+
+		//when
+		ImportMemosResultDto result = memoImportService.importMemos(1L, toStream(payload));
+
+		//then
+		Assertions.assertThat(result.getImportedCount()).isEqualTo(3);
+		Assertions.assertThat(result.getFailedCount()).isZero();
+		verify(transactionTemplate, times(2)).execute(any());
+		verify(entityManager, times(3)).persist(any(Memo.class));
+		verify(entityManager, times(2)).clear();
+		verify(memberUsageRecorder, times(2)).recordCreated(any(), anyInt(), anyLong());
+	}
+
+	@Test
+	@DisplayName("JSON 배열 가져오기 - 잘못된 항목은 건너뛰고 오류로 보고")
+	public void import_json_array_with_invalid_items() throws IOException {
+		//given
+		String payload = """
+			[
+			  {"title": "title1", "body": "body1"},
+			  {"title": "   ", "body": "body2"},
+			  {"title": ["not", "a", "string"], "body": "body3"},
+			  {"title": "title4", "body": "body4"}
+			]
+			""";
+
+		//when
+		ImportMemosResultDto result = memoImportService.importMemos(1L, toStream(payload));
+
+		//then
+		Assertions.assertThat(result.getImportedCount()).isEqualTo(2);
+		Assertions.assertThat(result.getFailedCount()).isEqualTo(2);
+		Assertions.assertThat(result.getErrors())
+			.extracting(ImportMemosResultDto.ImportErrorDto::getIndex)
+			.containsExactlyInAnyOrder(1, 2);
+	}
+
+	@Test
+	@DisplayName("저장에 실패한 청크 - 잘못된 항목은 검증 사유로 한 번만, 나머지는 저장 실패로 보고")
+	public void failed_chunk_reports_invalid_items_once() throws IOException {
+		//given
+		String payload = """
+			{"title": "title1", "body": "body1"}
+			{"title": "   ", "body": "body2"}
+			""";
+		doThrow(new IllegalStateException("connection lost"))
+			.when(memberUsageRecorder).recordCreated(any(), anyInt(), anyLong());
+
+		//when
+		ImportMemosResultDto result = memoImportService.importMemos(1L, toStream(payload));
+
+		//then
+		Assertions.assertThat(result.getImportedCount()).isZero();
+		Assertions.assertThat(result.getFailedCount()).isEqualTo(2);
+		Assertions.assertThat(result.getErrors())
+			.extracting(ImportMemosResultDto.ImportErrorDto::getIndex)
+			.containsExactlyInAnyOrder(0, 1);
+		Assertions.assertThat(result.getErrors())
+			.filteredOn(error -> error.getIndex() == 0)
+			.singleElement()
+			.satisfies(error -> Assertions.assertThat(error.getMessage()).startsWith("failed to store memo"));
+	}
+
+	private static ByteArrayInputStream toStream(String payload) {
+		return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+	}
+}
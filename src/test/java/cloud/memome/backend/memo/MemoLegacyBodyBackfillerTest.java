@@ -0,0 +1,121 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.MemberRepository;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.CreateMemoDto;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@Import({MemoService.class, MemoBodyStore.class, MemoRevisionRecorder.class, MemoChangeRecorder.class,
+	MemberUsageRecorder.class, OutboxWriter.class, MemoLegacyBodyBackfillerTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemoLegacyBodyBackfillerTest {
+	@Autowired
+	private MemoService memoService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private MemoRepository memoRepository;
+	@Autowired
+	private MemoRevisionRepository memoRevisionRepository;
+	@Autowired
+	private MemoBodyRepository memoBodyRepository;
+	@Autowired
+	private MemoChangeRepository memoChangeRepository;
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+	@Autowired
+	private MemberUsageRepository memberUsageRepository;
+	@Autowired
+	private MemoBodyStore memoBodyStore;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Member author;
+
+	@BeforeEach
+	void setUp() {
+		author = memberRepository.save(
+			Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email@email.com"));
+		memberUsageRepository.save(new MemberUsage(author.getId(), 0, 0, true, LocalDateTime.now()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		memoRevisionRepository.deleteAllInBatch();
+		memoChangeRepository.deleteAllInBatch();
+		outboxEventRepository.deleteAllInBatch();
+		memberUsageRepository.deleteAllInBatch();
+		memoRepository.deleteAllInBatch();
+		memoBodyRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("옛 memo.body 컬럼의 본문을 읽다가, 백필이 본문 테이블로 옮기고 옛 컬럼을 비운다")
+	public void move_legacy_bodies() {
+		//given
+		Memo legacy = memoService.createNewMemo(new CreateMemoDto("title", "placeholder1", author));
+		Memo sameBody = memoService.createNewMemo(new CreateMemoDto("title", "placeholder2", author));
+		Memo moved = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+		jdbcTemplate.update("update memo set body = ?, body_hash = null, body_size = null where id in (?, ?)",
+			"옛 본문", legacy.getId(), sameBody.getId());
+		entityManagerFactory.getCache().evict(Memo.class);
+		Assertions.assertThat(bodyOf(legacy.getId())).isEqualTo("옛 본문");
+		MemoLegacyBodyBackfiller backfiller = new MemoLegacyBodyBackfiller(jdbcTemplate, memoBodyStore,
+			transactionTemplate, entityManagerFactory, new MemoBodyBackfillProperties(1));
+
+		//when
+		backfiller.backfill();
+
+		//then
+		Assertions.assertThat(bodyOf(legacy.getId())).isEqualTo("옛 본문");
+		Assertions.assertThat(bodyOf(sameBody.getId())).isEqualTo("옛 본문");
+		Assertions.assertThat(bodyOf(moved.getId())).isEqualTo("body");
+		Assertions.assertThat(jdbcTemplate.queryForObject(
+				"select count(*) from memo where body is not null or body_hash is null", Integer.class))
+			.isZero();
+		Assertions.assertThat(memoRepository.findById(legacy.getId()))
+			.hasValueSatisfying(memo -> Assertions.assertThat(memo.getBodySize()).isEqualTo(10));
+		Assertions.assertThat(memoBodyRepository.existsById(MemoBody.hashOf("옛 본문"))).isTrue();
+	}
+
+	private String bodyOf(Long memoId) {
+		return transactionTemplate.execute(status -> memoRepository.findById(memoId).orElseThrow().getBody());
+	}
+
+	@TestConfiguration
+	static class MeterRegistryConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
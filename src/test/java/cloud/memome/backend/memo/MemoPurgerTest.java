@@ -0,0 +1,101 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import cloud.memome.backend.member.event.MemberRemovingEvent;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxWriter;
+
+@ExtendWith(MockitoExtension.class)
+class MemoPurgerTest {
+	@Mock
+	private MemoRepository memoRepository;
+	@Mock
+	private MemoRevisionRepository memoRevisionRepository;
+	@Mock
+	private MemoChangeRepository memoChangeRepository;
+	@Mock
+	private MemberUsageRepository memberUsageRepository;
+	@Mock
+	private OutboxWriter outboxWriter;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private MemoPurger memoPurger;
+
+	@BeforeEach
+	void setUp() {
+		memoPurger = new MemoPurger(memoRepository, memoRevisionRepository, memoChangeRepository,
+			memberUsageRepository, outboxWriter, transactionTemplate, new MemoPurgeProperties(2));
+		lenient().when(transactionTemplate.execute(any()))
+			.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		lenient().doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	@DisplayName("회원의 메모를 청크마다 별도 트랜잭션으로 지운다")
+	public void purge_in_chunks() {
+		//given
+		Long authorId = 1L;
+		when(memoRepository.findIdsByAuthorId(eq(authorId), any(Pageable.class)))
+			.thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+		//when
+		long purged = memoPurger.purgeByAuthorId(authorId);
+
+		//then
+		Assertions.assertThat(purged).isEqualTo(5);
+		verify(transactionTemplate, times(3)).execute(any());
+		verify(memoRevisionRepository).deleteByMemoIdIn(List.of(1L, 2L));
+		verify(memoRepository).deleteByAuthorIdAndIdIn(authorId, List.of(3L, 4L));
+		verify(memoRepository).deleteByAuthorIdAndIdIn(authorId, List.of(5L));
+		verify(memoChangeRepository).deleteByMemoIdIn(List.of(5L));
+		verify(outboxWriter, times(5)).memo(any(), eq(OutboxEventType.REMOVED), eq(authorId));
+		verify(outboxWriter).memo(5L, OutboxEventType.REMOVED, authorId);
+		verify(memoChangeRepository).deleteByAuthorId(authorId);
+		verify(memberUsageRepository).deleteByMemberId(authorId);
+	}
+
+	@Test
+	@DisplayName("청크가 꽉 차서 끝나면 빈 청크를 확인하고 멈춘다")
+	public void purge_stops_on_empty_chunk() {
+		//given
+		when(memoRepository.findIdsByAuthorId(eq(1L), any(Pageable.class)))
+			.thenReturn(List.of(1L, 2L), List.of());
+
+		//when
+		memoPurger.onMemberRemoving(new MemberRemovingEvent(1L));
+
+		//then
+		verify(transactionTemplate, times(2)).execute(any());
+		verify(memoRepository, times(1)).deleteByAuthorIdAndIdIn(any(), any());
+	}
+
+	@Test
+	@DisplayName("청크 크기는 1 이상이어야 한다")
+	public void invalid_chunk_size() {
+		//when //then
+		Assertions.assertThatThrownBy(() -> new MemoPurger(memoRepository, memoRevisionRepository,
+				memoChangeRepository, memberUsageRepository, transactionTemplate, new MemoPurgeProperties(0)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,95 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+
+@ExtendWith(MockitoExtension.class)
+class MemoRevisionRecorderTest {
+	@Mock
+	private MemoRevisionRepository memoRevisionRepository;
+
+	private MemoRevisionRecorder memoRevisionRecorder;
+	private Memo memo;
+
+	@BeforeEach
+	void setUp() {
+		memoRevisionRecorder = new MemoRevisionRecorder(memoRevisionRepository, new MemoRevisionProperties(5));
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		memo = Memo.create("title", "This is Memo body, updated", author);
+		ReflectionTestUtils.setField(memo, "id", 1L);
+	}
+
+	@Test
+	@DisplayName("스냅샷 사이의 리비전은 편집으로 저장")
+	public void record_delta() {
+		//given
+		when(memoRevisionRepository.findLastRevision(1L)).thenReturn(1);
+
+		//when
+		memoRevisionRecorder.recordUpdated(memo, "title", "This is Memo body", "This is Memo body, updated");
+
+		//then
+		MemoRevision saved = captureSaved();
+		Assertions.assertThat(saved.getRevision()).isEqualTo(2);
+		Assertions.assertThat(saved.isSnapshot()).isFalse();
+		Assertions.assertThat(saved.getDeltaInsert()).isEqualTo(", updated");
+	}
+
+	@Test
+	@DisplayName("snapshotInterval마다 스냅샷으로 저장")
+	public void record_snapshot_every_interval() {
+		//given
+		when(memoRevisionRepository.findLastRevision(1L)).thenReturn(5);
+
+		//when
+		memoRevisionRecorder.recordUpdated(memo, "title", "This is Memo body", "This is Memo body, updated");
+
+		//then
+		MemoRevision saved = captureSaved();
+		Assertions.assertThat(saved.getRevision()).isEqualTo(6);
+		Assertions.assertThat(saved.isSnapshot()).isTrue();
+	}
+
+	@Test
+	@DisplayName("리비전이 없던 메모는 첫 리비전을 스냅샷으로 저장")
+	public void record_first_revision_as_snapshot() {
+		//given
+		when(memoRevisionRepository.findLastRevision(1L)).thenReturn(0);
+
+		//when
+		memoRevisionRecorder.recordUpdated(memo, "title", "This is Memo body", "This is Memo body, updated");
+
+		//then
+		Assertions.assertThat(captureSaved().isSnapshot()).isTrue();
+	}
+
+	@Test
+	@DisplayName("제목과 본문이 그대로면 리비전을 남기지 않는다")
+	public void record_nothing_when_unchanged() {
+		//when
+		memoRevisionRecorder.recordUpdated(memo, "title", "This is Memo body, updated", "This is Memo body, updated");
+
+		//then
+		verify(memoRevisionRepository, never()).save(any());
+	}
+
+	private MemoRevision captureSaved() {
+		ArgumentCaptor<MemoRevision> captor = ArgumentCaptor.forClass(MemoRevision.class);
+		verify(memoRevisionRepository).save(captor.capture());
+		return captor.getValue();
+	}
+}
@@ -0,0 +1,85 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.GetMemoRevisionDto;
+import cloud.memome.backend.memo.dto.MemoRevisionDto;
+
+@ExtendWith(MockitoExtension.class)
+class MemoRevisionServiceTest {
+	@InjectMocks
+	private MemoRevisionService memoRevisionService;
+	@Mock
+	private MemoRepository memoRepository;
+	@Mock
+	private MemoRevisionRepository memoRevisionRepository;
+
+	private final Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname",
+		"email");
+
+	@Test
+	@DisplayName("가장 가까운 스냅샷부터 편집을 적용해 리비전을 복원")
+	public void get_revision() {
+		//given
+		String v1 = "first line\nsecond line\n";
+		String v2 = "first line\nsecond line, edited\n";
+		String v3 = "first line\ninserted\nsecond line, edited\n";
+		List<MemoRevision> chain = List.of(
+			MemoRevision.snapshot(Memo.create("v1", v1, author), 1),
+			MemoRevision.deltaOrNull(Memo.create("v2", v2, author), 2, v1, v2),
+			MemoRevision.deltaOrNull(Memo.create("v3", v3, author), 3, v2, v3));
+
+		when(memoRepository.existsByIdAndAuthorId(1L, 1L)).thenReturn(true);
+		when(memoRevisionRepository.findSnapshotRevisionAtOrBefore(1L, 3)).thenReturn(Optional.of(1));
+		when(memoRevisionRepository.findRange(1L, 1, 3)).thenReturn(chain);
+
+		//when
+		MemoRevisionDto result = memoRevisionService.getRevision(new GetMemoRevisionDto(1L, 1L, 3));
+
+		//then
+		Assertions.assertThat(result.getRevision()).isEqualTo(3);
+		Assertions.assertThat(result.getTitle()).isEqualTo("v3");
+		Assertions.assertThat(result.getBody()).isEqualTo(v3);
+	}
+
+	@Test
+	@DisplayName("다른 작성자의 메모 리비전 조회 - 실패")
+	public void get_revision_not_owner() {
+		//given
+		when(memoRepository.existsByIdAndAuthorId(1L, 2L)).thenReturn(false);
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> memoRevisionService.getRevision(new GetMemoRevisionDto(1L, 2L, 1)))
+			.isInstanceOf(NoSuchElementException.class);
+		verifyNoInteractions(memoRevisionRepository);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 리비전 조회 - 실패")
+	public void get_revision_not_found() {
+		//given
+		when(memoRepository.existsByIdAndAuthorId(1L, 1L)).thenReturn(true);
+		when(memoRevisionRepository.findSnapshotRevisionAtOrBefore(1L, 9)).thenReturn(Optional.of(1));
+		when(memoRevisionRepository.findRange(1L, 1, 9))
+			.thenReturn(List.of(MemoRevision.snapshot(Memo.create("v1", "body", author), 1)));
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> memoRevisionService.getRevision(new GetMemoRevisionDto(1L, 1L, 9)))
+			.isInstanceOf(NoSuchElementException.class);
+	}
+}
@@ -0,0 +1,77 @@
+package cloud.memome.backend.memo;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+
+class MemoRevisionTest {
+	private final Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname",
+		"email");
+
+	@Test
+	@DisplayName("스냅샷 리비전은 메모의 본문을 그대로 가리킨다")
+	public void snapshot() {
+		//given
+		Memo memo = Memo.create("title", "This is Memo body", author);
+
+		//when
+		MemoRevision revision = MemoRevision.snapshot(memo, 1);
+
+		//then
+		Assertions.assertThat(revision.isSnapshot()).isTrue();
+		Assertions.assertThat(revision.getSnapshotBody()).isSameAs(memo.getMemoBody());
+		Assertions.assertThat(revision.bodyFrom(null)).isEqualTo("This is Memo body");
+	}
+
+	@Test
+	@DisplayName("편집 리비전은 바뀐 구간만 저장하고 이전 본문에서 복원된다")
+	public void delta() {
+		//given
+		String previousBody = "The quick brown fox jumps over the lazy dog";
+		String body = "The quick red fox jumps over the lazy dog";
+		Memo memo = Memo.create("title", body, author);
+
+		//when
+		MemoRevision revision = MemoRevision.deltaOrNull(memo, 2, previousBody, body);
+
+		//then
+		Assertions.assertThat(revision).isNotNull();
+		Assertions.assertThat(revision.isSnapshot()).isFalse();
+		Assertions.assertThat(revision.getDeltaOffset()).isEqualTo(10);
+		Assertions.assertThat(revision.getDeltaDelete()).isEqualTo(5);
+		Assertions.assertThat(revision.getDeltaInsert()).isEqualTo("red");
+		Assertions.assertThat(revision.bodyFrom(previousBody)).isEqualTo(body);
+	}
+
+	@Test
+	@DisplayName("반복되는 글자 경계에서도 정확히 복원된다")
+	public void delta_repeated_characters() {
+		//given
+		String previousBody = "aaaa";
+		String body = "aaaaaaaaaa";
+		Memo memo = Memo.create("title", body, author);
+
+		//when
+		MemoRevision revision = MemoRevision.deltaOrNull(memo, 2, previousBody, body);
+
+		//then
+		Assertions.assertThat(revision.bodyFrom(previousBody)).isEqualTo(body);
+	}
+
+	@Test
+	@DisplayName("본문 대부분이 바뀌면 편집 대신 스냅샷을 쓴다")
+	public void delta_too_large() {
+		//given
+		Memo memo = Memo.create("title", "completely different", author);
+
+		//when
+		MemoRevision revision = MemoRevision.deltaOrNull(memo, 2, "original body", "completely different");
+
+		//then
+		Assertions.assertThat(revision).isNull();
+	}
+}
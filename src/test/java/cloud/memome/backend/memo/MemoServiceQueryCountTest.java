@@ -0,0 +1,198 @@
+package cloud.memome.backend.memo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import cloud.memome.backend.common.RecordingStatementInspector;
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.MemberRepository;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.CreateMemoDto;
+import cloud.memome.backend.memo.dto.GetOwnedMemoDto;
+import cloud.memome.backend.memo.dto.RemoveMemoDto;
+import cloud.memome.backend.memo.dto.UpdateMemoDto;
+import cloud.memome.backend.outbox.OutboxEventRepository;
+import cloud.memome.backend.outbox.OutboxWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+// 서비스 메서드 하나가 DB를 몇 번 오가는지 고정한다. 늘어나면(N+1, 지연 로딩 추가 등) 실패한다
+@DataJpaTest(properties = {RecordingStatementInspector.PROPERTY, RecordingStatementInspector.SEQUENCE_PER_INSERT})
+@Import({MemoService.class, MemoBodyStore.class, MemoRevisionRecorder.class, MemoChangeRecorder.class,
+	MemberUsageRecorder.class, OutboxWriter.class, MemoServiceQueryCountTest.MeterRegistryConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemoServiceQueryCountTest {
+	@Autowired
+	private MemoService memoService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private MemoRepository memoRepository;
+	@Autowired
+	private MemoRevisionRepository memoRevisionRepository;
+	@Autowired
+	private MemoBodyRepository memoBodyRepository;
+	@Autowired
+	private MemoChangeRepository memoChangeRepository;
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+	@Autowired
+	private MemberUsageRepository memberUsageRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Member author;
+
+	@BeforeEach
+	void setUp() {
+		author = memberRepository.save(
+			Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email@email.com"));
+		memberUsageRepository.save(new MemberUsage(author.getId(), 0, 0, true, LocalDateTime.now()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		memoRevisionRepository.deleteAllInBatch();
+		memoChangeRepository.deleteAllInBatch();
+		outboxEventRepository.deleteAllInBatch();
+		memberUsageRepository.deleteAllInBatch();
+		memoRepository.deleteAllInBatch();
+		memoBodyRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("메모 생성: 사용량 update(할당량 확인) 1 + 본문 upsert 1 + 메모/리비전/변경/outbox insert 4"
+		+ " + 메모/리비전 id 시퀀스 조회 2, 변경/outbox id는 insert가 받는다")
+	public void createNewMemo() {
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memoService.createNewMemo(new CreateMemoDto("title", "body", author)));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).hasSize(8);
+		Assertions.assertThat(statements).filteredOn(RecordingStatementInspector::isSequenceCall).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("소유한 메모 조회: 메모와 본문이 2차 캐시에 있으면 DB를 오가지 않는다")
+	public void getOwnedMemo_cached() {
+		//given
+		Memo memo = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+		memoService.getOwnedMemo(new GetOwnedMemoDto(memo.getId(), author.getId()));
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memoService.getOwnedMemo(new GetOwnedMemoDto(memo.getId(), author.getId())));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("소유한 메모 조회: 2차 캐시에 없으면 메모 select 1 + 본문 select 1, 작성자는 읽지 않는다")
+	public void getOwnedMemo() {
+		//given
+		Memo memo = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+		entityManagerFactory.getCache().evictAll();
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memoService.getOwnedMemo(new GetOwnedMemoDto(memo.getId(), author.getId())));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("메모 수정: 사용량 update 1 + 본문 upsert 1 + 마지막 리비전 select 1 + 리비전 insert, 메모 update 2"
+		+ " + 이전 변경 delete, 변경/outbox insert 3 + 리비전 시퀀스 조회 1, 메모와 이전 본문은 2차 캐시에서 읽는다")
+	public void updateMemo() {
+		//given
+		Memo memo = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memoService.updateMemo(
+				new UpdateMemoDto(memo.getId(), author.getId(), "new title", "new body", memo.getVersion())));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).hasSize(9);
+		Assertions.assertThat(statements).filteredOn(RecordingStatementInspector::isSequenceCall).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("메모 제목만 수정: 사용량 update 1 + 마지막 리비전 select 1 + 리비전 insert, 메모 update 2"
+		+ " + 이전 변경 delete, 변경/outbox insert 3 + 리비전 시퀀스 조회 1, 2차 캐시에 없어도 이전 본문을 읽지 않는다")
+	public void updateMemo_title_only() {
+		//given
+		Memo memo = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+		entityManagerFactory.getCache().evict(MemoBody.class);
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memoService.updateMemo(
+				new UpdateMemoDto(memo.getId(), author.getId(), "new title", "body", memo.getVersion())));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).hasSize(8);
+		Assertions.assertThat(statements).filteredOn(RecordingStatementInspector::isSequenceCall).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("메모 삭제: 사용량 update 1 + 조건부 메모 delete 1 + 리비전 delete 1"
+		+ " + 이전 변경 delete, tombstone/outbox insert 3, 시퀀스 조회 없이 메모를 읽지 않는다")
+	public void removeMemo() {
+		//given
+		Memo memo = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memoService.removeMemo(new RemoveMemoDto(memo.getId(), author.getId(), memo.getVersion())));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).hasSize(6);
+		Assertions.assertThat(statements).filteredOn(RecordingStatementInspector::isSequenceCall).isEmpty();
+	}
+
+	@Test
+	@DisplayName("메모 삭제는 지운 메모만 2차 캐시에서 비우고, 다른 메모는 계속 캐시에서 읽는다")
+	public void removeMemo_keeps_other_memos_cached() {
+		//given
+		Memo removed = memoService.createNewMemo(new CreateMemoDto("title", "body", author));
+		Memo kept = memoService.createNewMemo(new CreateMemoDto("title", "other body", author));
+		memoService.getOwnedMemo(new GetOwnedMemoDto(kept.getId(), author.getId()));
+		memoService.removeMemo(new RemoveMemoDto(removed.getId(), author.getId(), removed.getVersion()));
+
+		//when
+		List<String> statements = RecordingStatementInspector.record(
+			() -> memoService.getOwnedMemo(new GetOwnedMemoDto(kept.getId(), author.getId())));
+
+		//then
+		Assertions.assertThat(statements).as(String.join("\n", statements)).isEmpty();
+		Assertions.assertThat(entityManagerFactory.getCache().contains(Memo.class, removed.getId())).isFalse();
+	}
+
+	@TestConfiguration
+	static class MeterRegistryConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+}
@@ -1,7 +1,9 @@
 package cloud.memome.backend.memo;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -10,9 +12,12 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import cloud.memome.backend.member.Member;
@@ -20,9 +25,20 @@ import cloud.memome.backend.member.OAuthIdentity;
 import cloud.memome.backend.member.ProviderType;
 import cloud.memome.backend.memo.dto.CreateMemoDto;
 import cloud.memome.backend.memo.dto.GetOwnedMemoDto;
+import cloud.memome.backend.memo.dto.GetOwnedMemoSummariesDto;
+import cloud.memome.backend.memo.dto.MemoSummaryDto;
+import cloud.memome.backend.memo.dto.MemoSummaryPageDto;
+import cloud.memome.backend.memo.dto.PatchMemoDto;
 import cloud.memome.backend.memo.dto.RemoveMemoDto;
+import cloud.memome.backend.memo.dto.TextEditDto;
 import cloud.memome.backend.memo.dto.UpdateMemoDto;
+import cloud.memome.backend.memo.event.MemoRemovedEvent;
+import cloud.memome.backend.memo.event.MemoSavedEvent;
+import cloud.memome.backend.memo.exception.MemoQuotaExceededException;
+import cloud.memome.backend.memo.exception.MemoVersionConflictException;
 import cloud.memome.backend.memo.exception.NotMemoOwnerException;
+import cloud.memome.backend.outbox.OutboxEventType;
+import cloud.memome.backend.outbox.OutboxWriter;
 
 @ExtendWith(MockitoExtension.class)
 class MemoServiceTest {
@@ -30,6 +46,20 @@ class MemoServiceTest {
 	private MemoService memoService;
 	@Mock
 	private MemoRepository memoRepository;
+	@Mock
+	private MemoBodyStore memoBodyStore;
+	@Mock
+	private MemoRevisionRecorder memoRevisionRecorder;
+	@Mock
+	private MemoRevisionRepository memoRevisionRepository;
+	@Mock
+	private MemoChangeRecorder memoChangeRecorder;
+	@Mock
+	private MemberUsageRecorder memberUsageRecorder;
+	@Mock
+	private OutboxWriter outboxWriter;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	@Test
 	@DisplayName("메모 생성 - 성공")
@@ -40,6 +70,8 @@ class MemoServiceTest {
 		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
 		CreateMemoDto dto = new CreateMemoDto(title, body, author);
 
+		when(memoBodyStore.store(any(MemoBody.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
 		when(memoRepository.save(any(Memo.class)))
 			.thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -51,6 +83,25 @@ class MemoServiceTest {
 		Assertions.assertThat(result.getTitle()).isEqualTo(title);
 		Assertions.assertThat(result.getBody()).isEqualTo(body);
 		Assertions.assertThat(result.getAuthor()).isEqualTo(author);
+		verify(memberUsageRecorder).recordCreated(author.getId(), 1, body.length());
+		verify(eventPublisher).publishEvent(any(MemoSavedEvent.class));
+	}
+
+	@Test
+	@DisplayName("메모 생성 - 할당량을 넘으면 저장하지 않는다")
+	public void create_memo_over_quota() {
+		//given
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", 1L);
+		CreateMemoDto dto = new CreateMemoDto("memo title", "This is Memo body", author);
+
+		doThrow(new MemoQuotaExceededException(1L, 10, 1024))
+			.when(memberUsageRecorder).recordCreated(eq(1L), eq(1), anyLong());
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> memoService.createNewMemo(dto))
+			.isInstanceOf(MemoQuotaExceededException.class);
+		verifyNoInteractions(memoBodyStore, memoRepository, outboxWriter, eventPublisher);
 	}
 
 	@Test
@@ -64,9 +115,10 @@ class MemoServiceTest {
 
 		Long memoId = 1L;
 		Long authorId = 1L;
+		ReflectionTestUtils.setField(author, "id", authorId);
 		GetOwnedMemoDto dto = new GetOwnedMemoDto(memoId, authorId);
 
-		when(memoRepository.findByIdAndAuthorId(memoId, authorId))
+		when(memoRepository.findById(memoId))
 			.thenReturn(Optional.of(memo));
 
 		//when
@@ -87,7 +139,7 @@ class MemoServiceTest {
 		Long authorId = 1L;
 		GetOwnedMemoDto dto = new GetOwnedMemoDto(memoId, authorId);
 
-		when(memoRepository.findByIdAndAuthorId(memoId, authorId))
+		when(memoRepository.findById(memoId))
 			.thenReturn(Optional.empty());
 
 		//when && then
@@ -95,6 +147,23 @@ class MemoServiceTest {
 			.isInstanceOf(NoSuchElementException.class);
 	}
 
+	@Test
+	@DisplayName("메모 조회 - 다른 회원의 메모는 없는 메모로 취급")
+	public void get_memo_of_other_author() {
+		//given
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", 2L);
+		Memo memo = Memo.create("memo title", "This is Memo body", author);
+		GetOwnedMemoDto dto = new GetOwnedMemoDto(1L, 1L);
+
+		when(memoRepository.findById(1L))
+			.thenReturn(Optional.of(memo));
+
+		//when && then
+		Assertions.assertThatThrownBy(() -> memoService.getOwnedMemo(dto))
+			.isInstanceOf(NoSuchElementException.class);
+	}
+
 	@Test
 	@DisplayName("모든 메모 조회 - 성공")
 	public void get_all_memos() {
@@ -119,6 +188,51 @@ class MemoServiceTest {
 		Assertions.assertThat(ownedMemosAll.getFirst().getBody()).isEqualTo(body);
 	}
 
+	@Test
+	@DisplayName("메모 요약 목록 조회 - 다음 페이지가 있을 때")
+	public void get_memo_summaries_with_next_page() {
+		//given
+		Long authorId = 1L;
+		LocalDateTime now = LocalDateTime.now();
+		MemoSummaryDto first = new MemoSummaryDto(3L, "title3", "preview3", now, now);
+		MemoSummaryDto second = new MemoSummaryDto(2L, "title2", "preview2", now, now);
+		MemoSummaryDto third = new MemoSummaryDto(1L, "title1", "preview1", now, now.minusSeconds(1));
+
+		when(memoRepository.findSummariesByAuthorId(eq(authorId), any(Pageable.class)))
+			.thenReturn(List.of(first, second, third));
+		when(memoRepository.findSummariesByAuthorIdAfter(eq(authorId), eq(now), eq(2L), any(Pageable.class)))
+			.thenReturn(List.of(third));
+
+		//when
+		MemoSummaryPageDto page = memoService.getOwnedMemoSummaries(new GetOwnedMemoSummariesDto(authorId, 2, null));
+		MemoSummaryPageDto nextPage = memoService.getOwnedMemoSummaries(
+			new GetOwnedMemoSummariesDto(authorId, 2, page.getNextToken()));
+
+		//then
+		Assertions.assertThat(page.getMemos()).containsExactly(first, second);
+		Assertions.assertThat(page.hasNext()).isTrue();
+		Assertions.assertThat(nextPage.getMemos()).containsExactly(third);
+		Assertions.assertThat(nextPage.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("메모 요약 목록 조회 - 잘못된 continuation token")
+	public void get_memo_summaries_fail_when_token_is_invalid() {
+		//when && then
+		Assertions.assertThatThrownBy(() -> memoService.getOwnedMemoSummaries(
+				new GetOwnedMemoSummariesDto(1L, 10, "not-a-token")))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("메모 요약 목록 조회 - limit이 0 이하일 때")
+	public void get_memo_summaries_fail_when_limit_is_not_positive() {
+		//when && then
+		Assertions.assertThatThrownBy(() -> memoService.getOwnedMemoSummaries(
+				new GetOwnedMemoSummariesDto(1L, 0, null)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
 	@Test
 	@DisplayName("메모 수정 - 성공")
 	public void update_memo_success() {
@@ -137,6 +251,8 @@ class MemoServiceTest {
 		Memo memo = Memo.create(title, body, author);
 		when(memoRepository.findById(memoId))
 			.thenReturn(Optional.of(memo));
+		when(memoBodyStore.store(any(MemoBody.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
 
 		//when
 		Memo result = memoService.updateMemo(
@@ -149,6 +265,35 @@ class MemoServiceTest {
 		Assertions.assertThat(result.getAuthor()).isEqualTo(author);
 	}
 
+	@Test
+	@DisplayName("메모 제목만 수정 - 본문 저장소를 사용하지 않음")
+	public void update_memo_title_only_does_not_store_body() {
+		//given
+		String title = "memo title";
+		String body = "This is Memo body";
+		String updatedTitle = "memo title, updated";
+
+		Long memoId = 1L;
+		Long authorId = 1L;
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", authorId);
+
+		Memo memo = Memo.create(title, body, author);
+		ReflectionTestUtils.setField(memo, "bodyChanged", false); //저장된 메모 상태
+		MemoBody storedBody = memo.getMemoBody();
+		when(memoRepository.findById(memoId))
+			.thenReturn(Optional.of(memo));
+
+		//when
+		Memo result = memoService.updateMemo(new UpdateMemoDto(memoId, authorId, updatedTitle, body));
+
+		//then
+		Assertions.assertThat(result.getTitle()).isEqualTo(updatedTitle);
+		Assertions.assertThat(result.getMemoBody()).isSameAs(storedBody);
+		verify(memoBodyStore, never()).store(any(MemoBody.class));
+	}
+
 	@Test
 	@DisplayName("다른 작성자의 메모 수정 - 실패")
 	public void update_memo_fail_when_not_mine() {
@@ -175,6 +320,144 @@ class MemoServiceTest {
 			.isInstanceOf(NotMemoOwnerException.class);
 	}
 
+	@Test
+	@DisplayName("If-Match 버전이 다른 메모 수정 - 실패")
+	public void update_memo_fail_when_version_mismatch() {
+		//given
+		Long memoId = 1L;
+		Long authorId = 1L;
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", authorId);
+
+		Memo memo = Memo.create("memo title", "This is Memo body", author);
+		ReflectionTestUtils.setField(memo, "version", 3L);
+		when(memoRepository.findById(memoId))
+			.thenReturn(Optional.of(memo));
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> memoService.updateMemo(
+				new UpdateMemoDto(memoId, authorId, "memo title, updated", "This is Memo body, updated", 2L)))
+			.isInstanceOf(MemoVersionConflictException.class);
+		Assertions.assertThat(memo.getTitle()).isEqualTo("memo title");
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("If-Match 버전이 같은 메모 수정 - 성공")
+	public void update_memo_success_when_version_matches() {
+		//given
+		Long memoId = 1L;
+		Long authorId = 1L;
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", authorId);
+
+		Memo memo = Memo.create("memo title", "This is Memo body", author);
+		ReflectionTestUtils.setField(memo, "version", 3L);
+		when(memoRepository.findById(memoId))
+			.thenReturn(Optional.of(memo));
+		when(memoBodyStore.store(any(MemoBody.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		//when
+		Memo result = memoService.updateMemo(
+			new UpdateMemoDto(memoId, authorId, "memo title, updated", "This is Memo body, updated", 3L));
+
+		//then
+		Assertions.assertThat(result.getTitle()).isEqualTo("memo title, updated");
+		verify(memoRepository).flush(); //ETag용 버전 반영
+	}
+
+	@Test
+	@DisplayName("메모 수정 - 버전 조건 UPDATE를 리비전 기록보다 먼저 반영")
+	public void update_memo_flushes_version_before_recording_revision() {
+		//given
+		Long memoId = 1L;
+		Long authorId = 1L;
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", authorId);
+
+		Memo memo = Memo.create("memo title", "This is Memo body", author);
+		ReflectionTestUtils.setField(memo, "version", 3L);
+		when(memoRepository.findById(memoId))
+			.thenReturn(Optional.of(memo));
+		when(memoBodyStore.store(any(MemoBody.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		//when
+		memoService.updateMemo(
+			new UpdateMemoDto(memoId, authorId, "memo title", "This is Memo body, updated", 3L));
+
+		//then
+		InOrder inOrder = inOrder(memoRepository, memoRevisionRecorder);
+		inOrder.verify(memoRepository).flush();
+		inOrder.verify(memoRevisionRecorder)
+			.recordUpdated(memo, "memo title", "This is Memo body", "This is Memo body, updated");
+	}
+
+	@Test
+	@DisplayName("메모 본문 편집 - 기준 버전에 편집을 적용")
+	public void patch_memo_success() {
+		//given
+		Long memoId = 1L;
+		Long authorId = 1L;
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", authorId);
+
+		Memo memo = Memo.create("memo title", "This is Memo body", author);
+		ReflectionTestUtils.setField(memo, "version", 3L);
+		when(memoRepository.findById(memoId))
+			.thenReturn(Optional.of(memo));
+		when(memoBodyStore.store(any(MemoBody.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		List<TextEditDto> edits = List.of(TextEditDto.builder().offset(8).delete(4).insert("a").build());
+
+		//when
+		Memo result = memoService.patchMemo(new PatchMemoDto(memoId, authorId, 3L, null, edits));
+
+		//then
+		Assertions.assertThat(result.getTitle()).isEqualTo("memo title");
+		Assertions.assertThat(result.getBody()).isEqualTo("This is a body");
+		verify(memoRevisionRecorder).recordUpdated(memo, "memo title", "This is Memo body", "This is a body");
+		verify(memoRepository).flush();
+		verify(eventPublisher).publishEvent(any(MemoSavedEvent.class));
+	}
+
+	@Test
+	@DisplayName("메모 본문 편집 - 기준 버전이 오래되면 실패")
+	public void patch_memo_fail_when_stale() {
+		//given
+		Long memoId = 1L;
+		Long authorId = 1L;
+
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", authorId);
+
+		Memo memo = Memo.create("memo title", "This is Memo body", author);
+		ReflectionTestUtils.setField(memo, "version", 4L);
+		when(memoRepository.findById(memoId))
+			.thenReturn(Optional.of(memo));
+		List<TextEditDto> edits = List.of(TextEditDto.builder().offset(0).delete(4).insert("That").build());
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> memoService.patchMemo(new PatchMemoDto(memoId, authorId, 3L, null, edits)))
+			.isInstanceOf(MemoVersionConflictException.class)
+			.hasFieldOrPropertyWithValue("actualVersion", 4L);
+		Assertions.assertThat(memo.getBody()).isEqualTo("This is Memo body");
+	}
+
+	@Test
+	@DisplayName("메모 본문 편집 - 기준 버전 없이 실패")
+	public void patch_memo_fail_without_base_version() {
+		//when //then
+		Assertions.assertThatThrownBy(() -> memoService.patchMemo(new PatchMemoDto(1L, 1L, null, null, List.of())))
+			.isInstanceOf(IllegalArgumentException.class);
+		verify(memoRepository, never()).findById(any());
+	}
+
 	@Test
 	@DisplayName("존재하지 않는 메모 수정 - 실패")
 	public void update_memo_fail_when_memo_not_found() {
@@ -195,56 +478,112 @@ class MemoServiceTest {
 	}
 
 	@Test
-	@DisplayName("메모 삭제 - 성공")
+	@DisplayName("메모 삭제 - 성공, 메모를 읽지 않고 조건부 삭제")
 	public void delete_memo_success() {
 		//given
-		String title = "memo title";
-		String body = "This is Memo body";
-
 		Long memoId = 1L;
 		Long authorId = 1L;
 
-		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
-		ReflectionTestUtils.setField(author, "id", authorId);
+		when(memoRepository.deleteByIdAndAuthorId(memoId, authorId))
+			.thenReturn(1);
 
-		Memo memo = Memo.create(title, body, author);
-		when(memoRepository.findById(memoId))
-			.thenReturn(Optional.of(memo));
+		//when
+		memoService.removeMemo(new RemoveMemoDto(memoId, authorId));
+
+		//then
+		verify(memoRepository, never()).findById(any());
+		InOrder inOrder = inOrder(memberUsageRecorder, memoRepository);
+		inOrder.verify(memberUsageRecorder).recordRemoved(authorId, memoId);
+		inOrder.verify(memoRepository).deleteByIdAndAuthorId(memoId, authorId);
+		verify(memoRevisionRepository).deleteByMemoId(memoId);
+		verify(memoChangeRecorder).recordRemoved(authorId, memoId);
+		verify(outboxWriter).memo(memoId, OutboxEventType.REMOVED, authorId);
+		verify(eventPublisher).publishEvent(new MemoRemovedEvent(memoId, authorId));
+	}
+
+	@Test
+	@DisplayName("If-Match 버전과 함께 메모 삭제 - 성공")
+	public void delete_memo_success_with_version() {
+		//given
+		when(memoRepository.deleteByIdAndAuthorIdAndVersion(1L, 1L, 3L))
+			.thenReturn(1);
 
 		//when
-		memoService.removeMemo(
-			new RemoveMemoDto(memoId, authorId));
+		memoService.removeMemo(new RemoveMemoDto(1L, 1L, 3L));
 
 		//then
-		verify(memoRepository).findById(memoId);
-		verify(memoRepository).delete(memo);
+		verify(memoRepository, never()).deleteByIdAndAuthorId(any(), any());
+		verify(eventPublisher).publishEvent(any(MemoRemovedEvent.class));
 	}
 
 	@Test
 	@DisplayName("다른 작성자의 메모 삭제 - 실패")
 	public void delete_memo_fail_when_not_mine() {
 		//given
-		String title = "memo title";
-		String body = "This is Memo body";
-
 		Long memoId = 1L;
-		Long authorId = 1L;
 		Long anotherAuthorId = 2L;
 
-		Member author = Member.create(
-			new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
-		ReflectionTestUtils.setField(author, "id", authorId);
-
-		Memo memo = Memo.create(title, body, author);
-		when(memoRepository.findById(memoId))
-			.thenReturn(Optional.of(memo));
+		when(memoRepository.deleteByIdAndAuthorId(memoId, anotherAuthorId))
+			.thenReturn(0);
+		when(memoRepository.findVersionByIdAndAuthorId(memoId, anotherAuthorId))
+			.thenReturn(Optional.empty());
+		when(memoRepository.existsById(memoId))
+			.thenReturn(true);
 
 		//when && then
 		Assertions.assertThatThrownBy(() -> memoService.removeMemo(new RemoveMemoDto(memoId, anotherAuthorId)))
 			.isInstanceOf(NotMemoOwnerException.class);
 
-		verify(memoRepository).findById(memoId);
-		verify(memoRepository, never()).delete(memo);
+		verify(memoRevisionRepository, never()).deleteByMemoId(any());
+		verify(memoChangeRecorder, never()).recordRemoved(any(), any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("If-Match 버전이 다른 메모 삭제 - 실패")
+	public void delete_memo_fail_when_version_mismatch() {
+		//given
+		Long memoId = 1L;
+		Long authorId = 1L;
+
+		when(memoRepository.deleteByIdAndAuthorIdAndVersion(memoId, authorId, 2L))
+			.thenReturn(0);
+		when(memoRepository.findVersionByIdAndAuthorId(memoId, authorId))
+			.thenReturn(Optional.of(3L));
+
+		//when && then
+		Assertions.assertThatThrownBy(() -> memoService.removeMemo(new RemoveMemoDto(memoId, authorId, 2L)))
+			.isInstanceOf(MemoVersionConflictException.class)
+			.hasFieldOrPropertyWithValue("actualVersion", 3L);
+
+		verify(memoRevisionRepository, never()).deleteByMemoId(any());
+	}
+
+	@Test
+	@DisplayName("메모 버전만 조회 - 본문을 읽지 않음")
+	public void get_owned_memo_version() {
+		//given
+		when(memoRepository.findVersionByIdAndAuthorId(1L, 1L))
+			.thenReturn(Optional.of(5L));
+
+		//when
+		Long version = memoService.getOwnedMemoVersion(new GetOwnedMemoDto(1L, 1L));
+
+		//then
+		Assertions.assertThat(version).isEqualTo(5L);
+		verify(memoRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("다른 작성자의 메모 버전 조회 - 실패")
+	public void get_owned_memo_version_not_found() {
+		//given
+		when(memoRepository.findVersionByIdAndAuthorId(1L, 2L))
+			.thenReturn(Optional.empty());
+
+		//when //then
+		Assertions.assertThatThrownBy(() -> memoService.getOwnedMemoVersion(new GetOwnedMemoDto(1L, 2L)))
+			.isInstanceOf(NoSuchElementException.class);
 	}
 
 	@Test
@@ -254,14 +593,17 @@ class MemoServiceTest {
 		Long authorId = 1L;
 		Long anotherMemoId = 2L;
 
-		when(memoRepository.findById(anotherMemoId))
+		when(memoRepository.deleteByIdAndAuthorId(anotherMemoId, authorId))
+			.thenReturn(0);
+		when(memoRepository.findVersionByIdAndAuthorId(anotherMemoId, authorId))
 			.thenReturn(Optional.empty());
+		when(memoRepository.existsById(anotherMemoId))
+			.thenReturn(false);
 
 		//when && then
 		Assertions.assertThatThrownBy(() -> memoService.removeMemo(new RemoveMemoDto(anotherMemoId, authorId)))
 			.isInstanceOf(NoSuchElementException.class);
 
-		verify(memoRepository).findById(anotherMemoId);
-		verify(memoRepository, never()).delete(any(Memo.class));
+		verify(eventPublisher, never()).publishEvent(any());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,163 @@
+package cloud.memome.backend.memo;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cloud.memome.backend.member.Member;
+import cloud.memome.backend.member.OAuthIdentity;
+import cloud.memome.backend.member.ProviderType;
+import cloud.memome.backend.memo.dto.GetMemoChangesDto;
+import cloud.memome.backend.memo.dto.MemoChangesDto;
+import cloud.memome.backend.memo.dto.MemoDto;
+import cloud.memome.backend.memo.exception.MemoSyncTokenExpiredException;
+
+@ExtendWith(MockitoExtension.class)
+class MemoSyncServiceTest {
+	private static final Long AUTHOR_ID = 1L;
+	private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+	@Mock
+	private MemoChangeRepository memoChangeRepository;
+	@Mock
+	private MemoRepository memoRepository;
+
+	private MemoSyncService memoSyncService;
+
+	@BeforeEach
+	void setUp() {
+		memoSyncService = new MemoSyncService(memoChangeRepository, memoRepository,
+			new MemoSyncProperties(Duration.ofSeconds(10), Duration.ofDays(30), 500), Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	@DisplayName("토큰 이후의 변경만 돌려주고, 삭제는 tombstone으로 알려준다")
+	public void changes_since_token() {
+		//given
+		String syncToken = new MemoSyncToken(10L, NOW.minus(Duration.ofHours(1))).encode();
+		when(memoChangeRepository.findByAuthorIdAfter(eq(AUTHOR_ID), eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(change(11L, 100L, false, 60), change(12L, 200L, true, 30)));
+		when(memoRepository.findWithBodyByAuthorIdAndIdIn(AUTHOR_ID, List.of(100L)))
+			.thenReturn(List.of(memo(100L)));
+		when(memoChangeRepository.currentTimestamp()).thenReturn(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+
+		//when
+		MemoChangesDto result = memoSyncService.getChanges(new GetMemoChangesDto(AUTHOR_ID, syncToken, null));
+
+		//then
+		Assertions.assertThat(result.getMemos()).extracting(MemoDto::getId).containsExactly(100L);
+		Assertions.assertThat(result.getRemovedMemoIds()).containsExactly(200L);
+		Assertions.assertThat(result.isHasMore()).isFalse();
+		MemoSyncToken next = MemoSyncToken.decode(result.getSyncToken());
+		Assertions.assertThat(next.getChangeId()).isEqualTo(12L);
+		Assertions.assertThat(next.getIssuedAt()).isEqualTo(NOW);
+	}
+
+	@Test
+	@DisplayName("토큰 없이 처음 동기화하면 변경 피드를 처음부터 읽는다")
+	public void initial_sync() {
+		//given
+		when(memoChangeRepository.findByAuthorIdAfter(eq(AUTHOR_ID), eq(0L), any(Pageable.class)))
+			.thenReturn(List.of());
+
+		//when
+		MemoChangesDto result = memoSyncService.getChanges(new GetMemoChangesDto(AUTHOR_ID, null, null));
+
+		//then
+		Assertions.assertThat(result.getMemos()).isEmpty();
+		Assertions.assertThat(MemoSyncToken.decode(result.getSyncToken()).getChangeId()).isZero();
+		verifyNoInteractions(memoRepository);
+	}
+
+	@Test
+	@DisplayName("settle-window 안쪽의 변경은 보내되 토큰은 그 앞에서 멈춘다")
+	public void unsettled_changes_are_sent_again() {
+		//given
+		when(memoChangeRepository.findByAuthorIdAfter(eq(AUTHOR_ID), eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(change(1L, 100L, true, 60), change(2L, 200L, true, 5), change(3L, 300L, true, 1)));
+		when(memoChangeRepository.currentTimestamp()).thenReturn(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+
+		//when
+		MemoChangesDto result = memoSyncService.getChanges(new GetMemoChangesDto(AUTHOR_ID, null, 2));
+
+		//then
+		Assertions.assertThat(result.getRemovedMemoIds()).containsExactly(100L, 200L);
+		Assertions.assertThat(result.isHasMore()).isFalse();
+		Assertions.assertThat(MemoSyncToken.decode(result.getSyncToken()).getChangeId()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("다음 페이지가 있으면 처음 발급 시각을 유지한 토큰을 돌려준다")
+	public void paging_keeps_issued_at() {
+		//given
+		Instant issuedAt = NOW.minus(Duration.ofDays(1));
+		String syncToken = new MemoSyncToken(0L, issuedAt).encode();
+		when(memoChangeRepository.findByAuthorIdAfter(eq(AUTHOR_ID), eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(change(1L, 100L, true, 60), change(2L, 200L, true, 60)));
+		when(memoChangeRepository.currentTimestamp()).thenReturn(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
+
+		//when
+		MemoChangesDto result = memoSyncService.getChanges(new GetMemoChangesDto(AUTHOR_ID, syncToken, 1));
+
+		//then
+		Assertions.assertThat(result.isHasMore()).isTrue();
+		Assertions.assertThat(result.getRemovedMemoIds()).containsExactly(100L);
+		MemoSyncToken next = MemoSyncToken.decode(result.getSyncToken());
+		Assertions.assertThat(next.getChangeId()).isEqualTo(1L);
+		Assertions.assertThat(next.getIssuedAt()).isEqualTo(issuedAt);
+	}
+
+	@Test
+	@DisplayName("tombstone 보존 기간보다 오래된 토큰은 만료로 처리한다")
+	public void expired_token() {
+		//given
+		String syncToken = new MemoSyncToken(10L, NOW.minus(Duration.ofDays(31))).encode();
+
+		//when //then
+		Assertions.assertThatThrownBy(
+				() -> memoSyncService.getChanges(new GetMemoChangesDto(AUTHOR_ID, syncToken, null)))
+			.isInstanceOf(MemoSyncTokenExpiredException.class);
+		verifyNoInteractions(memoChangeRepository);
+	}
+
+	@Test
+	@DisplayName("잘못된 토큰은 IllegalArgumentException")
+	public void invalid_token() {
+		//when //then
+		Assertions.assertThatThrownBy(
+				() -> memoSyncService.getChanges(new GetMemoChangesDto(AUTHOR_ID, "not-a-token", null)))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private MemoChange change(Long id, Long memoId, boolean removed, long secondsAgo) {
+		MemoChange change = removed ? MemoChange.removed(AUTHOR_ID, memoId) : MemoChange.saved(AUTHOR_ID, memoId);
+		ReflectionTestUtils.setField(change, "id", id);
+		ReflectionTestUtils.setField(change, "changedAt",
+			LocalDateTime.ofInstant(NOW.minusSeconds(secondsAgo), ZoneOffset.UTC));
+		return change;
+	}
+
+	private Memo memo(Long memoId) {
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", AUTHOR_ID);
+		Memo memo = Memo.create("title", "body", author);
+		ReflectionTestUtils.setField(memo, "id", memoId);
+		return memo;
+	}
+}
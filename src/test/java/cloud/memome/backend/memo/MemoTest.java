@@ -245,4 +245,19 @@ class MemoTest {
 		Assertions.assertThatThrownBy(() -> memo.assertAuthor(anotherAuthorId))
 			.isExactlyInstanceOf(NotMemoOwnerException.class);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("본문 크기는 UTF-8 바이트 수이며, 본문을 바꾸면 함께 바뀐다")
+	public void body_size_in_utf8_bytes() {
+		//given
+		Member author = Member.create(new OAuthIdentity(ProviderType.GOOGLE, "1234567890"), "nickname", "email");
+		ReflectionTestUtils.setField(author, "id", 1L);
+		Memo memo = Memo.create("title", "abc", author);
+
+		//when
+		memo.update("title", "메모", 1L);
+
+		//then
+		Assertions.assertThat(memo.getBodySize()).isEqualTo(6);
+	}
+}
@@ -0,0 +1,227 @@
+package cloud.memome.backend.outbox;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+	private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+
+	private final List<List<Long>> received = new ArrayList<>();
+	private final TestClock clock = new TestClock(NOW);
+	private RuntimeException failure;
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		OutboxSubscriber subscriber = events -> {
+			if (failure != null) {
+				throw failure;
+			}
+			received.add(events.stream().map(OutboxEvent::getId).toList());
+		};
+		outboxRelay = relayOf(List.of(subscriber));
+		lenient().when(outboxEventRepository.findLastIdBefore(any()))
+			.thenReturn(Optional.of(10L));
+	}
+
+	@Test
+	@DisplayName("settle-window가 지난 마지막 이벤트 뒤부터 id 순서대로 배치로 넘긴다")
+	public void relay_in_batches() {
+		//given
+		when(outboxEventRepository.findAfter(eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(event(11L, 60), event(12L, 60)));
+		when(outboxEventRepository.findAfter(eq(12L), any(Pageable.class)))
+			.thenReturn(List.of(event(13L, 60)));
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		Assertions.assertThat(received).containsExactly(List.of(11L, 12L), List.of(13L));
+	}
+
+	@Test
+	@DisplayName("구독자가 실패하면 커서를 그대로 두고 다음 주기에 배치를 다시 넘긴다")
+	public void redeliver_after_failure() {
+		//given
+		when(outboxEventRepository.findAfter(eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(event(11L, 60)));
+		failure = new IllegalStateException("subscriber down");
+
+		//when
+		outboxRelay.relay();
+		failure = null;
+		outboxRelay.relay();
+
+		//then
+		Assertions.assertThat(received).containsExactly(List.of(11L));
+		verify(outboxEventRepository, times(2)).findAfter(eq(10L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("settle-window 안쪽의 이벤트는 한 번만 넘기고, 커서는 그 앞에서 기다린다")
+	public void hold_cursor_before_unsettled_events() {
+		//given
+		when(outboxEventRepository.findAfter(eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(event(11L, 60), event(12L, 1)));
+		when(outboxEventRepository.findAfter(eq(11L), any(Pageable.class)))
+			.thenReturn(List.of(event(12L, 1), event(13L, 1)));
+
+		//when
+		outboxRelay.relay();
+		outboxRelay.relay();
+
+		//then
+		Assertions.assertThat(received).containsExactly(List.of(11L, 12L), List.of(13L));
+		verify(outboxEventRepository, never()).findAfter(eq(12L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("빈 id가 있으면 그 뒤의 이벤트는 넘기되 커서는 빈 id 앞에서 기다렸다가, 채워지면 이어서 넘긴다")
+	public void hold_cursor_before_gap() {
+		//given
+		when(outboxEventRepository.findAfter(eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(event(11L, 60), event(13L, 60)));
+		when(outboxEventRepository.findAfter(eq(11L), any(Pageable.class)))
+			.thenReturn(List.of(event(13L, 60)))
+			.thenReturn(List.of(event(12L, 60), event(13L, 60)));
+
+		//when
+		outboxRelay.relay();
+		outboxRelay.relay();
+		outboxRelay.relay();
+
+		//then
+		Assertions.assertThat(received).containsExactly(List.of(11L, 13L), List.of(12L));
+		verify(outboxEventRepository).findAfter(eq(13L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("gap-timeout이 지나도록 채워지지 않은 빈 id는 롤백된 것으로 보고 건너뛴다")
+	public void skip_gap_after_timeout() {
+		//given
+		when(outboxEventRepository.findAfter(eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(event(11L, 60), event(13L, 60)));
+		when(outboxEventRepository.findAfter(eq(11L), any(Pageable.class)))
+			.thenReturn(List.of(event(13L, 60)));
+
+		//when
+		outboxRelay.relay();
+		clock.advance(Duration.ofMinutes(4));
+		outboxRelay.relay();
+
+		//then
+		verify(outboxEventRepository, never()).findAfter(eq(13L), any(Pageable.class));
+
+		//when
+		clock.advance(Duration.ofMinutes(2));
+		outboxRelay.relay();
+		outboxRelay.relay();
+
+		//then
+		Assertions.assertThat(received).containsExactly(List.of(11L, 13L));
+		verify(outboxEventRepository).findAfter(eq(13L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("한 구독자가 실패해도 다른 구독자는 한 번만 받고, max-attempts번 실패하면 그 배치를 포기하고 넘어간다")
+	public void isolate_failing_subscriber() {
+		//given
+		List<List<Long>> failingCalls = new ArrayList<>();
+		OutboxSubscriber failing = events -> {
+			failingCalls.add(events.stream().map(OutboxEvent::getId).toList());
+			throw new IllegalStateException("subscriber down");
+		};
+		OutboxSubscriber healthy = events -> received.add(events.stream().map(OutboxEvent::getId).toList());
+		outboxRelay = relayOf(List.of(failing, healthy));
+		when(outboxEventRepository.findAfter(eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(event(11L, 60)));
+
+		//when
+		for (int i = 0; i < 4; i++) {
+			outboxRelay.relay();
+		}
+
+		//then
+		Assertions.assertThat(received).containsExactly(List.of(11L));
+		Assertions.assertThat(failingCalls).hasSize(3);
+		verify(outboxEventRepository).findAfter(eq(11L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("배치 크기는 1 이상이어야 한다")
+	public void invalid_batch_size() {
+		//when //then
+		Assertions.assertThatThrownBy(() -> new OutboxRelay(outboxEventRepository, List.of(),
+				new OutboxProperties(0, Duration.ofSeconds(10), Duration.ofDays(1), Duration.ofMinutes(5), 3),
+				new SimpleMeterRegistry()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private OutboxRelay relayOf(List<OutboxSubscriber> subscribers) {
+		return new OutboxRelay(outboxEventRepository, subscribers,
+			new OutboxProperties(2, Duration.ofSeconds(10), Duration.ofDays(1), Duration.ofMinutes(5), 3),
+			new SimpleMeterRegistry(), clock);
+	}
+
+	private OutboxEvent event(Long id, long secondsAgo) {
+		OutboxEvent event = new OutboxEvent(OutboxAggregateType.MEMO, id * 100, OutboxEventType.UPDATED, 1L);
+		ReflectionTestUtils.setField(event, "id", id);
+		ReflectionTestUtils.setField(event, "createdAt",
+			LocalDateTime.ofInstant(NOW.minusSeconds(secondsAgo), ZoneOffset.UTC));
+		return event;
+	}
+
+	static class TestClock extends Clock {
+		private volatile Instant now;
+
+		TestClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package cloud.memome.backend.search;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberSearchIndexTest {
+	@Test
+	@DisplayName("검색 - 제목에 포함된 메모가 더 높은 점수를 가진다")
+	public void search_title_match_ranks_higher() {
+		//given
+		MemberSearchIndex index = new MemberSearchIndex();
+		index.put(1L, MemberSearchIndex.termWeights("장보기", "우유와 계란, 그리고 회의 준비"));
+		index.put(2L, MemberSearchIndex.termWeights("회의록", "주간 회의 내용 정리"));
+		index.put(3L, MemberSearchIndex.termWeights("여행 계획", "제주도 일정"));
+
+		//when
+		List<SearchHit> hits = index.search("회의", 10);
+
+		//then
+		Assertions.assertThat(hits).extracting(SearchHit::getMemoId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("검색 - limit 만큼만 반환한다")
+	public void search_top_k() {
+		//given
+		MemberSearchIndex index = new MemberSearchIndex();
+		for (long memoId = 1; memoId <= 50; memoId++) {
+			index.put(memoId, MemberSearchIndex.termWeights("memo " + memoId, "shared body"));
+		}
+
+		//when
+		List<SearchHit> hits = index.search("shared", 5);
+
+		//then
+		Assertions.assertThat(hits).hasSize(5);
+	}
+
+	@Test
+	@DisplayName("수정/삭제된 메모는 이전 내용으로 검색되지 않는다")
+	public void search_after_update_and_remove() {
+		//given
+		MemberSearchIndex index = new MemberSearchIndex();
+		index.put(1L, MemberSearchIndex.termWeights("draft", "old content"));
+		index.put(2L, MemberSearchIndex.termWeights("note", "old content"));
+
+		//when
+		index.put(1L, MemberSearchIndex.termWeights("draft", "new content"));
+		index.remove(2L);
+
+		//then
+		Assertions.assertThat(index.search("old", 10)).isEmpty();
+		Assertions.assertThat(index.search("new", 10)).extracting(SearchHit::getMemoId).containsExactly(1L);
+		Assertions.assertThat(index.size()).isEqualTo(1);
+	}
+}
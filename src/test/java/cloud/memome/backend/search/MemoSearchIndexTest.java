@@ -0,0 +1,119 @@
+package cloud.memome.backend.search;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import cloud.memome.backend.member.MemberRepository;
+import cloud.memome.backend.memo.MemoChange;
+import cloud.memome.backend.memo.MemoChangeRepository;
+import cloud.memome.backend.memo.MemoRepository;
+import cloud.memome.backend.memo.MemoSyncProperties;
+import cloud.memome.backend.memo.dto.MemoContentDto;
+
+@ExtendWith(MockitoExtension.class)
+class MemoSearchIndexTest {
+	@Mock
+	private MemoRepository memoRepository;
+	@Mock
+	private MemoChangeRepository memoChangeRepository;
+	@Mock
+	private MemberRepository memberRepository;
+	@TempDir
+	private Path directory;
+
+	private Path indexPath;
+	private MemoSearchIndex memoSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		indexPath = directory.resolve("search-index.bin");
+		memoSearchIndex = new MemoSearchIndex(memoRepository, memoChangeRepository, memberRepository,
+			new SearchProperties(indexPath, 500, false),
+			new MemoSyncProperties(Duration.ofSeconds(10), Duration.ofDays(30), 500));
+	}
+
+	@Test
+	@DisplayName("스냅샷을 불러오면 커서 뒤의 변경을 다시 반영하고, 탈퇴한 회원의 색인은 버린다")
+	public void load_snapshot_and_catch_up() throws Exception {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		MemberSearchIndex member = new MemberSearchIndex();
+		member.put(1L, MemberSearchIndex.termWeights("회의", "지난 회의"));
+		MemberSearchIndex removedMember = new MemberSearchIndex();
+		removedMember.put(9L, MemberSearchIndex.termWeights("회의", "탈퇴한 회원의 회의"));
+		SearchIndexSnapshot.write(indexPath, 10L, now.minusMinutes(5), Map.of(1L, member, 99L, removedMember));
+
+		when(memoChangeRepository.currentTimestamp())
+			.thenReturn(now);
+		when(memberRepository.findIdsByIdIn(anyCollection()))
+			.thenReturn(List.of(1L));
+		when(memoChangeRepository.findAfter(eq(10L), any(Pageable.class)))
+			.thenReturn(List.of(change(MemoChange.removed(1L, 1L), 11L, now.minusMinutes(1)),
+				change(MemoChange.saved(1L, 2L), 12L, now.minusMinutes(1))));
+		when(memoRepository.findContentsByIdIn(anyCollection()))
+			.thenReturn(List.of(new MemoContentDto(2L, 1L, "회의록", "새 회의")));
+
+		//when
+		memoSearchIndex.loadOrRebuild();
+		memoSearchIndex.close();
+
+		//then
+		Assertions.assertThat(memoSearchIndex.search(1L, "회의", 10))
+			.extracting(SearchHit::getMemoId)
+			.containsExactly(2L);
+		Assertions.assertThat(memoSearchIndex.search(99L, "회의", 10)).isEmpty();
+		Assertions.assertThat(SearchIndexSnapshot.read(indexPath).changeCursor()).isEqualTo(12L);
+	}
+
+	@Test
+	@DisplayName("tombstone 보존 기간보다 오래된 스냅샷은 버리고 메모에서 다시 만든다")
+	public void rebuild_expired_snapshot() throws Exception {
+		//given
+		LocalDateTime now = LocalDateTime.now();
+		MemberSearchIndex member = new MemberSearchIndex();
+		member.put(1L, MemberSearchIndex.termWeights("회의", "지난 회의"));
+		SearchIndexSnapshot.write(indexPath, 10L, now.minusDays(31), Map.of(1L, member));
+
+		when(memoChangeRepository.currentTimestamp())
+			.thenReturn(now);
+		when(memoChangeRepository.findLastIdBefore(any()))
+			.thenReturn(Optional.of(20L));
+		when(memoRepository.findContentsAfter(eq(0L), any(Pageable.class)))
+			.thenReturn(List.of(new MemoContentDto(3L, 1L, "회의록", "다시 만든 회의")));
+
+		//when
+		memoSearchIndex.loadOrRebuild();
+		memoSearchIndex.close();
+
+		//then
+		Assertions.assertThat(memoSearchIndex.search(1L, "회의", 10))
+			.extracting(SearchHit::getMemoId)
+			.containsExactly(3L);
+		Assertions.assertThat(SearchIndexSnapshot.read(indexPath).changeCursor()).isEqualTo(20L);
+		verify(memoChangeRepository, never()).findAfter(anyLong(), any());
+	}
+
+	private static MemoChange change(MemoChange change, Long id, LocalDateTime changedAt) {
+		ReflectionTestUtils.setField(change, "id", id);
+		ReflectionTestUtils.setField(change, "changedAt", changedAt);
+		return change;
+	}
+}
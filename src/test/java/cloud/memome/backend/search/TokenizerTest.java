@@ -0,0 +1,37 @@
+package cloud.memome.backend.search;
+
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenizerTest {
+	@Test
+	@DisplayName("영문은 소문자 단어 단위로 나눈다")
+	public void tokenize_latin_words() {
+		//when
+		List<String> tokens = Tokenizer.tokenize("Hello, World! memo-me 2024");
+
+		//then
+		Assertions.assertThat(tokens).containsExactly("hello", "world", "memo", "me", "2024");
+	}
+
+	@Test
+	@DisplayName("한글은 bigram으로 나눈다")
+	public void tokenize_hangul_bigrams() {
+		//when
+		List<String> tokens = Tokenizer.tokenize("메모를 검색");
+
+		//then
+		Assertions.assertThat(tokens).containsExactly("메모", "모를", "검색");
+	}
+
+	@Test
+	@DisplayName("null 또는 빈 문자열은 토큰이 없다")
+	public void tokenize_empty() {
+		//when && then
+		Assertions.assertThat(Tokenizer.tokenize(null)).isEmpty();
+		Assertions.assertThat(Tokenizer.tokenize("  ...  ")).isEmpty();
+	}
+}